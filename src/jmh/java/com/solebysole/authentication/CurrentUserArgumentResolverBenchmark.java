@@ -0,0 +1,117 @@
+package com.solebysole.authentication;
+
+import com.solebysole.user.domain.Role;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.method.annotation.AuthenticationPrincipalArgumentResolver;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.HandlerMethodArgumentResolverComposite;
+import org.springframework.web.method.support.InvocableHandlerMethod;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 현재 회원을 주입받는 핸들러 메소드 호출 비용을 측정합니다.
+ *
+ * spelExpression 은 {@code @AuthenticationPrincipal} 의 SpEL 로 익명 회원을 바꾸던 이전 방식입니다.
+ * 할당량은 -prof gc 로 함께 확인합니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CurrentUserArgumentResolverBenchmark {
+
+    @Param({"anonymous", "authenticated"})
+    private String user;
+
+    private InvocableHandlerMethod spelHandlerMethod;
+
+    private InvocableHandlerMethod resolverHandlerMethod;
+
+    private ServletWebRequest webRequest;
+
+    private ModelAndViewContainer mavContainer;
+
+    @Setup(Level.Trial)
+    public void setUp() throws NoSuchMethodException {
+        Handler handler = new Handler();
+        spelHandlerMethod = handlerMethod(handler, "spel", new AuthenticationPrincipalArgumentResolver());
+        resolverHandlerMethod = handlerMethod(handler, "resolver", new CurrentUserArgumentResolver());
+
+        webRequest = new ServletWebRequest(new MockHttpServletRequest(), new MockHttpServletResponse());
+        mavContainer = new ModelAndViewContainer();
+
+        Authentication authentication = "anonymous".equals(user)
+                ? new AnonymousAuthenticationToken("key", "anonymousUser",
+                AuthorityUtils.createAuthorityList("ROLE_ANONYMOUS"))
+                : new UserAuthentication(UserPrincipal.of(1L, Role.ROLE_USER));
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+    }
+
+    @Benchmark
+    public Object spelExpression() throws Exception {
+        return spelHandlerMethod.invokeForRequest(webRequest, mavContainer);
+    }
+
+    @Benchmark
+    public Object argumentResolver() throws Exception {
+        return resolverHandlerMethod.invokeForRequest(webRequest, mavContainer);
+    }
+
+    private static InvocableHandlerMethod handlerMethod(Handler handler, String name,
+                                                        HandlerMethodArgumentResolver resolver)
+            throws NoSuchMethodException {
+        InvocableHandlerMethod handlerMethod = new InvocableHandlerMethod(
+                handler, Handler.class.getMethod(name, UserPrincipal.class));
+        handlerMethod.setHandlerMethodArgumentResolvers(
+                new HandlerMethodArgumentResolverComposite()
+                        .addResolver(resolver));
+        return handlerMethod;
+    }
+
+    @Target(ElementType.PARAMETER)
+    @Retention(RetentionPolicy.RUNTIME)
+    @AuthenticationPrincipal(expression = "#this == 'anonymousUser' ? " +
+            "T(com.solebysole.authentication.UserPrincipal).ANONYMOUS : #this")
+    public @interface SpelCurrentUser {
+    }
+
+    public static class Handler {
+
+        public Long spel(@SpelCurrentUser UserPrincipal user) {
+            return user.getId();
+        }
+
+        public Long resolver(@CurrentUser UserPrincipal user) {
+            return user.getId();
+        }
+
+    }
+
+}
@@ -0,0 +1,76 @@
+package com.solebysole.authentication.utils;
+
+import com.solebysole.user.domain.Role;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.security.Key;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtUtil 의 부호화, 복호화 처리량을 측정합니다.
+ *
+ * decodeWithNewParser 는 요청마다 파서를 새로 만들던 이전 방식입니다.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtUtilBenchmark {
+
+    private static final String SECRET = "12345678901234567890123456789012";
+
+    private Key key;
+
+    private JwtUtil jwtUtil;
+
+    private JwtUtil cachingJwtUtil;
+
+    private String token;
+
+    @Setup
+    public void setUp() {
+        key = Keys.hmacShaKeyFor(SECRET.getBytes());
+        jwtUtil = new JwtUtil(SECRET);
+        cachingJwtUtil = new JwtUtil(SECRET, 1024, 3600, 3600);
+        token = jwtUtil.encode(1L, Role.ROLE_USER, 0);
+    }
+
+    @Benchmark
+    public String encode() {
+        return jwtUtil.encode(1L, Role.ROLE_USER, 0);
+    }
+
+    @Benchmark
+    public Claims decodeWithNewParser() {
+        return Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build()
+                .parseClaimsJws(token)
+                .getBody();
+    }
+
+    @Benchmark
+    public Claims decodeWithSharedParser() {
+        return jwtUtil.decode(token);
+    }
+
+    @Benchmark
+    public Claims decodeWithVerifiedCache() {
+        return cachingJwtUtil.decode(token);
+    }
+
+}
@@ -0,0 +1,100 @@
+package com.solebysole.common.config;
+
+import com.solebysole.authentication.service.AuthenticationService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.MockServletContext;
+import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.provisioning.InMemoryUserDetailsManager;
+import org.springframework.web.context.support.AnnotationConfigWebApplicationContext;
+
+import javax.servlet.Filter;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 인증 헤더 없는 요청 하나가 보안 필터 체인을 지나는 비용을 측정합니다.
+ *
+ * fullChain 은 상품 조회 요청이 보안 필터를 모두 거치던 이전 경로와 같은 비용입니다.
+ * 할당량은 -prof gc 로 함께 확인합니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SecurityFilterChainBenchmark {
+
+    private AnnotationConfigWebApplicationContext context;
+
+    private Filter springSecurityFilterChain;
+
+    @Setup
+    public void setUp() {
+        context = new AnnotationConfigWebApplicationContext();
+        context.setServletContext(new MockServletContext());
+        context.register(BenchmarkSecurityConfig.class);
+        context.refresh();
+        springSecurityFilterChain = context.getBean("springSecurityFilterChain", Filter.class);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public MockHttpServletResponse anonymousCatalogFastPath() throws Exception {
+        return doFilter("/api/products/1");
+    }
+
+    @Benchmark
+    public MockHttpServletResponse fullChain() throws Exception {
+        return doFilter("/api/cart");
+    }
+
+    private MockHttpServletResponse doFilter(String uri) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", uri);
+        request.setServletPath(uri);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        springSecurityFilterChain.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+
+    @EnableWebSecurity
+    @Import(SecurityConfig.class)
+    @Configuration
+    static class BenchmarkSecurityConfig {
+
+        /**
+         * 인증 헤더가 없는 요청만 보내므로 인증 서비스는 호출되지 않습니다.
+         */
+        @Bean
+        AuthenticationService authenticationService() {
+            return new AuthenticationService(null, null, null, null, null, null);
+        }
+
+        @Bean
+        UserDetailsService userDetailsService() {
+            return new InMemoryUserDetailsManager();
+        }
+
+    }
+
+}
@@ -0,0 +1,160 @@
+package com.solebysole.product.application;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.solebysole.SolebysoleApplication;
+import com.solebysole.product.domain.Category;
+import com.solebysole.product.domain.Image;
+import com.solebysole.product.domain.Keyword;
+import com.solebysole.product.domain.Option;
+import com.solebysole.product.dto.ProductCreateData;
+import com.solebysole.product.dto.ProductField;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManagerFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * 필드를 고른 상품 응답과 모든 필드를 담은 응답의 크기와 비용을 비교합니다.
+ *
+ * 2차 캐시를 매번 비워서 데이터베이스에서 읽는 비용을 함께 잽니다. 응답 크기는 준비 단계에서 출력합니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ProductFieldsBenchmark {
+
+    private static final int PRODUCTS = 200;
+
+    private static final int DESCRIPTION_LENGTH = 2 * 1024;
+
+    private static final Set<ProductField> LISTING_FIELDS =
+            Set.of(ProductField.ID, ProductField.NAME, ProductField.DISCOUNTED_PRICE);
+
+    private static final Set<ProductField> DETAIL_FIELDS = Set.of(ProductField.ID, ProductField.NAME,
+            ProductField.ORIGINAL_PRICE, ProductField.DISCOUNTED_PRICE);
+
+    private ConfigurableApplicationContext context;
+
+    private ProductService productService;
+
+    private ObjectMapper objectMapper;
+
+    private EntityManagerFactory entityManagerFactory;
+
+    private TransactionTemplate transactionTemplate;
+
+    private List<Long> ids;
+
+    private int next;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(SolebysoleApplication.class)
+                .initializers(applicationContext -> applicationContext.getBeanFactory()
+                        .registerSingleton("benchmarkExcludeFilter",
+                                new ProductListingBenchmark.BenchmarkExcludeFilter()))
+                .run("--spring.main.web-application-type=none",
+                        "--spring.datasource.url=jdbc:h2:mem:product-fields-benchmark",
+                        "--jwt.secret=product-fields-benchmark-secret-key-0123456789",
+                        "--logging.level.root=warn",
+                        "--logging.level.org.hibernate.SQL=warn",
+                        "--logging.level.org.hibernate.type=warn");
+        productService = context.getBean(ProductService.class);
+        objectMapper = context.getBean(ObjectMapper.class);
+        entityManagerFactory = context.getBean(EntityManagerFactory.class);
+        transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        transactionTemplate.setReadOnly(true);
+
+        String description = "가".repeat(DESCRIPTION_LENGTH);
+        ids = new ArrayList<>();
+        for (int i = 0; i < PRODUCTS; i++) {
+            int product = i;
+            ids.add(productService.createProduct(ProductCreateData.builder()
+                    .name("벤치마크 지갑 " + i)
+                    .originalPrice(20000)
+                    .discountedPrice(18000)
+                    .description(description)
+                    .category(Category.WALLET)
+                    .keywords(Set.of(new Keyword("가죽"), new Keyword("지갑"), new Keyword("수제")))
+                    .images(IntStream.range(0, 3)
+                            .mapToObj(image -> new Image("https://images.test/" + product + "/" + image + ".jpg"))
+                            .collect(Collectors.toList()))
+                    .options(List.of(
+                            new Option("색상",
+                                    new Option("갈색", 0),
+                                    new Option("검정", 0),
+                                    new Option("흰색", 1000)),
+                            new Option("각인 추가",
+                                    new Option("추가함", 3000),
+                                    new Option("추가하지 않음", 0))))
+                    .build()));
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    private byte[] respond(TransactionCallback<Object> read) {
+        entityManagerFactory.getCache().evictAll();
+        return transactionTemplate.execute(status -> {
+            try {
+                return objectMapper.writeValueAsBytes(read.doInTransaction(status));
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+    }
+
+    private Long nextId() {
+        next = (next + 1) % ids.size();
+        return ids.get(next);
+    }
+
+    @Benchmark
+    public byte[] listingAllFields() {
+        return respond(status -> productService.getProducts());
+    }
+
+    @Benchmark
+    public byte[] listingSelectedFields() {
+        return respond(status -> productService.getProducts(LISTING_FIELDS));
+    }
+
+    @Benchmark
+    public byte[] detailAllFields() {
+        Long id = nextId();
+        return respond(status -> productService.getProduct(id));
+    }
+
+    @Benchmark
+    public byte[] detailSelectedFields() {
+        Long id = nextId();
+        return respond(status -> productService.getProduct(id, DETAIL_FIELDS));
+    }
+
+}
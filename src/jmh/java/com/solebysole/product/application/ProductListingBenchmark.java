@@ -0,0 +1,126 @@
+package com.solebysole.product.application;
+
+import com.solebysole.SolebysoleApplication;
+import com.solebysole.product.domain.Category;
+import com.solebysole.product.domain.Image;
+import com.solebysole.product.domain.Product;
+import com.solebysole.product.dto.ProductCreateData;
+import com.solebysole.product.dto.ProductData;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.context.TypeExcludeFilter;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.type.classreading.MetadataReader;
+import org.springframework.core.type.classreading.MetadataReaderFactory;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 상품 목록을 조회하는 비용을 측정합니다.
+ *
+ * listingWithDescriptions 는 상품을 읽을 때마다 설명을 함께 읽던 이전 경로와 같은 비용입니다.
+ * 할당량은 -prof gc 로 함께 확인합니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ProductListingBenchmark {
+
+    private static final int PRODUCTS = 200;
+
+    private static final int DESCRIPTION_LENGTH = 8 * 1024;
+
+    private ConfigurableApplicationContext context;
+
+    private ProductService productService;
+
+    private EntityManager entityManager;
+
+    private TransactionTemplate transactionTemplate;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(SolebysoleApplication.class)
+                .initializers(applicationContext -> applicationContext.getBeanFactory()
+                        .registerSingleton("benchmarkExcludeFilter", new BenchmarkExcludeFilter()))
+                .run("--spring.main.web-application-type=none",
+                        "--spring.datasource.url=jdbc:h2:mem:product-listing-benchmark",
+                        "--jwt.secret=product-listing-benchmark-secret-key-0123456789",
+                        "--logging.level.root=warn",
+                        "--logging.level.org.hibernate.SQL=warn",
+                        "--logging.level.org.hibernate.type=warn");
+        productService = context.getBean(ProductService.class);
+        entityManager = SharedEntityManagerCreator.createSharedEntityManager(
+                context.getBean(EntityManagerFactory.class));
+        transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        transactionTemplate.setReadOnly(true);
+
+        String description = "가".repeat(DESCRIPTION_LENGTH);
+        for (int i = 0; i < PRODUCTS; i++) {
+            productService.createProduct(ProductCreateData.builder()
+                    .name("벤치마크 지갑 " + i)
+                    .originalPrice(20000)
+                    .discountedPrice(18000)
+                    .description(description)
+                    .category(Category.WALLET)
+                    .keywords(Set.of())
+                    .images(List.of(new Image("https://images.test/" + i + ".jpg")))
+                    .options(List.of())
+                    .build());
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    /**
+     * 다른 벤치마크의 설정 클래스가 컴포넌트 스캔에 잡히지 않도록 합니다.
+     */
+    static class BenchmarkExcludeFilter extends TypeExcludeFilter {
+
+        @Override
+        public boolean match(MetadataReader metadataReader, MetadataReaderFactory metadataReaderFactory) {
+            return metadataReader.getClassMetadata().getClassName().contains("Benchmark");
+        }
+
+    }
+
+    @Benchmark
+    public List<ProductData> listing() {
+        return productService.getProducts();
+    }
+
+    @Benchmark
+    public List<ProductData> listingWithDescriptions() {
+        return transactionTemplate.execute(status -> entityManager
+                .createQuery("select p from Product p join fetch p.description", Product.class)
+                .getResultList()
+                .stream()
+                .map(ProductData::of)
+                .collect(Collectors.toList()));
+    }
+
+}
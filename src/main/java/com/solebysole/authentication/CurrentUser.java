@@ -1,7 +1,5 @@
 package com.solebysole.authentication;
 
-import org.springframework.security.core.annotation.AuthenticationPrincipal;
-
 import java.lang.annotation.ElementType;
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
@@ -9,10 +7,11 @@ import java.lang.annotation.Target;
 
 /**
  * 현재 회원.
+ *
+ * {@link CurrentUserArgumentResolver} 가 인증된 회원을, 인증되지 않았다면
+ * {@link UserPrincipal#ANONYMOUS} 를 주입합니다.
  */
-@Target({ElementType.PARAMETER, ElementType.TYPE})
+@Target(ElementType.PARAMETER)
 @Retention(RetentionPolicy.RUNTIME)
-@AuthenticationPrincipal(expression = "#this == 'anonymousUser' ? " +
-        "new com.solebysole.user.domain.EmptyUser() : user")
 public @interface CurrentUser {
 }
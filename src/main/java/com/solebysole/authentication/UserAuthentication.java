@@ -1,15 +1,10 @@
 package com.solebysole.authentication;
 
-import com.solebysole.user.domain.Role;
-import com.solebysole.user.domain.User;
 import lombok.Getter;
 import org.springframework.security.authentication.AbstractAuthenticationToken;
-import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 
-import java.util.Arrays;
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * 회원 인증.
@@ -17,10 +12,10 @@ import java.util.stream.Collectors;
 @Getter
 public class UserAuthentication extends AbstractAuthenticationToken {
 
-    private final User user;
+    private final UserPrincipal user;
 
-    public UserAuthentication(User user, Role... roles) {
-        super(authorities(roles));
+    public UserAuthentication(UserPrincipal user) {
+        super(List.of(new SimpleGrantedAuthority(user.getRole().name())));
         this.user = user;
     }
 
@@ -39,10 +34,4 @@ public class UserAuthentication extends AbstractAuthenticationToken {
         return true;
     }
 
-    private static List<GrantedAuthority> authorities(Role... roles) {
-        return Arrays.stream(roles)
-                .map(role -> new SimpleGrantedAuthority(role.name()))
-                .collect(Collectors.toList());
-    }
-
 }
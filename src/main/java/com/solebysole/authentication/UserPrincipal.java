@@ -0,0 +1,44 @@
+package com.solebysole.authentication;
+
+import com.solebysole.user.domain.Role;
+import com.solebysole.user.domain.User;
+import lombok.Getter;
+
+/**
+ * 인증된 회원.
+ *
+ * 회원 엔티티 대신 인증에 필요한 값만 담은 불변 객체로, 요청 사이에 캐시해서 공유합니다.
+ */
+@Getter
+public final class UserPrincipal {
+
+    /**
+     * 인증되지 않은 회원.
+     */
+    public static final UserPrincipal ANONYMOUS = new UserPrincipal(null, null);
+
+    private final Long id;
+
+    private final Role role;
+
+    private UserPrincipal(Long id, Role role) {
+        this.id = id;
+        this.role = role;
+    }
+
+    public static UserPrincipal of(User user) {
+        return new UserPrincipal(user.getId(), user.getRole());
+    }
+
+    public static UserPrincipal of(Long id, Role role) {
+        return new UserPrincipal(id, role);
+    }
+
+    /**
+     * 인증되지 않은 회원이라면 true 를 리턴합니다.
+     */
+    public boolean isAnonymous() {
+        return id == null;
+    }
+
+}
@@ -1,17 +1,24 @@
 package com.solebysole.authentication.controller;
 
+import com.solebysole.authentication.dto.SessionRefreshRequestData;
 import com.solebysole.authentication.dto.SessionRequestData;
 import com.solebysole.authentication.dto.SessionResponseData;
 import com.solebysole.authentication.service.AuthenticationService;
+import com.solebysole.authentication.service.LoginRateLimiter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import javax.servlet.http.HttpServletRequest;
+import javax.validation.Valid;
+
 /**
  * 회원 인증과 관련된 HTTP 요청 처리를 담당합니다.
  */
@@ -21,29 +28,73 @@ import org.springframework.web.bind.annotation.RestController;
 @RestController
 public class SessionController {
 
+    private static final String BEARER = "Bearer ";
+
     private final AuthenticationService authenticationService;
 
+    private final LoginRateLimiter loginRateLimiter;
+
     /**
-     * 주어진 회원 로그인 정보로 로그인하고 생성된 액세스 토큰을 응답합니다.
+     * 주어진 회원 로그인 정보로 로그인하고 생성된 액세스 토큰과 리프레시 토큰을 응답합니다.
+     * 이메일이나 클라이언트 IP의 로그인 시도가 너무 많다면 비밀번호를 확인하지 않고 거절합니다.
+     * 내부 프록시를 거친 요청의 클라이언트 IP는 프록시가 보낸 X-Forwarded-For 헤더로 정해집니다.
      *
      * @param sessionRequestData 회원 로그인 정보
-     * @return 생성된 액세스 토큰
+     * @param request HTTP 요청
+     * @return 생성된 액세스 토큰과 리프레시 토큰
      */
     @PostMapping
     public ResponseEntity<SessionResponseData> login(
-            @RequestBody SessionRequestData sessionRequestData
+            @RequestBody SessionRequestData sessionRequestData,
+            HttpServletRequest request
     ) {
         String email = sessionRequestData.getEmail();
         String password = sessionRequestData.getPassword();
 
-        String accessToken = authenticationService.login(email, password);
+        loginRateLimiter.acquire(email, request.getRemoteAddr());
+
+        SessionResponseData sessionResponseData = authenticationService.login(email, password);
+
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(sessionResponseData);
+    }
+
+    /**
+     * 주어진 리프레시 토큰을 폐기하고 새로 생성된 액세스 토큰과 리프레시 토큰을 응답합니다.
+     *
+     * @param sessionRefreshRequestData 리프레시 토큰 요청 정보
+     * @return 새로 생성된 액세스 토큰과 리프레시 토큰
+     */
+    @PostMapping("/refresh")
+    public ResponseEntity<SessionResponseData> refresh(
+            @RequestBody @Valid SessionRefreshRequestData sessionRefreshRequestData
+    ) {
+        SessionResponseData sessionResponseData = authenticationService.refresh(
+                sessionRefreshRequestData.getRefreshToken());
 
         return ResponseEntity.status(HttpStatus.CREATED)
-                .body(
-                        SessionResponseData.builder()
-                                .accessToken(accessToken)
-                                .build()
-                );
+                .body(sessionResponseData);
+    }
+
+    /**
+     * 주어진 리프레시 토큰과, 요청에 담긴 액세스 토큰을 폐기합니다.
+     *
+     * @param authorization 인증 헤더
+     * @param sessionRefreshRequestData 리프레시 토큰 요청 정보
+     * @return 응답 정보
+     */
+    @DeleteMapping
+    public ResponseEntity<Void> logout(
+            @RequestHeader(value = "Authorization", required = false) String authorization,
+            @RequestBody @Valid SessionRefreshRequestData sessionRefreshRequestData
+    ) {
+        String accessToken = authorization != null && authorization.startsWith(BEARER)
+                ? authorization.substring(BEARER.length())
+                : null;
+
+        authenticationService.logout(sessionRefreshRequestData.getRefreshToken(), accessToken);
+
+        return ResponseEntity.noContent().build();
     }
 
 }
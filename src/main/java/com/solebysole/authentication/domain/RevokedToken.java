@@ -0,0 +1,39 @@
+package com.solebysole.authentication.domain;
+
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import java.time.LocalDateTime;
+
+/**
+ * 만료되기 전에 폐기된 토큰.
+ *
+ * 토큰이 만료되면 더 이상 보관할 필요가 없으므로 지웁니다.
+ * 같은 토큰은 한 번만 폐기되며, 어느 인스턴스에서 폐기했는지와 관계없이 저장소가 이를 판단합니다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+public class RevokedToken {
+
+    @Id
+    @Column(name = "token_id")
+    private String id;
+
+    private LocalDateTime expiresAt;
+
+    private LocalDateTime revokedAt;
+
+    @Builder
+    private RevokedToken(String id, LocalDateTime expiresAt, LocalDateTime revokedAt) {
+        this.id = id;
+        this.expiresAt = expiresAt;
+        this.revokedAt = revokedAt;
+    }
+
+}
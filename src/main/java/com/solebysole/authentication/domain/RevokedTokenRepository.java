@@ -0,0 +1,46 @@
+package com.solebysole.authentication.domain;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 폐기된 토큰 저장소.
+ */
+public interface RevokedTokenRepository {
+
+    /**
+     * 주어진 토큰이 아직 폐기되지 않았다면 폐기된 토큰으로 저장하고, 저장한 개수를 리턴합니다.
+     * 이미 폐기된 토큰이라면 저장하지 않고 0 을 리턴합니다.
+     *
+     * @param id 토큰 식별자
+     * @param expiresAt 토큰 만료 시각
+     * @param revokedAt 폐기 시각
+     * @return 저장한 개수
+     */
+    int insertIfAbsent(String id, LocalDateTime expiresAt, LocalDateTime revokedAt);
+
+    /**
+     * 주어진 시각 이후에 만료되는 폐기된 토큰들을 리턴합니다.
+     *
+     * @param time 기준 시각
+     * @return 폐기된 토큰 목록
+     */
+    List<RevokedToken> findAllByExpiresAtAfter(LocalDateTime time);
+
+    /**
+     * 주어진 시각 이후에 폐기된 토큰들을 리턴합니다.
+     *
+     * @param time 기준 시각
+     * @return 폐기된 토큰 목록
+     */
+    List<RevokedToken> findAllByRevokedAtAfter(LocalDateTime time);
+
+    /**
+     * 주어진 시각 이전에 만료된 폐기된 토큰들을 지우고, 지운 개수를 리턴합니다.
+     *
+     * @param time 기준 시각
+     * @return 지운 개수
+     */
+    int deleteExpiredBefore(LocalDateTime time);
+
+}
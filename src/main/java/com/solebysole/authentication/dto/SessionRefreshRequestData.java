@@ -0,0 +1,25 @@
+package com.solebysole.authentication.dto;
+
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.validation.constraints.NotBlank;
+
+/**
+ * 리프레시 토큰 요청 정보.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class SessionRefreshRequestData {
+
+    @NotBlank
+    private String refreshToken;
+
+    @Builder
+    private SessionRefreshRequestData(String refreshToken) {
+        this.refreshToken = refreshToken;
+    }
+
+}
@@ -11,9 +11,12 @@ public class SessionResponseData {
 
     private String accessToken;
 
+    private String refreshToken;
+
     @Builder
-    private SessionResponseData(String accessToken) {
+    private SessionResponseData(String accessToken, String refreshToken) {
         this.accessToken = accessToken;
+        this.refreshToken = refreshToken;
     }
 
 }
@@ -1,8 +1,8 @@
 package com.solebysole.authentication.filters;
 
 import com.solebysole.authentication.UserAuthentication;
+import com.solebysole.authentication.UserPrincipal;
 import com.solebysole.authentication.service.AuthenticationService;
-import com.solebysole.user.domain.User;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContext;
@@ -38,10 +38,9 @@ public class JwtAuthenticationFilter extends BasicAuthenticationFilter {
 
         if (authorization != null) {
             String accessToken = authorization.substring("Bearer ".length());
-            Long userId = authenticationService.parseToken(accessToken);
-            User user = authenticationService.loadUserById(userId);
+            UserPrincipal user = authenticationService.authenticate(accessToken);
 
-            Authentication authentication = new UserAuthentication(user, user.getRole());
+            Authentication authentication = new UserAuthentication(user);
             SecurityContext context = SecurityContextHolder.getContext();
             context.setAuthentication(authentication);
         }
@@ -0,0 +1,36 @@
+package com.solebysole.authentication.infra;
+
+import com.solebysole.authentication.domain.RevokedToken;
+import com.solebysole.authentication.domain.RevokedTokenRepository;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * JPA 폐기된 토큰 저장소.
+ */
+public interface JpaRevokedTokenRepository
+        extends RevokedTokenRepository, JpaRepository<RevokedToken, String> {
+
+    @Modifying
+    @Query(value = "insert into revoked_token (token_id, expires_at, revoked_at)"
+            + " select :id, :expiresAt, :revokedAt from dual"
+            + " where not exists (select 1 from revoked_token t where t.token_id = :id)",
+            nativeQuery = true)
+    int insertIfAbsent(@Param("id") String id,
+                       @Param("expiresAt") LocalDateTime expiresAt,
+                       @Param("revokedAt") LocalDateTime revokedAt);
+
+    List<RevokedToken> findAllByExpiresAtAfter(LocalDateTime time);
+
+    List<RevokedToken> findAllByRevokedAtAfter(LocalDateTime time);
+
+    @Modifying
+    @Query("delete from RevokedToken t where t.expiresAt < :time")
+    int deleteExpiredBefore(@Param("time") LocalDateTime time);
+
+}
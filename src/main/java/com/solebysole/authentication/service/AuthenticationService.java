@@ -1,16 +1,22 @@
 package com.solebysole.authentication.service;
 
 
+import com.solebysole.authentication.UserPrincipal;
+import com.solebysole.authentication.dto.SessionResponseData;
 import com.solebysole.authentication.utils.JwtUtil;
 import com.solebysole.common.errors.InvalidTokenException;
 import com.solebysole.common.errors.LoginFailException;
-import com.solebysole.common.errors.UserNotFoundException;
+import com.solebysole.common.errors.PasswordHashingUnavailableException;
+import com.solebysole.user.domain.Role;
 import com.solebysole.user.domain.User;
 import com.solebysole.user.domain.UserRepository;
 import io.jsonwebtoken.Claims;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 /**
  * 인증과 관련된 비즈니스 로직을 담당합니다.
@@ -24,24 +30,41 @@ public class AuthenticationService {
 
     private final PasswordEncoder passwordEncoder;
 
+    private final TokenVersionTable tokenVersionTable;
+
+    private final RevokedTokenSet revokedTokenSet;
+
+    private final TransactionTemplate transactionTemplate;
+
     public AuthenticationService(UserRepository userRepository,
                                  JwtUtil jwtUtil,
-                                 PasswordEncoder passwordEncoder) {
+                                 PasswordEncoder passwordEncoder,
+                                 TokenVersionTable tokenVersionTable,
+                                 RevokedTokenSet revokedTokenSet,
+                                 PlatformTransactionManager transactionManager) {
         this.userRepository = userRepository;
         this.jwtUtil = jwtUtil;
         this.passwordEncoder = passwordEncoder;
+        this.tokenVersionTable = tokenVersionTable;
+        this.revokedTokenSet = revokedTokenSet;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
     }
 
     /**
-     * 주어진 이메일과 비밀번호로 로그인하고, 생성된 액세스 토큰을 리턴합니다.
+     * 주어진 이메일과 비밀번호로 로그인하고, 생성된 액세스 토큰과 리프레시 토큰을 리턴합니다.
+     * 비밀번호가 현재 설정보다 약한 작업 계수로 저장되어 있다면 다시 해시해서 저장합니다.
+     *
+     * 해시 작업을 기다리는 동안 커넥션을 잡지 않도록, 회원을 읽은 뒤 트랜잭션 밖에서 비밀번호를 확인하고
+     * 다시 해시합니다. 다시 해시하는 작업은 밀려 있다면 건너뛰고 다음 로그인에서 다시 시도합니다.
      *
      * @param email 이메일
      * @param password 비밀번호
-     * @return 생성된 액세스 토큰
+     * @return 생성된 액세스 토큰과 리프레시 토큰
      * @throws LoginFailException 로그인에 실패하는 경우
+     * @throws PasswordHashingUnavailableException 비밀번호 해시 작업이 밀려 있는 경우
      */
-    @Transactional(readOnly = true)
-    public String login(String email, String password)
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public SessionResponseData login(String email, String password)
             throws LoginFailException {
         User user = userRepository.findByEmail(email)
                 .orElseThrow(() -> new LoginFailException());
@@ -50,31 +73,117 @@ public class AuthenticationService {
             throw new LoginFailException();
         }
 
-        return jwtUtil.encode(user.getId());
+        if (passwordEncoder.upgradeEncoding(user.getPassword())) {
+            rehashPassword(user, password);
+        }
+
+        return issueTokens(user);
     }
 
     /**
-     * 주어진 액세스 토큰을 파싱하고, 파싱된 값을 리턴합니다.
+     * 주어진 리프레시 토큰을 폐기하고, 새로 생성된 액세스 토큰과 리프레시 토큰을 리턴합니다.
      *
-     * @param accessToken 액세스 토큰
-     * @return 파싱된 값
-     * @throws InvalidTokenException 토큰이 유효하지 않을 경우
+     * 리프레시 토큰은 한 번만 사용할 수 있습니다. 같은 토큰으로 동시에 요청하더라도 하나만 성공합니다.
+     *
+     * @param refreshToken 리프레시 토큰
+     * @return 새로 생성된 액세스 토큰과 리프레시 토큰
+     * @throws InvalidTokenException 토큰이 유효하지 않거나 더 이상 사용할 수 없는 경우
      */
-    public Long parseToken(String accessToken) throws InvalidTokenException {
-        Claims claims = jwtUtil.decode(accessToken);
-        return claims.get("userId", Long.class);
+    @Transactional
+    public SessionResponseData refresh(String refreshToken) throws InvalidTokenException {
+        Claims claims = jwtUtil.decode(refreshToken);
+        if (!JwtUtil.REFRESH_TOKEN.equals(claims.get(JwtUtil.TOKEN_TYPE, String.class))
+                || claims.getId() == null
+                || revokedTokenSet.isRevoked(claims.getId())) {
+            throw new InvalidTokenException(refreshToken);
+        }
+
+        Long userId = claims.get(JwtUtil.USER_ID, Long.class);
+        Long tokenVersion = claims.get(JwtUtil.TOKEN_VERSION, Long.class);
+        User user = userRepository.findById(userId)
+                .filter(found -> !found.isDeleted())
+                .filter(found -> tokenVersion != null && tokenVersion >= found.getTokenVersion())
+                .orElseThrow(() -> new InvalidTokenException(refreshToken));
+
+        if (!revokedTokenSet.revoke(claims.getId(), claims.getExpiration())) {
+            throw new InvalidTokenException(refreshToken);
+        }
+
+        return issueTokens(user);
     }
 
     /**
-     * 주어진 회원 id에 해당하는 회원을 리턴합니다.
+     * 주어진 리프레시 토큰과 액세스 토큰을 만료되기 전에 폐기합니다.
      *
-     * @param userId 회원 식별자
-     * @return 회원
+     * @param refreshToken 리프레시 토큰
+     * @param accessToken 액세스 토큰, 없다면 null
+     * @throws InvalidTokenException 토큰이 유효하지 않은 경우
      */
-    @Transactional(readOnly = true)
-    public User loadUserById(Long userId) {
-        return userRepository.findById(userId)
-                .orElseThrow(() -> new UserNotFoundException(userId));
+    @Transactional
+    public void logout(String refreshToken, String accessToken) throws InvalidTokenException {
+        revoke(refreshToken);
+        if (accessToken != null) {
+            revoke(accessToken);
+        }
+    }
+
+    /**
+     * 주어진 액세스 토큰으로 인증된 회원을 리턴합니다.
+     *
+     * 회원을 조회하지 않고, 토큰 버전과 폐기 여부만 확인합니다.
+     * 만료 시각, 토큰 id, 권한, 토큰 버전 중 하나라도 없는 이전 형식의 토큰은 만료되지도 폐기되지도 않으므로
+     * 받지 않습니다. 이런 토큰을 가진 클라이언트는 다시 로그인해야 합니다.
+     *
+     * @param accessToken 액세스 토큰
+     * @return 인증된 회원
+     * @throws InvalidTokenException 토큰이 유효하지 않거나 더 이상 사용할 수 없는 경우
+     */
+    public UserPrincipal authenticate(String accessToken) throws InvalidTokenException {
+        Claims claims = jwtUtil.decode(accessToken);
+        Long userId = claims.get(JwtUtil.USER_ID, Long.class);
+        String role = claims.get(JwtUtil.ROLE, String.class);
+        Long tokenVersion = claims.get(JwtUtil.TOKEN_VERSION, Long.class);
+
+        if (JwtUtil.REFRESH_TOKEN.equals(claims.get(JwtUtil.TOKEN_TYPE, String.class))
+                || claims.getId() == null
+                || claims.getExpiration() == null
+                || role == null
+                || tokenVersion == null) {
+            throw new InvalidTokenException(accessToken);
+        }
+        if (revokedTokenSet.isRevoked(claims.getId())
+                || !tokenVersionTable.isCurrent(userId, tokenVersion)) {
+            throw new InvalidTokenException(accessToken);
+        }
+        return UserPrincipal.of(userId, Role.valueOf(role));
+    }
+
+    private void rehashPassword(User user, String password) {
+        String rehashed;
+        try {
+            rehashed = passwordEncoder.encode(password);
+        } catch (PasswordHashingUnavailableException e) {
+            return;
+        }
+
+        String previousHash = user.getPassword();
+        transactionTemplate.executeWithoutResult(status -> userRepository.findById(user.getId())
+                .ifPresent(found -> found.replacePasswordHash(previousHash, rehashed)));
+    }
+
+    private SessionResponseData issueTokens(User user) {
+        return SessionResponseData.builder()
+                .accessToken(jwtUtil.encode(user.getId(), user.getRole(), user.getTokenVersion()))
+                .refreshToken(jwtUtil.encodeRefreshToken(user.getId(), user.getTokenVersion()))
+                .build();
+    }
+
+    private void revoke(String token) {
+        Claims claims = jwtUtil.decode(token);
+        if (claims.getId() == null || claims.getExpiration() == null) {
+            throw new InvalidTokenException(token);
+        }
+        revokedTokenSet.revoke(claims.getId(), claims.getExpiration());
     }
 
 }
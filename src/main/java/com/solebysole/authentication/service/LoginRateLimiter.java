@@ -0,0 +1,220 @@
+package com.solebysole.authentication.service;
+
+import com.solebysole.common.errors.TooManyLoginAttemptsException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 이메일별, 클라이언트 IP별 로그인 시도 횟수를 제한합니다.
+ *
+ * 키마다 토큰 버킷을 두고, 버킷은 다음 토큰이 채워지는 시각 하나만 CAS 로 갱신하므로 잠그지 않습니다.
+ * 버킷들은 여러 조각으로 나누어 보관하며, 조각이 가득 차면 무작위로 몇 개를 골라 그중 가장 오래 사용하지 않은
+ * 버킷을 지웁니다. 지워진 버킷은 다음 시도 때 가득 찬 상태로 다시 만들어집니다.
+ * 새 버킷을 넣거나 지울 때만 그 조각을 잠급니다.
+ */
+@Component
+public class LoginRateLimiter {
+
+    private static final int STRIPES = 16;
+
+    private static final int EVICTION_SAMPLES = 8;
+
+    private final Limit emailLimit;
+
+    private final Limit ipLimit;
+
+    private final LongSupplier nanoClock;
+
+    private final Stripe[] stripes = new Stripe[STRIPES];
+
+    @Autowired
+    public LoginRateLimiter(
+            MeterRegistry meterRegistry,
+            @Value("${authentication.login-rate-limit.email.capacity:5}") int emailCapacity,
+            @Value("${authentication.login-rate-limit.email.refill-seconds:60}") long emailRefillSeconds,
+            @Value("${authentication.login-rate-limit.ip.capacity:20}") int ipCapacity,
+            @Value("${authentication.login-rate-limit.ip.refill-seconds:3}") long ipRefillSeconds,
+            @Value("${authentication.login-rate-limit.max-buckets:100000}") int maxBuckets) {
+        this(meterRegistry, emailCapacity, emailRefillSeconds, ipCapacity, ipRefillSeconds,
+                maxBuckets, System::nanoTime);
+    }
+
+    LoginRateLimiter(MeterRegistry meterRegistry,
+                     int emailCapacity, long emailRefillSeconds,
+                     int ipCapacity, long ipRefillSeconds,
+                     int maxBuckets, LongSupplier nanoClock) {
+        this.emailLimit = new Limit("email", emailCapacity, emailRefillSeconds, meterRegistry);
+        this.ipLimit = new Limit("ip", ipCapacity, ipRefillSeconds, meterRegistry);
+        this.nanoClock = nanoClock;
+
+        int maxBucketsPerStripe = Math.max(1, maxBuckets / STRIPES);
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new Stripe(maxBucketsPerStripe);
+        }
+        meterRegistry.gauge("authentication.login.rate-limit.buckets", Tags.empty(), this,
+                limiter -> limiter.size());
+    }
+
+    /**
+     * 주어진 이메일과 클라이언트 IP로 로그인을 시도할 수 있는지 확인하고, 시도 한 번을 차감합니다.
+     *
+     * @param email 이메일
+     * @param clientIp 클라이언트 IP
+     * @throws TooManyLoginAttemptsException 이메일이나 클라이언트 IP의 시도 횟수를 넘은 경우
+     */
+    public void acquire(String email, String clientIp) throws TooManyLoginAttemptsException {
+        long now = nanoClock.getAsLong();
+        if (clientIp != null) {
+            tryAcquire(ipLimit, "ip:" + clientIp, now);
+        }
+        if (email != null) {
+            tryAcquire(emailLimit, "email:" + email.toLowerCase(Locale.ROOT), now);
+        }
+    }
+
+    private void tryAcquire(Limit limit, String key, long now) {
+        Stripe stripe = stripes[(key.hashCode() & Integer.MAX_VALUE) % STRIPES];
+        Bucket bucket = stripe.get(key);
+        if (bucket == null) {
+            bucket = stripe.add(key, now);
+        }
+
+        long waitNanos = bucket.tryAcquire(limit, now);
+        if (waitNanos > 0) {
+            limit.rejected.increment();
+            throw new TooManyLoginAttemptsException(
+                    (waitNanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1));
+        }
+        limit.allowed.increment();
+    }
+
+    private int size() {
+        int size = 0;
+        for (Stripe stripe : stripes) {
+            size += stripe.buckets.size();
+        }
+        return size;
+    }
+
+    /**
+     * 버킷 조각. 버킷마다 칸을 하나씩 배정해두고, 지울 버킷을 고를 때 무작위로 칸을 뽑습니다.
+     */
+    private static class Stripe {
+
+        private final Map<String, Bucket> buckets = new ConcurrentHashMap<>();
+
+        private final String[] keys;
+
+        private int size;
+
+        private Stripe(int capacity) {
+            this.keys = new String[capacity];
+        }
+
+        private Bucket get(String key) {
+            return buckets.get(key);
+        }
+
+        private synchronized Bucket add(String key, long now) {
+            Bucket bucket = buckets.get(key);
+            if (bucket != null) {
+                return bucket;
+            }
+
+            int slot = size < keys.length ? size++ : eldestOfSamples();
+            if (keys[slot] != null) {
+                buckets.remove(keys[slot]);
+            }
+            keys[slot] = key;
+            bucket = new Bucket(now);
+            buckets.put(key, bucket);
+            return bucket;
+        }
+
+        private int eldestOfSamples() {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            int eldestSlot = random.nextInt(keys.length);
+            long eldestAccess = buckets.get(keys[eldestSlot]).lastAccess;
+            for (int i = 1; i < EVICTION_SAMPLES; i++) {
+                int slot = random.nextInt(keys.length);
+                long lastAccess = buckets.get(keys[slot]).lastAccess;
+                if (lastAccess - eldestAccess < 0) {
+                    eldestSlot = slot;
+                    eldestAccess = lastAccess;
+                }
+            }
+            return eldestSlot;
+        }
+
+    }
+
+    /**
+     * 버킷 용량과 토큰 하나가 채워지는 간격.
+     */
+    private static class Limit {
+
+        private final long intervalNanos;
+
+        private final long burstNanos;
+
+        private final Counter allowed;
+
+        private final Counter rejected;
+
+        private Limit(String key, int capacity, long refillSeconds, MeterRegistry meterRegistry) {
+            this.intervalNanos = TimeUnit.SECONDS.toNanos(refillSeconds);
+            this.burstNanos = intervalNanos * capacity;
+            this.allowed = meterRegistry.counter("authentication.login.rate-limit",
+                    "key", key, "result", "allowed");
+            this.rejected = meterRegistry.counter("authentication.login.rate-limit",
+                    "key", key, "result", "rejected");
+        }
+
+    }
+
+    /**
+     * 토큰 버킷. 버킷이 가득 차는 시각만 보관하며, 남은 토큰 수는 그 시각과 현재 시각의 차이로 계산합니다.
+     */
+    private static class Bucket {
+
+        private final AtomicLong fullAt;
+
+        private volatile long lastAccess;
+
+        private Bucket(long now) {
+            this.fullAt = new AtomicLong(now);
+            this.lastAccess = now;
+        }
+
+        /**
+         * 토큰 하나를 차감합니다. 차감했다면 0을, 남은 토큰이 없다면 다음 토큰이 채워질 때까지 남은 시간을 리턴합니다.
+         */
+        private long tryAcquire(Limit limit, long now) {
+            lastAccess = now;
+            while (true) {
+                long current = fullAt.get();
+                long next = Math.max(current, now) + limit.intervalNanos;
+                if (next - now > limit.burstNanos) {
+                    return next - now - limit.burstNanos;
+                }
+                if (fullAt.compareAndSet(current, next)) {
+                    return 0;
+                }
+            }
+        }
+
+    }
+
+}
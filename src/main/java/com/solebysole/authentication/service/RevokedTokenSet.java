@@ -0,0 +1,195 @@
+package com.solebysole.authentication.service;
+
+import com.solebysole.authentication.domain.RevokedToken;
+import com.solebysole.authentication.domain.RevokedTokenRepository;
+import com.solebysole.common.utils.BloomFilter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.annotation.PostConstruct;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 만료되기 전에 폐기된 토큰 식별자들을 메모리에 보관합니다.
+ *
+ * 대부분의 토큰은 폐기되지 않았으므로 블룸 필터로 먼저 걸러내고, 필터를 통과한 경우에만
+ * 정확한 집합을 확인합니다. 만료된 토큰은 주기적으로 지우고 필터를 다시 만듭니다.
+ *
+ * 토큰을 이번에 폐기했는지는 저장소에 기록할 수 있었는지로 판단하므로, 여러 인스턴스에서 같은 토큰을
+ * 폐기하더라도 한 번만 성공합니다. 메모리에는 커밋된 뒤에 반영하고, 다른 인스턴스에서 폐기된 토큰은
+ * 마지막으로 읽은 시각 이후에 폐기된 토큰만 주기적으로 읽어옵니다. 늦게 커밋된 폐기를 놓치지 않도록
+ * 읽는 구간을 조금씩 겹칩니다.
+ */
+@Component
+public class RevokedTokenSet {
+
+    private static final long OVERLAP_SECONDS = 60;
+
+    private final RevokedTokenRepository revokedTokenRepository;
+
+    private final Map<String, Long> expiresAtById = new ConcurrentHashMap<>();
+
+    private final long expectedInsertions;
+
+    private final double falsePositiveRate;
+
+    private volatile BloomFilter filter;
+
+    private long capacity;
+
+    private LocalDateTime lastRevokedAt = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    public RevokedTokenSet(
+            RevokedTokenRepository revokedTokenRepository,
+            MeterRegistry meterRegistry,
+            @Value("${authentication.revocation.expected-insertions:100000}") long expectedInsertions,
+            @Value("${authentication.revocation.false-positive-rate:0.01}") double falsePositiveRate) {
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+        this.capacity = expectedInsertions;
+        this.filter = new BloomFilter(expectedInsertions, falsePositiveRate);
+
+        meterRegistry.gaugeMapSize("authentication.revoked.tokens", Tags.empty(), expiresAtById);
+    }
+
+    /**
+     * 주어진 토큰 식별자가 폐기되었다면 true 를 리턴합니다.
+     *
+     * @param tokenId 토큰 식별자
+     */
+    public boolean isRevoked(String tokenId) {
+        return filter.mightContain(tokenId) && expiresAtById.containsKey(tokenId);
+    }
+
+    /**
+     * 주어진 토큰을 만료될 때까지 폐기합니다.
+     * 다른 인스턴스에서 먼저 폐기한 토큰이라면 저장소에 기록하지 못하므로 false 를 리턴합니다.
+     *
+     * @param tokenId 토큰 식별자
+     * @param expiresAt 토큰 만료 시각
+     * @return 이번에 폐기했다면 true, 이미 폐기된 토큰이라면 false
+     */
+    @Transactional
+    public boolean revoke(String tokenId, Date expiresAt) {
+        if (isRevoked(tokenId)) {
+            return false;
+        }
+
+        try {
+            if (revokedTokenRepository.insertIfAbsent(
+                    tokenId, toLocalDateTime(expiresAt.getTime()), LocalDateTime.now()) == 0) {
+                return false;
+            }
+        } catch (DataIntegrityViolationException e) {
+            // 다른 트랜잭션이 같은 토큰을 동시에 폐기해서 기본 키 제약 조건을 위반한 경우입니다.
+            return false;
+        }
+
+        afterCommit(() -> remember(tokenId, expiresAt.getTime()));
+        return true;
+    }
+
+    /**
+     * 저장소에서 아직 만료되지 않은 폐기된 토큰들을 읽어옵니다.
+     */
+    @PostConstruct
+    public synchronized void load() {
+        for (RevokedToken revokedToken : revokedTokenRepository.findAllByExpiresAtAfter(LocalDateTime.now())) {
+            expiresAtById.put(revokedToken.getId(), toEpochMillis(revokedToken.getExpiresAt()));
+            updateLastRevokedAt(revokedToken);
+        }
+        rebuildFilter();
+    }
+
+    /**
+     * 마지막으로 읽은 시각 이후에 폐기된 토큰들을 읽어와 반영합니다.
+     * 기동 시에는 {@link #load()} 가 이미 읽었으므로 한 주기 뒤부터 읽습니다.
+     */
+    @Scheduled(initialDelayString = "${authentication.revocation.refresh-millis:1000}",
+            fixedDelayString = "${authentication.revocation.refresh-millis:1000}")
+    public synchronized void refresh() {
+        LocalDateTime since = lastRevokedAt.minusSeconds(OVERLAP_SECONDS);
+        long now = System.currentTimeMillis();
+        for (RevokedToken revokedToken : revokedTokenRepository.findAllByRevokedAtAfter(since)) {
+            long expiresAt = toEpochMillis(revokedToken.getExpiresAt());
+            if (expiresAt > now) {
+                remember(revokedToken.getId(), expiresAt);
+            }
+            updateLastRevokedAt(revokedToken);
+        }
+    }
+
+    /**
+     * 만료된 토큰들을 지우고 필터를 다시 만듭니다.
+     */
+    @Transactional
+    @Scheduled(fixedDelayString = "${authentication.revocation.purge-interval-millis:600000}")
+    public synchronized void purge() {
+        long now = System.currentTimeMillis();
+        expiresAtById.values().removeIf(expiresAt -> expiresAt <= now);
+        revokedTokenRepository.deleteExpiredBefore(toLocalDateTime(now));
+        rebuildFilter();
+    }
+
+    private synchronized void remember(String tokenId, long expiresAt) {
+        if (expiresAtById.putIfAbsent(tokenId, expiresAt) != null) {
+            return;
+        }
+
+        if (expiresAtById.size() > capacity) {
+            rebuildFilter();
+        } else {
+            filter.put(tokenId);
+        }
+    }
+
+    private void updateLastRevokedAt(RevokedToken revokedToken) {
+        LocalDateTime revokedAt = revokedToken.getRevokedAt();
+        if (revokedAt != null && revokedAt.isAfter(lastRevokedAt)) {
+            lastRevokedAt = revokedAt;
+        }
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private void rebuildFilter() {
+        capacity = Math.max(expectedInsertions, expiresAtById.size() * 2L);
+        BloomFilter rebuilt = new BloomFilter(capacity, falsePositiveRate);
+        expiresAtById.keySet().forEach(rebuilt::put);
+        filter = rebuilt;
+    }
+
+    private static long toEpochMillis(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private static LocalDateTime toLocalDateTime(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+    }
+
+}
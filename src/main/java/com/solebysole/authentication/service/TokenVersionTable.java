@@ -0,0 +1,68 @@
+package com.solebysole.authentication.service;
+
+import com.solebysole.user.domain.User;
+import com.solebysole.user.domain.UserChangedEvent;
+import com.solebysole.user.domain.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import javax.annotation.PostConstruct;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 회원별 현재 토큰 버전을 메모리에 보관합니다.
+ *
+ * 토큰 버전이 한 번이라도 바뀐 회원만 보관하며, 나머지 회원의 버전은 0 입니다.
+ * 기동 시 한 번 전부 읽고, 이후에는 마지막으로 읽은 시각 이후에 바뀐 회원만 주기적으로 읽어옵니다.
+ * 늦게 커밋된 변경을 놓치지 않도록 읽는 구간을 조금씩 겹칩니다.
+ */
+@Component
+public class TokenVersionTable {
+
+    private static final long OVERLAP_SECONDS = 60;
+
+    private final UserRepository userRepository;
+
+    private final Map<Long, Long> versions = new ConcurrentHashMap<>();
+
+    private LocalDateTime lastUpdatedAt = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    public TokenVersionTable(UserRepository userRepository) {
+        this.userRepository = userRepository;
+    }
+
+    /**
+     * 주어진 토큰 버전이 회원의 현재 토큰 버전보다 낮지 않다면 true 를 리턴합니다.
+     *
+     * @param userId 회원 식별자
+     * @param tokenVersion 토큰에 담긴 토큰 버전
+     */
+    public boolean isCurrent(Long userId, long tokenVersion) {
+        return tokenVersion >= versions.getOrDefault(userId, 0L);
+    }
+
+    /**
+     * 마지막으로 읽은 시각 이후에 토큰 버전이 바뀐 회원들을 읽어와 반영합니다.
+     */
+    @PostConstruct
+    @Scheduled(fixedDelayString = "${authentication.token-version.refresh-millis:5000}")
+    public synchronized void refresh() {
+        LocalDateTime since = lastUpdatedAt.minusSeconds(OVERLAP_SECONDS);
+        for (User user : userRepository.findAllByTokenVersionUpdatedAtAfter(since)) {
+            versions.merge(user.getId(), user.getTokenVersion(), Math::max);
+            if (user.getTokenVersionUpdatedAt().isAfter(lastUpdatedAt)) {
+                lastUpdatedAt = user.getTokenVersionUpdatedAt();
+            }
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleUserChanged(UserChangedEvent event) {
+        refresh();
+    }
+
+}
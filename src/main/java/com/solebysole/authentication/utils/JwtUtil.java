@@ -1,36 +1,108 @@
 package com.solebysole.authentication.utils;
 
 import com.solebysole.common.errors.InvalidTokenException;
+import com.solebysole.user.domain.Role;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
-import io.jsonwebtoken.security.SignatureException;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import java.security.Key;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 /**
  * JWT 토큰의 부호화, 복호화를 담당합니다.
+ *
+ * 파서는 스레드에 안전하므로 하나만 만들어 재사용합니다. 캐시 크기가 주어지면 최근에 검증한 토큰의
+ * 정보 조각들을 만료될 때까지 보관해서, 같은 토큰의 서명을 다시 검증하지 않습니다.
  */
 @Component
 public class JwtUtil {
 
+    public static final String USER_ID = "userId";
+
+    public static final String ROLE = "role";
+
+    public static final String TOKEN_VERSION = "ver";
+
+    public static final String TOKEN_TYPE = "typ";
+
+    public static final String ACCESS_TOKEN = "access";
+
+    public static final String REFRESH_TOKEN = "refresh";
+
     private final Key key;
 
-    public JwtUtil(@Value("${jwt.secret}") String secret) {
+    private final long accessTokenTtlMillis;
+
+    private final long refreshTokenTtlMillis;
+
+    private final JwtParser parser;
+
+    private final Map<Long, VerifiedToken> verifiedTokens;
+
+    public JwtUtil(String secret) {
+        this(secret, 0, TimeUnit.MINUTES.toSeconds(15), TimeUnit.DAYS.toSeconds(14));
+    }
+
+    @Autowired
+    public JwtUtil(@Value("${jwt.secret}") String secret,
+                   @Value("${jwt.verified-cache-size:0}") int verifiedCacheSize,
+                   @Value("${jwt.access-token-ttl-seconds:900}") long accessTokenTtlSeconds,
+                   @Value("${jwt.refresh-token-ttl-seconds:1209600}") long refreshTokenTtlSeconds) {
         key = Keys.hmacShaKeyFor(secret.getBytes());
+        accessTokenTtlMillis = TimeUnit.SECONDS.toMillis(accessTokenTtlSeconds);
+        refreshTokenTtlMillis = TimeUnit.SECONDS.toMillis(refreshTokenTtlSeconds);
+        parser = Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build();
+        verifiedTokens = verifiedCacheSize > 0 ? new LruMap(verifiedCacheSize) : null;
+    }
+
+    /**
+     * 주어진 회원 id, 권한, 토큰 버전을 담아 부호화한 액세스 토큰 문자열을 리턴합니다.
+     * 토큰은 정해진 시간이 지나면 만료됩니다.
+     *
+     * @param userId 회원 식별자
+     * @param role 회원 권한
+     * @param tokenVersion 회원의 토큰 버전
+     * @return JWT 토큰
+     */
+    public String encode(Long userId, Role role, long tokenVersion) {
+        return Jwts.builder()
+                .setId(UUID.randomUUID().toString())
+                .claim(TOKEN_TYPE, ACCESS_TOKEN)
+                .claim(USER_ID, userId)
+                .claim(ROLE, role.name())
+                .claim(TOKEN_VERSION, tokenVersion)
+                .setExpiration(new Date(System.currentTimeMillis() + accessTokenTtlMillis))
+                .signWith(key)
+                .compact();
     }
 
     /**
-     * 주어진 회원 id를 이용해 부호화한 JWT 토큰 문자열을 리턴합니다.
+     * 주어진 회원 id, 토큰 버전을 담아 부호화한 리프레시 토큰 문자열을 리턴합니다.
+     * 리프레시 토큰은 액세스 토큰보다 오래 유지되며, 액세스 토큰을 다시 발급받는 데에만 사용합니다.
      *
      * @param userId 회원 식별자
+     * @param tokenVersion 회원의 토큰 버전
      * @return JWT 토큰
      */
-    public String encode(Long userId) {
+    public String encodeRefreshToken(Long userId, long tokenVersion) {
         return Jwts.builder()
-                .claim("userId", userId)
+                .setId(UUID.randomUUID().toString())
+                .claim(TOKEN_TYPE, REFRESH_TOKEN)
+                .claim(USER_ID, userId)
+                .claim(TOKEN_VERSION, tokenVersion)
+                .setExpiration(new Date(System.currentTimeMillis() + refreshTokenTtlMillis))
                 .signWith(key)
                 .compact();
     }
@@ -47,15 +119,80 @@ public class JwtUtil {
             throw new InvalidTokenException(token);
         }
 
+        if (verifiedTokens == null) {
+            return parse(token);
+        }
+
+        long hash = hash(token);
+        long now = System.currentTimeMillis();
+        VerifiedToken verified;
+        synchronized (verifiedTokens) {
+            verified = verifiedTokens.get(hash);
+        }
+        if (verified != null && verified.token.equals(token) && verified.expiresAt > now) {
+            return Jwts.claims(verified.claims);
+        }
+
+        Claims claims = parse(token);
+        Date expiration = claims.getExpiration();
+        verified = new VerifiedToken(token, claims,
+                expiration == null ? Long.MAX_VALUE : expiration.getTime());
+        synchronized (verifiedTokens) {
+            verifiedTokens.put(hash, verified);
+        }
+        return Jwts.claims(claims);
+    }
+
+    private Claims parse(String token) {
         try {
-            return Jwts.parserBuilder()
-                    .setSigningKey(key)
-                    .build()
-                    .parseClaimsJws(token)
-                    .getBody();
-        } catch (SignatureException e) {
+            return parser.parseClaimsJws(token).getBody();
+        } catch (JwtException | IllegalArgumentException e) {
             throw new InvalidTokenException(token);
         }
     }
 
+    /**
+     * 64비트 FNV-1a 해시. 충돌하더라도 토큰 전체를 비교하므로 캐시에서 찾지 못할 뿐입니다.
+     */
+    private static long hash(String token) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < token.length(); i++) {
+            hash ^= token.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    private static class VerifiedToken {
+
+        private final String token;
+
+        private final Claims claims;
+
+        private final long expiresAt;
+
+        private VerifiedToken(String token, Claims claims, long expiresAt) {
+            this.token = token;
+            this.claims = claims;
+            this.expiresAt = expiresAt;
+        }
+
+    }
+
+    private static class LruMap extends LinkedHashMap<Long, VerifiedToken> {
+
+        private final int maxSize;
+
+        private LruMap(int maxSize) {
+            super(16, 0.75f, true);
+            this.maxSize = maxSize;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, VerifiedToken> eldest) {
+            return size() > maxSize;
+        }
+
+    }
+
 }
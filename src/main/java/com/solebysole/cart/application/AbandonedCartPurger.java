@@ -0,0 +1,157 @@
+package com.solebysole.cart.application;
+
+import com.solebysole.cart.domain.CartProduct;
+import com.solebysole.cart.domain.CartProductRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 오랫동안 변경되지 않은 장바구니를 주기적으로 비웁니다.
+ *
+ * 식별자 순으로 정해진 개수씩 찾아 지우며, 한 묶음마다 짧은 트랜잭션 하나를 사용합니다.
+ * 한 묶음을 처리하는 시간이 기준보다 길어지면 DB가 바쁜 것으로 보고, 다음 묶음 전에 잠시 쉽니다.
+ * 느린 묶음이 이어지면 쉬는 시간을 두 배씩 늘립니다.
+ */
+@Slf4j
+@ConditionalOnProperty(name = "cart.purge.enabled", havingValue = "true", matchIfMissing = true)
+@Component
+public class AbandonedCartPurger {
+
+    private final CartProductRepository cartProductRepository;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final Counter deletedCounter;
+
+    private final Counter pauseCounter;
+
+    private final Timer purgeTimer;
+
+    private final Timer chunkTimer;
+
+    private final int retentionDays;
+
+    private final int chunkSize;
+
+    private final long slowChunkMillis;
+
+    private final long pauseMillis;
+
+    private final long maxPauseMillis;
+
+    public AbandonedCartPurger(
+            CartProductRepository cartProductRepository,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${cart.purge.retention-days:30}") int retentionDays,
+            @Value("${cart.purge.chunk-size:500}") int chunkSize,
+            @Value("${cart.purge.slow-chunk-millis:200}") long slowChunkMillis,
+            @Value("${cart.purge.pause-millis:500}") long pauseMillis,
+            @Value("${cart.purge.max-pause-millis:10000}") long maxPauseMillis) {
+        this.cartProductRepository = cartProductRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.deletedCounter = meterRegistry.counter("cart.purge.deleted");
+        this.pauseCounter = meterRegistry.counter("cart.purge.pauses");
+        this.purgeTimer = meterRegistry.timer("cart.purge.duration");
+        this.chunkTimer = meterRegistry.timer("cart.purge.chunk.duration");
+        this.retentionDays = retentionDays;
+        this.chunkSize = chunkSize;
+        this.slowChunkMillis = slowChunkMillis;
+        this.pauseMillis = pauseMillis;
+        this.maxPauseMillis = maxPauseMillis;
+    }
+
+    /**
+     * 보관 기간 동안 변경되지 않은 장바구니의 상품들을 삭제합니다.
+     *
+     * @return 삭제된 장바구니 상품 개수
+     */
+    @Scheduled(cron = "${cart.purge.cron:0 0 4 * * *}")
+    public int purge() {
+        long startedAt = System.nanoTime();
+        LocalDateTime modifiedBefore = LocalDateTime.now().minusDays(retentionDays);
+        Pageable chunk = PageRequest.of(0, chunkSize);
+
+        int deleted = 0;
+        long afterId = 0;
+        long pause = 0;
+        try {
+            while (true) {
+                long chunkStartedAt = System.nanoTime();
+                long lastId = afterId;
+                ChunkResult result = transactionTemplate.execute(status ->
+                        purgeChunk(modifiedBefore, lastId, chunk));
+                long chunkNanos = System.nanoTime() - chunkStartedAt;
+                chunkTimer.record(chunkNanos, TimeUnit.NANOSECONDS);
+
+                if (result == null) {
+                    break;
+                }
+                deleted += result.deleted;
+                afterId = result.lastId;
+
+                if (TimeUnit.NANOSECONDS.toMillis(chunkNanos) <= slowChunkMillis) {
+                    pause = 0;
+                    continue;
+                }
+                pause = pause == 0 ? pauseMillis : Math.min(pause * 2, maxPauseMillis);
+                pauseCounter.increment();
+                TimeUnit.MILLISECONDS.sleep(pause);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("장바구니 정리가 중단되었습니다.");
+        } finally {
+            long elapsedNanos = System.nanoTime() - startedAt;
+            deletedCounter.increment(deleted);
+            purgeTimer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+            log.info("오래된 장바구니 상품 {}개를 {}ms 동안 정리했습니다.",
+                    deleted, TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+        }
+        return deleted;
+    }
+
+    private ChunkResult purgeChunk(LocalDateTime modifiedBefore, long afterId, Pageable chunk) {
+        List<CartProduct> cartProducts =
+                cartProductRepository.findAbandoned(modifiedBefore, afterId, chunk);
+        if (cartProducts.isEmpty()) {
+            return null;
+        }
+
+        List<Long> ids = cartProducts.stream()
+                .map(CartProduct::getId)
+                .collect(Collectors.toList());
+        int deleted = cartProductRepository.deleteAllByIds(ids, modifiedBefore);
+
+        return new ChunkResult(ids.get(ids.size() - 1), deleted);
+    }
+
+    private static class ChunkResult {
+
+        private final long lastId;
+
+        private final int deleted;
+
+        private ChunkResult(long lastId, int deleted) {
+            this.lastId = lastId;
+            this.deleted = deleted;
+        }
+
+    }
+
+}
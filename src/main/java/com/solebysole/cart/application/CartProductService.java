@@ -5,11 +5,14 @@ import com.solebysole.cart.domain.CartProductRepository;
 import com.solebysole.cart.dto.CartProductCreateData;
 import com.solebysole.cart.dto.CartProductData;
 import com.solebysole.cart.dto.CartProductUpdateData;
+import com.solebysole.cart.dto.CartSummaryData;
 import com.solebysole.common.errors.CartProductNotFoundException;
+import com.solebysole.common.errors.OptionNotFoundException;
 import com.solebysole.common.errors.ProductNotFoundException;
+import com.solebysole.product.domain.Option;
 import com.solebysole.product.domain.Product;
 import com.solebysole.product.domain.ProductRepository;
-import com.solebysole.user.domain.User;
+import com.solebysole.user.domain.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -30,11 +33,15 @@ public class CartProductService {
 
     private final ProductRepository productRepository;
 
+    private final UserRepository userRepository;
+
+    private final CartSummaryCache cartSummaryCache;
+
     /**
      * 모든 장바구니 상품을 리턴합니다.
      */
-    public List<CartProductData> getCartProducts(User user) {
-        List<CartProduct> cartProducts = cartProductRepository.findAllByUserId(user.getId());
+    public List<CartProductData> getCartProducts(Long userId) {
+        List<CartProduct> cartProducts = cartProductRepository.findAllByUserId(userId);
 
         return Collections.unmodifiableList(
                 cartProducts.stream()
@@ -43,23 +50,48 @@ public class CartProductService {
         );
     }
 
+    /**
+     * 현재 장바구니 버전의 합계 정보를 리턴합니다.
+     * 같은 버전의 합계는 한 번만 계산하고, 이후에는 캐시된 값을 리턴합니다.
+     */
+    public CartSummaryData getCartSummary(Long userId) {
+        long version = cartProductRepository.findCartVersion(userId);
+        return cartSummaryCache.getSummary(userId, version, () ->
+                CartSummaryData.of(version, cartProductRepository.findAllByUserId(userId)));
+    }
+
+    /**
+     * 현재 장바구니 버전을 리턴합니다. 장바구니가 변경될 때마다 버전이 바뀝니다.
+     */
+    public long getCartVersion(Long userId) {
+        return cartProductRepository.findCartVersion(userId);
+    }
+
     /**
      * 주어진 장바구니 상품 정보로 장바구니 상품을 생성하고, 만들어진 식별자를 리턴합니다.
      *
+     * @param userId 회원 식별자
      * @param cartProductCreateData 장바구니 상품 생성 정보
      * @return 장바구니 상품 식별자
      * @throws ProductNotFoundException 상품이 존재하지 않을 경우
+     * @throws OptionNotFoundException 상품에 선택한 옵션이 존재하지 않을 경우
      */
     @Transactional
-    public Long crateCartProduct(User user, CartProductCreateData cartProductCreateData)
-            throws ProductNotFoundException {
+    public Long crateCartProduct(Long userId, CartProductCreateData cartProductCreateData)
+            throws ProductNotFoundException, OptionNotFoundException {
         Long productId = cartProductCreateData.getProductId();
         Product product = productRepository.findById(productId)
                 .orElseThrow(() -> new ProductNotFoundException(productId));
 
+        List<Option> options = cartProductCreateData.getOptionIds().stream()
+                .map(optionId -> product.findOption(optionId)
+                        .orElseThrow(() -> new OptionNotFoundException(optionId)))
+                .collect(Collectors.toList());
+
         CartProduct cartProduct = CartProduct.builder()
-                .user(user)
+                .user(userRepository.getOne(userId))
                 .product(product)
+                .options(options)
                 .count(cartProductCreateData.getCount())
                 .build();
 
@@ -81,6 +113,7 @@ public class CartProductService {
         CartProduct cartProduct = findCartProduct(id);
 
         cartProduct.changeCount(cartProductUpdateData.getCount());
+        cartProductRepository.save(cartProduct);
     }
 
     /**
@@ -0,0 +1,50 @@
+package com.solebysole.cart.application;
+
+import com.solebysole.cart.dto.CartSummaryData;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 회원별로 마지막에 계산한 장바구니 합계를 버전과 함께 보관합니다.
+ *
+ * 버전은 장바구니 내용으로 계산하므로, 다른 인스턴스나 정리 작업이 장바구니를 바꾸어도
+ * 버전이 달라져 합계를 다시 계산합니다.
+ */
+@Component
+public class CartSummaryCache {
+
+    private final Map<Long, CartSummaryData> summaries = new ConcurrentHashMap<>();
+
+    private final int maxSummaries;
+
+    public CartSummaryCache(@Value("${cart.summary-cache.max-size:10000}") int maxSummaries) {
+        this.maxSummaries = maxSummaries;
+    }
+
+    /**
+     * 주어진 회원의 주어진 버전 합계를 리턴합니다. 캐시된 합계의 버전이 다르다면 계산해서 보관합니다.
+     *
+     * @param userId 회원 식별자
+     * @param version 현재 장바구니 버전
+     * @param calculator 합계를 계산하는 함수
+     * @return 장바구니 합계 정보
+     */
+    public CartSummaryData getSummary(Long userId, long version, Supplier<CartSummaryData> calculator) {
+        CartSummaryData summary = summaries.get(userId);
+        if (summary != null && summary.getVersion() == version) {
+            return summary;
+        }
+
+        summary = calculator.get();
+        if (summaries.size() >= maxSummaries) {
+            summaries.clear();
+        }
+        summaries.put(userId, summary);
+        return summary;
+    }
+
+}
@@ -1,11 +1,12 @@
 package com.solebysole.cart.controller;
 
 import com.solebysole.authentication.CurrentUser;
+import com.solebysole.authentication.UserPrincipal;
 import com.solebysole.cart.application.CartProductService;
 import com.solebysole.cart.dto.CartProductCreateData;
 import com.solebysole.cart.dto.CartProductData;
 import com.solebysole.cart.dto.CartProductUpdateData;
-import com.solebysole.user.domain.User;
+import com.solebysole.cart.dto.CartSummaryData;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -19,6 +20,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import javax.validation.Valid;
 import java.util.List;
@@ -37,10 +39,38 @@ public class CartProductController {
 
     /**
      * 모든 장바구니 상품을 응답합니다.
+     * 장바구니 버전이 요청의 ETag 와 같다면 상태코드 304 Not Modified 를 응답합니다.
      */
     @GetMapping
-    public ResponseEntity<List<CartProductData>> list(@CurrentUser User user) {
-        return ResponseEntity.ok(cartProductService.getCartProducts(user));
+    public ResponseEntity<List<CartProductData>> list(@CurrentUser UserPrincipal user, WebRequest request) {
+        String eTag = eTagOf(cartProductService.getCartVersion(user.getId()));
+        if (request.checkNotModified(eTag)) {
+            return null;
+        }
+
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .body(cartProductService.getCartProducts(user.getId()));
+    }
+
+    /**
+     * 장바구니 합계 정보를 응답합니다.
+     * 장바구니 버전이 요청의 ETag 와 같다면 상태코드 304 Not Modified 를 응답합니다.
+     *
+     * @param user 현재 회원
+     * @param request 현재 요청
+     * @return 장바구니 합계 정보
+     */
+    @GetMapping("/summary")
+    public ResponseEntity<CartSummaryData> summary(@CurrentUser UserPrincipal user, WebRequest request) {
+        if (request.checkNotModified(eTagOf(cartProductService.getCartVersion(user.getId())))) {
+            return null;
+        }
+
+        CartSummaryData summary = cartProductService.getCartSummary(user.getId());
+        return ResponseEntity.ok()
+                .eTag(eTagOf(summary.getVersion()))
+                .body(summary);
     }
 
     /**
@@ -52,16 +82,16 @@ public class CartProductController {
      */
     @PostMapping
     public ResponseEntity<Void> create(
-            @CurrentUser User user,
+            @CurrentUser UserPrincipal user,
             @RequestBody @Valid CartProductCreateData cartProductCreateData
     ) {
-        cartProductService.crateCartProduct(user, cartProductCreateData);
+        cartProductService.crateCartProduct(user.getId(), cartProductCreateData);
         return ResponseEntity.status(HttpStatus.CREATED).build();
     }
 
     @PatchMapping("/{id}")
     public ResponseEntity<Void> update(
-            @CurrentUser User user,
+            @CurrentUser UserPrincipal user,
             @PathVariable Long id,
             @RequestBody @Valid CartProductUpdateData cartProductUpdateData) {
         cartProductService.updateCartProduct(id, cartProductUpdateData);
@@ -77,10 +107,14 @@ public class CartProductController {
      */
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> delete(
-            @CurrentUser User user,
+            @CurrentUser UserPrincipal user,
             @PathVariable Long id) {
         cartProductService.deleteCartProduct(id);
         return ResponseEntity.noContent().build();
     }
 
+    private String eTagOf(long version) {
+        return "\"" + version + "\"";
+    }
+
 }
@@ -1,5 +1,6 @@
 package com.solebysole.cart.domain;
 
+import com.solebysole.product.domain.Option;
 import com.solebysole.product.domain.Product;
 import com.solebysole.user.domain.User;
 import lombok.AccessLevel;
@@ -11,9 +12,18 @@ import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.FetchType;
 import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
 import javax.persistence.Id;
 import javax.persistence.JoinColumn;
+import javax.persistence.JoinTable;
+import javax.persistence.ManyToMany;
 import javax.persistence.ManyToOne;
+import javax.persistence.PrePersist;
+import javax.persistence.PreUpdate;
+import javax.persistence.SequenceGenerator;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * 장바구니 상품.
@@ -24,7 +34,8 @@ import javax.persistence.ManyToOne;
 public class CartProduct {
 
     @Id
-    @GeneratedValue
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "cart_product_seq")
+    @SequenceGenerator(name = "cart_product_seq", sequenceName = "cart_product_seq", allocationSize = 50)
     @Column(name = "cart_product_id")
     private Long id;
 
@@ -36,16 +47,36 @@ public class CartProduct {
     @JoinColumn(name = "product_id")
     private Product product;
 
+    @ManyToMany
+    @JoinTable(name = "cart_product_option",
+            joinColumns = @JoinColumn(name = "cart_product_id"),
+            inverseJoinColumns = @JoinColumn(name = "option_id"))
+    private List<Option> options = new ArrayList<>();
+
     private int count;
 
+    private LocalDateTime lastModifiedAt;
+
     @Builder
-    private CartProduct(Long id, User user, Product product, int count) {
+    private CartProduct(Long id, User user, Product product, List<Option> options, int count) {
         this.id = id;
         this.user = user;
         this.product = product;
+        if (options != null) {
+            this.options = options;
+        }
         this.count = count;
     }
 
+    /**
+     * 선택한 옵션들의 추가 금액 합을 리턴합니다.
+     */
+    public int getOptionPrice() {
+        return options.stream()
+                .mapToInt(Option::getAdditionalPrice)
+                .sum();
+    }
+
     /**
      * 주어진 개수로 장바구니 상품의 개수를 갱신합니다.
      *
@@ -53,6 +84,13 @@ public class CartProduct {
      */
     public void changeCount(int count) {
         this.count = count;
+        this.lastModifiedAt = LocalDateTime.now();
+    }
+
+    @PrePersist
+    @PreUpdate
+    private void touch() {
+        lastModifiedAt = LocalDateTime.now();
     }
 
 }
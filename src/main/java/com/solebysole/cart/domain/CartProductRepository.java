@@ -1,5 +1,8 @@
 package com.solebysole.cart.domain;
 
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -10,10 +13,39 @@ public interface CartProductRepository {
 
     List<CartProduct> findAllByUserId(Long userId);
 
+    /**
+     * 주어진 회원의 장바구니 버전을 리턴합니다. 장바구니 상품이 추가, 변경, 삭제되면 버전이 바뀝니다.
+     *
+     * @param userId 회원 식별자
+     * @return 장바구니 버전
+     * @see CartVersion
+     */
+    long findCartVersion(Long userId);
+
     Optional<CartProduct> findById(Long id);
 
     CartProduct save(CartProduct cartProduct);
 
     void delete(CartProduct cartProduct);
 
+    /**
+     * 주어진 시각 이후로 변경되지 않은 장바구니의 상품들을, 주어진 식별자 다음부터 식별자 순으로 리턴합니다.
+     *
+     * @param modifiedBefore 기준 시각
+     * @param afterId 이 식별자보다 큰 장바구니 상품만 찾습니다
+     * @param pageable 한 번에 가져올 개수
+     * @return 장바구니 상품 목록
+     */
+    List<CartProduct> findAbandoned(LocalDateTime modifiedBefore, Long afterId, Pageable pageable);
+
+    /**
+     * 주어진 식별자들에 해당하는 장바구니 상품들 중, 주어진 시각 이후로 변경되지 않은 것들만 한 번에 삭제합니다.
+     * 찾은 뒤 삭제하기 전에 변경된 장바구니 상품은 남겨둡니다.
+     *
+     * @param ids 장바구니 상품 식별자 목록
+     * @param modifiedBefore 기준 시각
+     * @return 삭제된 장바구니 상품 개수
+     */
+    int deleteAllByIds(List<Long> ids, LocalDateTime modifiedBefore);
+
 }
@@ -0,0 +1,42 @@
+package com.solebysole.cart.domain;
+
+/**
+ * 장바구니 내용으로 계산하는 장바구니 버전.
+ *
+ * 장바구니 상품 식별자와 개수만으로 계산하므로, 같은 장바구니라면 어느 인스턴스에서 계산해도,
+ * 재시작한 뒤에 계산해도 같은 버전이 나옵니다. 상품을 더하는 순서와는 관계가 없습니다.
+ * 선택한 옵션은 장바구니 상품을 만든 뒤에 바뀌지 않으므로 넣지 않습니다.
+ */
+public final class CartVersion {
+
+    private long value;
+
+    /**
+     * 장바구니 상품 하나를 버전에 더합니다.
+     *
+     * @param cartProductId 장바구니 상품 식별자
+     * @param count 개수
+     * @return 이 버전
+     */
+    public CartVersion add(long cartProductId, int count) {
+        value += mix(cartProductId * 31 + count);
+        return this;
+    }
+
+    /**
+     * 지금까지 더한 장바구니 상품들의 버전을 리턴합니다.
+     */
+    public long value() {
+        return value;
+    }
+
+    private static long mix(long key) {
+        key ^= key >>> 33;
+        key *= 0xff51afd7ed558ccdL;
+        key ^= key >>> 33;
+        key *= 0xc4ceb9fe1a85ec53L;
+        key ^= key >>> 33;
+        return key;
+    }
+
+}
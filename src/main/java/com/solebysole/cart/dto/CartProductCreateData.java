@@ -7,6 +7,7 @@ import lombok.NoArgsConstructor;
 
 import javax.validation.constraints.Min;
 import javax.validation.constraints.NotNull;
+import java.util.List;
 
 /**
  * 장바구니 상품 생성 정보.
@@ -18,14 +19,21 @@ public class CartProductCreateData {
     @NotNull
     private Long productId;
 
+    private List<Long> optionIds;
+
     @Min(value = 1)
     private int count;
 
     @Builder
-    private CartProductCreateData(Long productId, int count) {
+    private CartProductCreateData(Long productId, List<Long> optionIds, int count) {
         this.productId = productId;
+        this.optionIds = optionIds;
         this.count = count;
     }
 
+    public List<Long> getOptionIds() {
+        return optionIds == null ? List.of() : optionIds;
+    }
+
 }
 
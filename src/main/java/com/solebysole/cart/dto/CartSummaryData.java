@@ -0,0 +1,64 @@
+package com.solebysole.cart.dto;
+
+import com.solebysole.cart.domain.CartProduct;
+import com.solebysole.product.domain.Product;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 장바구니 합계 정보.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class CartSummaryData {
+
+    private long version;
+
+    private int subtotal;
+
+    private int discount;
+
+    private int total;
+
+    @Builder
+    private CartSummaryData(long version, int subtotal, int discount, int total) {
+        this.version = version;
+        this.subtotal = subtotal;
+        this.discount = discount;
+        this.total = total;
+    }
+
+    /**
+     * 주어진 장바구니 상품들로 계산한 합계 정보를 리턴합니다.
+     *
+     * 소계는 상품 원가와 선택한 옵션의 추가 금액을 더한 값이고,
+     * 할인 금액은 상품 원가와 할인가의 차이입니다.
+     *
+     * @param version 장바구니 버전
+     * @param cartProducts 장바구니 상품 목록
+     * @return 합계 정보
+     */
+    public static CartSummaryData of(long version, List<CartProduct> cartProducts) {
+        int subtotal = 0;
+        int discount = 0;
+        for (CartProduct cartProduct : cartProducts) {
+            Product product = cartProduct.getProduct();
+            int count = cartProduct.getCount();
+
+            subtotal += (product.getOriginalPrice() + cartProduct.getOptionPrice()) * count;
+            discount += (product.getOriginalPrice() - product.getDiscountedPrice()) * count;
+        }
+
+        return CartSummaryData.builder()
+                .version(version)
+                .subtotal(subtotal)
+                .discount(discount)
+                .total(subtotal - discount)
+                .build();
+    }
+
+}
@@ -0,0 +1,124 @@
+package com.solebysole.cart.infra;
+
+import java.util.Arrays;
+
+/**
+ * 한 회원의 장바구니를 담는 불변 자료구조.
+ *
+ * 장바구니 상품 식별자, 상품 식별자, 개수, 선택한 옵션 식별자들을 원시 타입 배열에 나란히 저장합니다.
+ * 장바구니는 작기 때문에 선형 탐색으로 충분하며, 변경할 때마다 새 인스턴스를 만들어
+ * 읽기 쪽에서 잠금 없이 안전하게 참조할 수 있습니다.
+ */
+final class CartEntries {
+
+    static final long[] NO_OPTIONS = new long[0];
+
+    static final CartEntries EMPTY =
+            new CartEntries(new long[0], new long[0], new int[0], new long[0][]);
+
+    private final long[] ids;
+
+    private final long[] productIds;
+
+    private final int[] counts;
+
+    private final long[][] optionIds;
+
+    private CartEntries(long[] ids, long[] productIds, int[] counts, long[][] optionIds) {
+        this.ids = ids;
+        this.productIds = productIds;
+        this.counts = counts;
+        this.optionIds = optionIds;
+    }
+
+    int size() {
+        return ids.length;
+    }
+
+    long idAt(int index) {
+        return ids[index];
+    }
+
+    long productIdAt(int index) {
+        return productIds[index];
+    }
+
+    int countAt(int index) {
+        return counts[index];
+    }
+
+    long[] optionIdsAt(int index) {
+        return optionIds[index];
+    }
+
+    /**
+     * 주어진 장바구니 상품 식별자의 위치를 리턴합니다. 없다면 -1 을 리턴합니다.
+     */
+    int indexOf(long id) {
+        for (int i = 0; i < ids.length; i++) {
+            if (ids[i] == id) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * 주어진 장바구니 상품의 개수를 갱신한 새 장바구니를 리턴합니다.
+     * 없는 장바구니 상품이라면 옵션 없이 추가합니다.
+     */
+    CartEntries with(long id, long productId, int count) {
+        int index = indexOf(id);
+        if (index < 0) {
+            return with(id, productId, count, NO_OPTIONS);
+        }
+
+        int[] nextCounts = counts.clone();
+        nextCounts[index] = count;
+        return new CartEntries(ids, productIds, nextCounts, optionIds);
+    }
+
+    /**
+     * 주어진 장바구니 상품을 추가하거나 대체한 새 장바구니를 리턴합니다.
+     */
+    CartEntries with(long id, long productId, int count, long[] options) {
+        CartEntries entries = without(id);
+
+        int size = entries.ids.length;
+        long[] nextIds = Arrays.copyOf(entries.ids, size + 1);
+        long[] nextProductIds = Arrays.copyOf(entries.productIds, size + 1);
+        int[] nextCounts = Arrays.copyOf(entries.counts, size + 1);
+        long[][] nextOptionIds = Arrays.copyOf(entries.optionIds, size + 1);
+        nextIds[size] = id;
+        nextProductIds[size] = productId;
+        nextCounts[size] = count;
+        nextOptionIds[size] = options;
+        return new CartEntries(nextIds, nextProductIds, nextCounts, nextOptionIds);
+    }
+
+    /**
+     * 주어진 장바구니 상품을 제외한 새 장바구니를 리턴합니다.
+     */
+    CartEntries without(long id) {
+        int index = indexOf(id);
+        if (index < 0) {
+            return this;
+        }
+
+        int size = ids.length;
+        long[] nextIds = new long[size - 1];
+        long[] nextProductIds = new long[size - 1];
+        int[] nextCounts = new int[size - 1];
+        long[][] nextOptionIds = new long[size - 1][];
+        System.arraycopy(ids, 0, nextIds, 0, index);
+        System.arraycopy(productIds, 0, nextProductIds, 0, index);
+        System.arraycopy(counts, 0, nextCounts, 0, index);
+        System.arraycopy(optionIds, 0, nextOptionIds, 0, index);
+        System.arraycopy(ids, index + 1, nextIds, index, size - index - 1);
+        System.arraycopy(productIds, index + 1, nextProductIds, index, size - index - 1);
+        System.arraycopy(counts, index + 1, nextCounts, index, size - index - 1);
+        System.arraycopy(optionIds, index + 1, nextOptionIds, index, size - index - 1);
+        return new CartEntries(nextIds, nextProductIds, nextCounts, nextOptionIds);
+    }
+
+}
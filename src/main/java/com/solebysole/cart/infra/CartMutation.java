@@ -0,0 +1,68 @@
+package com.solebysole.cart.infra;
+
+/**
+ * 아직 DB에 반영되지 않은 장바구니 상품 변경.
+ */
+final class CartMutation {
+
+    enum Type {
+        UPSERT, DELETE
+    }
+
+    private final Type type;
+
+    private final long id;
+
+    private final long userId;
+
+    private final long productId;
+
+    private final int count;
+
+    private final long modifiedAt;
+
+    CartMutation(Type type, long id, long userId, long productId, int count, long modifiedAt) {
+        this.type = type;
+        this.id = id;
+        this.userId = userId;
+        this.productId = productId;
+        this.count = count;
+        this.modifiedAt = modifiedAt;
+    }
+
+    static CartMutation upsert(long id, long userId, long productId, int count, long modifiedAt) {
+        return new CartMutation(Type.UPSERT, id, userId, productId, count, modifiedAt);
+    }
+
+    static CartMutation delete(long id, long userId, long productId) {
+        return new CartMutation(Type.DELETE, id, userId, productId, 0, 0);
+    }
+
+    Type getType() {
+        return type;
+    }
+
+    long getId() {
+        return id;
+    }
+
+    long getUserId() {
+        return userId;
+    }
+
+    long getProductId() {
+        return productId;
+    }
+
+    int getCount() {
+        return count;
+    }
+
+    /**
+     * 변경된 시각을 epoch 밀리초로 리턴합니다.
+     */
+    long getModifiedAt() {
+        return modifiedAt;
+    }
+
+}
@@ -0,0 +1,237 @@
+package com.solebysole.cart.infra;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.LongFunction;
+
+/**
+ * 회원 id로 나뉜 장바구니 묶음 하나.
+ *
+ * 샤드의 모든 변경은 전용 작성 스레드 하나에서만 일어나므로 잠금이 필요 없습니다.
+ * 읽기는 불변 {@link CartEntries}를 통해 어느 스레드에서나 잠금 없이 이루어집니다.
+ */
+@Slf4j
+class CartShard {
+
+    private final Map<Long, CartEntries> carts = new ConcurrentHashMap<>();
+
+    private final Map<Long, CartMutation> pending = new LinkedHashMap<>();
+
+    private final Map<Long, Long> ownerById;
+
+    private final CartWriteLog writeLog;
+
+    private final LongFunction<CartEntries> loader;
+
+    private final Consumer<List<CartMutation>> flusher;
+
+    private final int maxCarts;
+
+    private final ScheduledExecutorService writer;
+
+    CartShard(int index,
+              Map<Long, Long> ownerById,
+              CartWriteLog writeLog,
+              LongFunction<CartEntries> loader,
+              Consumer<List<CartMutation>> flusher,
+              int maxCarts) {
+        this.ownerById = ownerById;
+        this.writeLog = writeLog;
+        this.loader = loader;
+        this.flusher = flusher;
+        this.maxCarts = maxCarts;
+        this.writer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "cart-shard-" + index);
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 주어진 주기로 DB 반영을 예약합니다.
+     *
+     * @param intervalMillis 반영 주기
+     */
+    void scheduleFlush(long intervalMillis) {
+        writer.scheduleWithFixedDelay(this::flushQuietly,
+                intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 주어진 회원의 장바구니를 리턴합니다. 메모리에 없다면 DB에서 읽어옵니다.
+     *
+     * @param userId 회원 식별자
+     * @return 장바구니
+     */
+    CartEntries cart(long userId) {
+        CartEntries entries = carts.get(userId);
+        if (entries != null) {
+            return entries;
+        }
+        return call(() -> hydrate(userId));
+    }
+
+    /**
+     * 이미 DB에 저장된 장바구니 상품을 메모리에 반영합니다.
+     */
+    void remember(long id, long userId, long productId, int count, long[] optionIds) {
+        call(() -> {
+            put(userId, hydrate(userId).with(id, productId, count, optionIds));
+            ownerById.put(id, userId);
+            return null;
+        });
+    }
+
+    /**
+     * 주어진 변경을 로그에 기록하고 메모리에 반영합니다. DB 반영은 나중에 일괄로 이루어집니다.
+     *
+     * @param mutation 장바구니 상품 변경
+     */
+    void apply(CartMutation mutation) {
+        call(() -> {
+            long userId = mutation.getUserId();
+            CartEntries entries = hydrate(userId);
+
+            writeLog.append(mutation);
+            if (mutation.getType() == CartMutation.Type.DELETE) {
+                put(userId, entries.without(mutation.getId()));
+                ownerById.remove(mutation.getId());
+            } else {
+                put(userId, entries.with(mutation.getId(),
+                        mutation.getProductId(), mutation.getCount()));
+                ownerById.put(mutation.getId(), userId);
+            }
+            coalesce(mutation);
+            return null;
+        });
+    }
+
+    /**
+     * 주어진 회원의 장바구니를 메모리에서 내립니다. 다음 읽기 때 DB에서 다시 읽어옵니다.
+     *
+     * @param userId 회원 식별자
+     */
+    void evict(long userId) {
+        call(() -> {
+            CartEntries entries = carts.remove(userId);
+            if (entries != null) {
+                for (int i = 0; i < entries.size(); i++) {
+                    ownerById.remove(entries.idAt(i));
+                }
+            }
+            return null;
+        });
+    }
+
+    /**
+     * 이전 실행에서 반영되지 못한 로그를 DB에 반영합니다.
+     */
+    void recover() {
+        call(() -> {
+            writeLog.readAll().forEach(this::coalesce);
+            flush();
+            return null;
+        });
+    }
+
+    /**
+     * 쌓인 변경을 DB에 반영하고 작성 스레드를 종료합니다.
+     */
+    void close() {
+        if (writer.isShutdown()) {
+            return;
+        }
+
+        try {
+            call(() -> {
+                flushQuietly();
+                writeLog.close();
+                return null;
+            });
+        } finally {
+            writer.shutdown();
+        }
+    }
+
+    private CartEntries hydrate(long userId) {
+        CartEntries entries = carts.get(userId);
+        if (entries == null) {
+            entries = loader.apply(userId);
+            put(userId, entries);
+            for (int i = 0; i < entries.size(); i++) {
+                ownerById.put(entries.idAt(i), userId);
+            }
+        }
+        return entries;
+    }
+
+    private void put(long userId, CartEntries entries) {
+        carts.put(userId, entries);
+    }
+
+    private void coalesce(CartMutation mutation) {
+        pending.remove(mutation.getId());
+        pending.put(mutation.getId(), mutation);
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (RuntimeException | IOException e) {
+            log.warn("장바구니 변경을 DB에 반영하지 못했습니다. 다음 주기에 다시 시도합니다.", e);
+        }
+    }
+
+    private void flush() throws IOException {
+        if (!pending.isEmpty()) {
+            flusher.accept(new ArrayList<>(pending.values()));
+            pending.clear();
+            writeLog.truncate();
+        }
+        evictCleanCarts();
+    }
+
+    private void evictCleanCarts() {
+        Iterator<Map.Entry<Long, CartEntries>> iterator = carts.entrySet().iterator();
+        while (carts.size() > maxCarts && iterator.hasNext()) {
+            CartEntries entries = iterator.next().getValue();
+            iterator.remove();
+            for (int i = 0; i < entries.size(); i++) {
+                ownerById.remove(entries.idAt(i));
+            }
+        }
+    }
+
+    private <T> T call(Callable<T> task) {
+        try {
+            return writer.submit(task).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof IOException) {
+                throw new UncheckedIOException((IOException) cause);
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+
+}
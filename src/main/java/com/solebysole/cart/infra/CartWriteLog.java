@@ -0,0 +1,120 @@
+package com.solebysole.cart.infra;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32;
+
+/**
+ * 아직 DB에 반영되지 않은 장바구니 변경을 기록하는 추가 전용 로그.
+ *
+ * 각 레코드는 고정 길이이며 CRC 로 검증합니다. 기록 도중 프로세스가 종료되어
+ * 마지막 레코드가 온전하지 않다면, 그 레코드부터는 무시합니다.
+ * 하나의 샤드 작성 스레드에서만 사용해야 합니다.
+ */
+class CartWriteLog implements Closeable {
+
+    private static final int PAYLOAD_SIZE = 1 + Long.BYTES * 4 + Integer.BYTES;
+    private static final int RECORD_SIZE = PAYLOAD_SIZE + Integer.BYTES;
+
+    private final FileChannel channel;
+
+    private final boolean sync;
+
+    private final ByteBuffer buffer = ByteBuffer.allocate(RECORD_SIZE);
+
+    private final CRC32 crc = new CRC32();
+
+    CartWriteLog(Path path, boolean sync) throws IOException {
+        this.channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        this.sync = sync;
+        channel.position(channel.size());
+    }
+
+    /**
+     * 주어진 변경을 로그 끝에 기록합니다.
+     *
+     * @param mutation 장바구니 상품 변경
+     */
+    void append(CartMutation mutation) throws IOException {
+        buffer.clear();
+        buffer.put((byte) mutation.getType().ordinal());
+        buffer.putLong(mutation.getId());
+        buffer.putLong(mutation.getUserId());
+        buffer.putLong(mutation.getProductId());
+        buffer.putInt(mutation.getCount());
+        buffer.putLong(mutation.getModifiedAt());
+
+        crc.reset();
+        crc.update(buffer.array(), 0, PAYLOAD_SIZE);
+        buffer.putInt((int) crc.getValue());
+        buffer.flip();
+
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        if (sync) {
+            channel.force(false);
+        }
+    }
+
+    /**
+     * 로그에 기록된 온전한 변경들을 기록된 순서대로 리턴합니다.
+     */
+    List<CartMutation> readAll() throws IOException {
+        List<CartMutation> mutations = new ArrayList<>();
+        ByteBuffer record = ByteBuffer.allocate(RECORD_SIZE);
+        long position = 0;
+
+        while (true) {
+            record.clear();
+            while (record.hasRemaining()) {
+                if (channel.read(record, position + record.position()) < 0) {
+                    return mutations;
+                }
+            }
+
+            crc.reset();
+            crc.update(record.array(), 0, PAYLOAD_SIZE);
+            record.flip();
+
+            CartMutation.Type[] types = CartMutation.Type.values();
+            int type = record.get();
+            long id = record.getLong();
+            long userId = record.getLong();
+            long productId = record.getLong();
+            int count = record.getInt();
+            long modifiedAt = record.getLong();
+            int checksum = record.getInt();
+            if (checksum != (int) crc.getValue() || type < 0 || type >= types.length) {
+                return mutations;
+            }
+
+            mutations.add(new CartMutation(types[type], id, userId, productId, count, modifiedAt));
+            position += RECORD_SIZE;
+        }
+    }
+
+    /**
+     * DB에 반영된 변경들을 로그에서 비웁니다.
+     */
+    void truncate() throws IOException {
+        channel.truncate(0);
+        channel.position(0);
+        if (sync) {
+            channel.force(false);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+}
@@ -2,8 +2,16 @@ package com.solebysole.cart.infra;
 
 import com.solebysole.cart.domain.CartProduct;
 import com.solebysole.cart.domain.CartProductRepository;
+import com.solebysole.cart.domain.CartVersion;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import javax.persistence.LockModeType;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -13,7 +21,22 @@ import java.util.Optional;
 public interface JpaCartProductRepository
         extends CartProductRepository, JpaRepository<CartProduct, Long> {
 
-    List<CartProduct> findAllByUserId(Long userId);
+    /**
+     * 파생 쿼리는 회원 테이블과 조인한 뒤 회원 식별자로 거르므로 인덱스를 쓰지 못합니다.
+     * 외래 키 컬럼으로 바로 거르도록 쿼리를 직접 작성합니다.
+     */
+    @Query("select c from CartProduct c where c.user.id = :userId")
+    List<CartProduct> findAllByUserId(@Param("userId") Long userId);
+
+    @Override
+    default long findCartVersion(Long userId) {
+        CartVersion version = new CartVersion();
+        findCartLinesByUserId(userId).forEach(line -> version.add(line.getId(), line.getCount()));
+        return version.value();
+    }
+
+    @Query("select c.id as id, c.count as count from CartProduct c where c.user.id = :userId")
+    List<CartLine> findCartLinesByUserId(@Param("userId") Long userId);
 
     Optional<CartProduct> findById(Long id);
 
@@ -21,4 +44,62 @@ public interface JpaCartProductRepository
 
     void delete(CartProduct cartProduct);
 
+    @Query("select c from CartProduct c" +
+            " where c.id > :afterId" +
+            " and (c.lastModifiedAt is null or c.lastModifiedAt < :modifiedBefore)" +
+            " and not exists (select r.id from CartProduct r" +
+            "   where r.user = c.user and r.lastModifiedAt >= :modifiedBefore)" +
+            " order by c.id")
+    List<CartProduct> findAbandoned(@Param("modifiedBefore") LocalDateTime modifiedBefore,
+                                    @Param("afterId") Long afterId,
+                                    Pageable pageable);
+
+    /**
+     * 조건에 맞는 장바구니 상품들을 먼저 잠가서, 옵션과 장바구니 상품을 지우는 사이에 변경되지 않도록 합니다.
+     */
+    @Override
+    default int deleteAllByIds(List<Long> ids, LocalDateTime modifiedBefore) {
+        List<Long> unmodifiedIds = lockUnmodifiedIds(ids, modifiedBefore);
+        if (unmodifiedIds.isEmpty()) {
+            return 0;
+        }
+
+        deleteOptionsByCartProductIds(unmodifiedIds, modifiedBefore);
+        return deleteByIds(unmodifiedIds, modifiedBefore);
+    }
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select c.id from CartProduct c" +
+            " where c.id in (:ids)" +
+            " and (c.lastModifiedAt is null or c.lastModifiedAt < :modifiedBefore)")
+    List<Long> lockUnmodifiedIds(@Param("ids") List<Long> ids,
+                                 @Param("modifiedBefore") LocalDateTime modifiedBefore);
+
+    @Modifying
+    @Query(value = "delete from cart_product_option where cart_product_id in (" +
+            "select c.cart_product_id from cart_product c" +
+            " where c.cart_product_id in (:ids)" +
+            " and (c.last_modified_at is null or c.last_modified_at < :modifiedBefore))",
+            nativeQuery = true)
+    void deleteOptionsByCartProductIds(@Param("ids") List<Long> ids,
+                                       @Param("modifiedBefore") LocalDateTime modifiedBefore);
+
+    @Modifying
+    @Query("delete from CartProduct c" +
+            " where c.id in (:ids)" +
+            " and (c.lastModifiedAt is null or c.lastModifiedAt < :modifiedBefore)")
+    int deleteByIds(@Param("ids") List<Long> ids,
+                    @Param("modifiedBefore") LocalDateTime modifiedBefore);
+
+    /**
+     * 장바구니 버전 계산에 필요한 장바구니 상품 식별자와 개수.
+     */
+    interface CartLine {
+
+        Long getId();
+
+        int getCount();
+
+    }
+
 }
@@ -0,0 +1,310 @@
+package com.solebysole.cart.infra;
+
+import com.solebysole.cart.domain.CartProduct;
+import com.solebysole.cart.domain.CartProductRepository;
+import com.solebysole.cart.domain.CartVersion;
+import com.solebysole.product.domain.Option;
+import com.solebysole.product.domain.Product;
+import com.solebysole.user.domain.User;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.persistence.EntityManager;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * 쓰기 지연(write-behind) 장바구니 상품 저장소.
+ *
+ * 장바구니는 회원 id로 나뉜 샤드의 메모리에 보관되고, 읽기는 메모리에서 처리됩니다.
+ * 개수 변경과 삭제는 샤드의 추가 전용 로그에 먼저 기록된 뒤, 주기적으로 그리고 종료 시에
+ * 합쳐진 일괄 SQL 로 DB에 반영됩니다. 새 장바구니 상품은 식별자가 필요하므로 곧바로 DB에 저장합니다.
+ *
+ * {@code cart.write-behind.enabled=true} 일 때만 사용됩니다.
+ */
+@Primary
+@ConditionalOnProperty(name = "cart.write-behind.enabled", havingValue = "true")
+@Repository
+public class WriteBehindCartProductRepository implements CartProductRepository {
+
+    private static final String UPDATE_COUNT_SQL =
+            "update cart_product set count = ?, last_modified_at = ? where cart_product_id = ?";
+
+    private static final String DELETE_OPTIONS_SQL =
+            "delete from cart_product_option where cart_product_id = ?";
+
+    private static final String DELETE_SQL =
+            "delete from cart_product where cart_product_id = ?";
+
+    private final JpaCartProductRepository jpaCartProductRepository;
+
+    private final EntityManager entityManager;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final TransactionTemplate readOnlyTransactionTemplate;
+
+    private final Map<Long, Long> ownerById = new ConcurrentHashMap<>();
+
+    private final int shardCount;
+
+    private final long flushIntervalMillis;
+
+    private final Path logDirectory;
+
+    private final boolean logSync;
+
+    private final int maxCartsPerShard;
+
+    private CartShard[] shards;
+
+    public WriteBehindCartProductRepository(
+            JpaCartProductRepository jpaCartProductRepository,
+            EntityManager entityManager,
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            @Value("${cart.write-behind.shards:4}") int shardCount,
+            @Value("${cart.write-behind.flush-interval-millis:1000}") long flushIntervalMillis,
+            @Value("${cart.write-behind.log-directory:data/cart-write-behind}") String logDirectory,
+            @Value("${cart.write-behind.log-sync:true}") boolean logSync,
+            @Value("${cart.write-behind.max-carts-per-shard:10000}") int maxCartsPerShard) {
+        this.jpaCartProductRepository = jpaCartProductRepository;
+        this.entityManager = entityManager;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate.setReadOnly(true);
+        this.shardCount = shardCount;
+        this.flushIntervalMillis = flushIntervalMillis;
+        this.logDirectory = Paths.get(logDirectory);
+        this.logSync = logSync;
+        this.maxCartsPerShard = maxCartsPerShard;
+    }
+
+    /**
+     * 샤드를 준비하고, 이전 실행에서 반영되지 못한 로그를 DB에 반영한 뒤 주기적인 반영을 시작합니다.
+     */
+    @PostConstruct
+    public void start() throws IOException {
+        Files.createDirectories(logDirectory);
+
+        shards = new CartShard[shardCount];
+        for (int i = 0; i < shardCount; i++) {
+            CartWriteLog writeLog = new CartWriteLog(
+                    logDirectory.resolve("cart-shard-" + i + ".log"), logSync);
+            shards[i] = new CartShard(i, ownerById, writeLog,
+                    this::load, this::flush, maxCartsPerShard);
+        }
+
+        for (CartShard shard : shards) {
+            shard.recover();
+            shard.scheduleFlush(flushIntervalMillis);
+        }
+    }
+
+    /**
+     * 쌓인 변경을 모두 DB에 반영하고 샤드를 종료합니다.
+     */
+    @PreDestroy
+    public void stop() {
+        for (CartShard shard : shards) {
+            shard.close();
+        }
+    }
+
+    @Override
+    public List<CartProduct> findAllByUserId(Long userId) {
+        CartEntries entries = shardOf(userId).cart(userId);
+
+        List<CartProduct> cartProducts = new ArrayList<>(entries.size());
+        for (int i = 0; i < entries.size(); i++) {
+            cartProducts.add(toCartProduct(userId, entries, i));
+        }
+        return cartProducts;
+    }
+
+    @Override
+    public long findCartVersion(Long userId) {
+        CartEntries entries = shardOf(userId).cart(userId);
+
+        CartVersion version = new CartVersion();
+        for (int i = 0; i < entries.size(); i++) {
+            version.add(entries.idAt(i), entries.countAt(i));
+        }
+        return version.value();
+    }
+
+    @Override
+    public Optional<CartProduct> findById(Long id) {
+        Long userId = ownerById.get(id);
+        if (userId == null) {
+            Optional<CartProduct> stored = jpaCartProductRepository.findById(id);
+            if (stored.isEmpty()) {
+                return Optional.empty();
+            }
+            userId = stored.get().getUser().getId();
+        }
+
+        CartEntries entries = shardOf(userId).cart(userId);
+        int index = entries.indexOf(id);
+        if (index < 0) {
+            return Optional.empty();
+        }
+        return Optional.of(toCartProduct(userId, entries, index));
+    }
+
+    @Override
+    public CartProduct save(CartProduct cartProduct) {
+        long userId = cartProduct.getUser().getId();
+        long productId = cartProduct.getProduct().getId();
+        int count = cartProduct.getCount();
+
+        if (cartProduct.getId() == null) {
+            CartProduct saved = jpaCartProductRepository.save(cartProduct);
+            long id = saved.getId();
+            long[] optionIds = optionIdsOf(saved);
+            afterCommit(() -> shardOf(userId).remember(id, userId, productId, count, optionIds));
+            return saved;
+        }
+
+        CartMutation mutation = CartMutation.upsert(cartProduct.getId(), userId, productId, count,
+                System.currentTimeMillis());
+        afterCommit(() -> shardOf(userId).apply(mutation));
+        return cartProduct;
+    }
+
+    @Override
+    public void delete(CartProduct cartProduct) {
+        long userId = cartProduct.getUser().getId();
+        long productId = cartProduct.getProduct().getId();
+
+        CartMutation mutation = CartMutation.delete(cartProduct.getId(), userId, productId);
+        afterCommit(() -> shardOf(userId).apply(mutation));
+    }
+
+    @Override
+    public List<CartProduct> findAbandoned(LocalDateTime modifiedBefore, Long afterId, Pageable pageable) {
+        return jpaCartProductRepository.findAbandoned(modifiedBefore, afterId, pageable);
+    }
+
+    /**
+     * 메모리에 올라와 있지 않은 장바구니의 상품들만 삭제합니다.
+     * 메모리에 있는 장바구니는 DB에 아직 반영되지 않은 변경이 있을 수 있으므로 건너뜁니다.
+     */
+    @Override
+    public int deleteAllByIds(List<Long> ids, LocalDateTime modifiedBefore) {
+        List<Long> idsToDelete = ids.stream()
+                .filter(id -> !ownerById.containsKey(id))
+                .collect(Collectors.toList());
+        if (idsToDelete.isEmpty()) {
+            return 0;
+        }
+
+        Set<Long> userIds = new HashSet<>();
+        for (CartProduct cartProduct : jpaCartProductRepository.findAllById(idsToDelete)) {
+            userIds.add(cartProduct.getUser().getId());
+        }
+        int deleted = jpaCartProductRepository.deleteAllByIds(idsToDelete, modifiedBefore);
+        afterCommit(() -> userIds.forEach(userId -> shardOf(userId).evict(userId)));
+        return deleted;
+    }
+
+    private CartShard shardOf(long userId) {
+        return shards[(int) Math.floorMod(userId, (long) shards.length)];
+    }
+
+    private CartProduct toCartProduct(long userId, CartEntries entries, int index) {
+        long[] optionIds = entries.optionIdsAt(index);
+        List<Option> options = new ArrayList<>(optionIds.length);
+        for (long optionId : optionIds) {
+            options.add(entityManager.getReference(Option.class, optionId));
+        }
+
+        return CartProduct.builder()
+                .id(entries.idAt(index))
+                .user(entityManager.getReference(User.class, userId))
+                .product(entityManager.getReference(Product.class, entries.productIdAt(index)))
+                .options(options)
+                .count(entries.countAt(index))
+                .build();
+    }
+
+    private long[] optionIdsOf(CartProduct cartProduct) {
+        return cartProduct.getOptions().stream()
+                .mapToLong(Option::getId)
+                .toArray();
+    }
+
+    private CartEntries load(long userId) {
+        return readOnlyTransactionTemplate.execute(status -> {
+            CartEntries entries = CartEntries.EMPTY;
+            for (CartProduct cartProduct : jpaCartProductRepository.findAllByUserId(userId)) {
+                entries = entries.with(cartProduct.getId(), cartProduct.getProduct().getId(),
+                        cartProduct.getCount(), optionIdsOf(cartProduct));
+            }
+            return entries;
+        });
+    }
+
+    private void flush(List<CartMutation> mutations) {
+        List<Object[]> updates = new ArrayList<>();
+        List<Object[]> deletes = new ArrayList<>();
+        for (CartMutation mutation : mutations) {
+            if (mutation.getType() == CartMutation.Type.DELETE) {
+                deletes.add(new Object[]{mutation.getId()});
+            } else {
+                updates.add(new Object[]{mutation.getCount(),
+                        new Timestamp(mutation.getModifiedAt()), mutation.getId()});
+            }
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            if (!updates.isEmpty()) {
+                jdbcTemplate.batchUpdate(UPDATE_COUNT_SQL, updates);
+            }
+            if (!deletes.isEmpty()) {
+                jdbcTemplate.batchUpdate(DELETE_OPTIONS_SQL, deletes);
+                jdbcTemplate.batchUpdate(DELETE_SQL, deletes);
+            }
+        });
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+}
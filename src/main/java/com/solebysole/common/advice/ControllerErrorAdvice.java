@@ -2,10 +2,17 @@ package com.solebysole.common.advice;
 
 import com.solebysole.common.dto.ErrorResponse;
 import com.solebysole.common.errors.CartProductNotFoundException;
+import com.solebysole.common.errors.InvalidProductFieldException;
+import com.solebysole.common.errors.InvalidTokenException;
 import com.solebysole.common.errors.LoginFailException;
+import com.solebysole.common.errors.OptionNotFoundException;
+import com.solebysole.common.errors.PasswordHashingUnavailableException;
 import com.solebysole.common.errors.ProductNameDuplicationException;
 import com.solebysole.common.errors.ProductNotFoundException;
+import com.solebysole.common.errors.TooManyLoginAttemptsException;
+import com.solebysole.common.errors.TooManyProductIdsException;
 import com.solebysole.common.errors.UserEmailDuplicationException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -29,6 +36,18 @@ public class ControllerErrorAdvice {
         return new ResponseEntity<>(errorResponse, HttpStatus.NOT_FOUND);
     }
 
+    @ExceptionHandler(InvalidProductFieldException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidProductFieldException(InvalidProductFieldException e) {
+        ErrorResponse errorResponse = new ErrorResponse(e);
+        return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
+    }
+
+    @ExceptionHandler(TooManyProductIdsException.class)
+    public ResponseEntity<ErrorResponse> handleTooManyProductIdsException(TooManyProductIdsException e) {
+        ErrorResponse errorResponse = new ErrorResponse(e);
+        return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
+    }
+
     @ExceptionHandler(UserEmailDuplicationException.class)
     public ResponseEntity<ErrorResponse> handleUserEmailDuplicationException(UserEmailDuplicationException e) {
         ErrorResponse errorResponse = new ErrorResponse(e);
@@ -47,4 +66,31 @@ public class ControllerErrorAdvice {
         return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
     }
 
+    @ExceptionHandler(OptionNotFoundException.class)
+    public ResponseEntity<ErrorResponse> handleOptionNotFoundException(OptionNotFoundException e) {
+        ErrorResponse errorResponse = new ErrorResponse(e);
+        return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
+    }
+
+    @ExceptionHandler(InvalidTokenException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidTokenException(InvalidTokenException e) {
+        ErrorResponse errorResponse = new ErrorResponse(e);
+        return new ResponseEntity<>(errorResponse, HttpStatus.UNAUTHORIZED);
+    }
+
+    @ExceptionHandler(PasswordHashingUnavailableException.class)
+    public ResponseEntity<ErrorResponse> handlePasswordHashingUnavailableException(
+            PasswordHashingUnavailableException e) {
+        ErrorResponse errorResponse = new ErrorResponse(e);
+        return new ResponseEntity<>(errorResponse, HttpStatus.SERVICE_UNAVAILABLE);
+    }
+
+    @ExceptionHandler(TooManyLoginAttemptsException.class)
+    public ResponseEntity<ErrorResponse> handleTooManyLoginAttemptsException(TooManyLoginAttemptsException e) {
+        ErrorResponse errorResponse = new ErrorResponse(e);
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                .body(errorResponse);
+    }
+
 }
@@ -0,0 +1,27 @@
+package com.solebysole.common.config;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+
+import javax.servlet.http.HttpServletRequest;
+
+/**
+ * 인증 헤더 없이 상품 목록이나 상품 상세 정보를 조회하는 요청.
+ *
+ * 이 요청들은 인증할 회원이 없으므로 보안 필터를 거치지 않습니다.
+ * 인증 헤더가 있다면 토큰을 검증해야 하므로 일치하지 않습니다.
+ */
+public class AnonymousCatalogRequestMatcher implements RequestMatcher {
+
+    private final RequestMatcher catalogMatcher =
+            new AntPathRequestMatcher("/api/products/**", HttpMethod.GET.name());
+
+    @Override
+    public boolean matches(HttpServletRequest request) {
+        return request.getHeader(HttpHeaders.AUTHORIZATION) == null
+                && catalogMatcher.matches(request);
+    }
+
+}
@@ -0,0 +1,76 @@
+package com.solebysole.common.config;
+
+import com.solebysole.common.datasource.ReadWriteRoutingDataSource;
+import com.solebysole.common.datasource.ReadYourWritesWindow;
+import com.solebysole.common.datasource.ReplicatedDataSources;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+/**
+ * 주 데이터베이스와 읽기 복제본을 나눠 쓰는 데이터 소스 설정.
+ *
+ * 복제본 주소가 주어졌을 때만 사용하며, 주어지지 않으면 스프링 부트의 기본 데이터 소스를 사용합니다.
+ * 커넥션 풀 설정은 각각 spring.datasource.hikari, datasource.replica.hikari 에서 읽습니다.
+ */
+@Configuration
+@ConditionalOnProperty("datasource.replica.url")
+public class DataSourceConfig {
+
+    @Bean(destroyMethod = "close")
+    public ReplicatedDataSources replicatedDataSources(
+            Environment environment,
+            DataSourceProperties properties,
+            @Value("${datasource.replica.url}") String replicaUrl,
+            @Value("${datasource.replica.username:${spring.datasource.username:}}") String replicaUsername,
+            @Value("${datasource.replica.password:${spring.datasource.password:}}") String replicaPassword) {
+        Binder binder = Binder.get(environment);
+
+        HikariDataSource primary = properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        binder.bind("spring.datasource.hikari", Bindable.ofInstance(primary));
+        primary.setPoolName("primary");
+
+        HikariDataSource replica = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .driverClassName(properties.determineDriverClassName())
+                .url(replicaUrl)
+                .username(replicaUsername)
+                .password(replicaPassword)
+                .build();
+        binder.bind("datasource.replica.hikari", Bindable.ofInstance(replica));
+        replica.setPoolName("replica");
+        replica.setReadOnly(true);
+
+        return new ReplicatedDataSources(primary, replica);
+    }
+
+    @Bean
+    public ReadYourWritesWindow readYourWritesWindow(
+            @Value("${datasource.replica.read-your-writes-millis:5000}") long windowMillis,
+            @Value("${datasource.replica.read-your-writes-max-users:100000}") int maxUsers) {
+        return new ReadYourWritesWindow(windowMillis, maxUsers);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicatedDataSources replicatedDataSources,
+                                 ReadYourWritesWindow readYourWritesWindow) {
+        return new LazyConnectionDataSourceProxy(new ReadWriteRoutingDataSource(
+                replicatedDataSources.getPrimary(), replicatedDataSources.getReplica(),
+                readYourWritesWindow));
+    }
+
+}
@@ -0,0 +1,62 @@
+package com.solebysole.common.config;
+
+import com.solebysole.authentication.utils.BoundedPasswordEncoder;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+/**
+ * 비밀번호 해시와 관련된 설정.
+ *
+ * 작업 계수가 주어지지 않으면, 기동 시 해시 한 번에 걸리는 시간을 재서 목표 시간을 넘지 않는
+ * 가장 큰 작업 계수를 고릅니다. 작업 계수가 1 오를 때마다 해시 시간은 두 배가 됩니다.
+ * 더 약한 작업 계수로 저장된 비밀번호는 로그인할 때 다시 해시합니다.
+ */
+@Slf4j
+@Configuration
+public class PasswordEncoderConfig {
+
+    static final int MIN_STRENGTH = 10;
+
+    static final int MAX_STRENGTH = 16;
+
+    @Bean
+    public BoundedPasswordEncoder passwordEncoder(
+            MeterRegistry meterRegistry,
+            @Value("${authentication.password.bcrypt-strength:0}") int strength,
+            @Value("${authentication.password.target-hash-millis:250}") long targetHashMillis,
+            @Value("${authentication.password.pool-size:0}") int poolSize,
+            @Value("${authentication.password.queue-capacity:64}") int queueCapacity,
+            @Value("${authentication.password.wait-timeout-millis:2000}") long waitTimeoutMillis) {
+        int workFactor = strength > 0 ? strength : calibrate(targetHashMillis);
+        int threads = poolSize > 0
+                ? poolSize
+                : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        log.info("bcrypt work factor = {}, hashing threads = {}", workFactor, threads);
+
+        return new BoundedPasswordEncoder(new BCryptPasswordEncoder(workFactor),
+                threads, queueCapacity, waitTimeoutMillis, meterRegistry);
+    }
+
+    /**
+     * 해시 한 번에 걸리는 시간이 주어진 목표 시간을 넘지 않는 가장 큰 작업 계수를 리턴합니다.
+     *
+     * @param targetHashMillis 목표 시간
+     * @return 작업 계수
+     */
+    static int calibrate(long targetHashMillis) {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(MIN_STRENGTH);
+        encoder.encode("warm-up");
+
+        long started = System.nanoTime();
+        encoder.encode("calibration");
+        double elapsedMillis = Math.max(1, (System.nanoTime() - started) / 1_000_000.0);
+
+        int steps = (int) Math.floor(Math.log(targetHashMillis / elapsedMillis) / Math.log(2));
+        return Math.min(MAX_STRENGTH, MIN_STRENGTH + Math.max(0, steps));
+    }
+
+}
@@ -0,0 +1,92 @@
+package com.solebysole.common.config;
+
+import com.solebysole.product.domain.Image;
+import com.solebysole.product.domain.ImageAsset;
+import com.solebysole.product.domain.Keyword;
+import com.solebysole.product.domain.Option;
+import com.solebysole.product.domain.Product;
+import com.solebysole.product.domain.ProductDescription;
+import org.ehcache.config.CacheConfiguration;
+import org.ehcache.config.builders.CacheConfigurationBuilder;
+import org.ehcache.config.builders.ExpiryPolicyBuilder;
+import org.ehcache.config.builders.ResourcePoolsBuilder;
+import org.ehcache.core.config.DefaultConfiguration;
+import org.ehcache.jsr107.EhcacheCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.net.URI;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 상품 애그리거트의 2차 캐시 설정.
+ *
+ * 상품, 상품 설명, 이미지, 이미지 파일, 옵션, 키워드와 그 컬렉션만 캐시하며, 장바구니와 주문은 캐시하지 않습니다.
+ * 영역마다 크기와 만료 시간을 정해서 만들고, 설정되지 않은 영역이 있으면 기동에 실패합니다.
+ */
+@Configuration
+public class ProductCacheConfig {
+
+    public static final List<String> ENTITY_REGIONS = List.of(
+            Product.class.getName(),
+            ProductDescription.class.getName(),
+            Image.class.getName(),
+            ImageAsset.class.getName(),
+            Keyword.class.getName(),
+            Option.class.getName());
+
+    public static final List<String> COLLECTION_REGIONS = List.of(
+            Product.class.getName() + ".keywords",
+            Product.class.getName() + ".images",
+            Product.class.getName() + ".options",
+            Option.class.getName() + ".children");
+
+    @Bean(destroyMethod = "close")
+    public CacheManager productCacheManager(
+            @Value("${product.cache.ttl-seconds:600}") long ttlSeconds,
+            @Value("${product.cache.entity-heap-entries:10000}") long entityHeapEntries,
+            @Value("${product.cache.collection-heap-entries:10000}") long collectionHeapEntries) {
+        Map<String, CacheConfiguration<?, ?>> caches = new HashMap<>();
+        ENTITY_REGIONS.forEach(region ->
+                caches.put(region, region(entityHeapEntries, ttlSeconds)));
+        COLLECTION_REGIONS.forEach(region ->
+                caches.put(region, region(collectionHeapEntries, ttlSeconds)));
+
+        EhcacheCachingProvider provider = (EhcacheCachingProvider) Caching.getCachingProvider(
+                EhcacheCachingProvider.class.getName());
+        DefaultConfiguration configuration =
+                new DefaultConfiguration(caches, provider.getDefaultClassLoader());
+        return provider.getCacheManager(
+                URI.create("urn:solebysole:product-cache:" + UUID.randomUUID()), configuration);
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer productCacheCustomizer(CacheManager productCacheManager) {
+        return properties -> {
+            properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            properties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            properties.put(ConfigSettings.CACHE_MANAGER, productCacheManager);
+            properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+            properties.put(AvailableSettings.GENERATE_STATISTICS, true);
+        };
+    }
+
+    private static CacheConfiguration<Object, Object> region(long heapEntries, long ttlSeconds) {
+        return CacheConfigurationBuilder
+                .newCacheConfigurationBuilder(Object.class, Object.class,
+                        ResourcePoolsBuilder.heap(heapEntries))
+                .withExpiry(ExpiryPolicyBuilder.timeToLiveExpiration(Duration.ofSeconds(ttlSeconds)))
+                .build();
+    }
+
+}
@@ -0,0 +1,12 @@
+package com.solebysole.common.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 예약 작업과 관련된 설정.
+ */
+@EnableScheduling
+@Configuration
+public class SchedulingConfig {
+}
@@ -4,10 +4,13 @@ import com.solebysole.authentication.filters.AuthenticationErrorFilter;
 import com.solebysole.authentication.filters.JwtAuthenticationFilter;
 import com.solebysole.authentication.service.AuthenticationService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
+import org.springframework.boot.actuate.health.HealthEndpoint;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.config.annotation.method.configuration.EnableGlobalMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
+import org.springframework.security.config.annotation.web.builders.WebSecurity;
 import org.springframework.security.config.annotation.web.configuration.WebSecurityConfigurerAdapter;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.web.authentication.HttpStatusEntryPoint;
@@ -24,6 +27,19 @@ public class SecurityConfig extends WebSecurityConfigurerAdapter {
 
     private final AuthenticationService authenticationService;
 
+    /**
+     * 인증 헤더 없이 상품을 조회하는 요청은 보안 필터를 모두 건너뜁니다.
+     */
+    @Override
+    public void configure(WebSecurity web) {
+        web.ignoring()
+                .requestMatchers(new AnonymousCatalogRequestMatcher());
+    }
+
+    /**
+     * 액추에이터 엔드포인트는 health 를 빼고 관리자만 사용할 수 있습니다.
+     * 나머지 요청의 권한은 컨트롤러의 {@code @PreAuthorize} 로 확인합니다.
+     */
     @Override
     protected void configure(HttpSecurity http) throws Exception {
         Filter authenticationFilter = new JwtAuthenticationFilter(
@@ -38,6 +54,11 @@ public class SecurityConfig extends WebSecurityConfigurerAdapter {
                 .addFilter(authenticationFilter)
                 .addFilterBefore(authenticationErrorFilter,
                         JwtAuthenticationFilter.class)
+                .authorizeRequests()
+                .requestMatchers(EndpointRequest.to(HealthEndpoint.class)).permitAll()
+                .requestMatchers(EndpointRequest.toAnyEndpoint()).hasRole("ADMIN")
+                .anyRequest().permitAll()
+                .and()
                 .sessionManagement()
                 .sessionCreationPolicy(SessionCreationPolicy.STATELESS)
                 .and()
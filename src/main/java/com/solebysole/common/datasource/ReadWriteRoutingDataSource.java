@@ -0,0 +1,57 @@
+package com.solebysole.common.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * 읽기 전용 트랜잭션은 복제본으로, 나머지는 주 데이터베이스로 보내는 데이터 소스.
+ *
+ * 트랜잭션의 읽기 전용 여부는 커넥션을 얻은 뒤에 정해지므로, 실제 커넥션을 첫 구문까지 미루는
+ * {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy} 로 감싸서 사용해야 합니다.
+ * 쓰기 트랜잭션을 커밋한 회원의 읽기는 잠시 동안 주 데이터베이스로 보냅니다.
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    public enum Target {
+        PRIMARY, REPLICA
+    }
+
+    private final ReadYourWritesWindow readYourWritesWindow;
+
+    public ReadWriteRoutingDataSource(DataSource primary, DataSource replica,
+                                      ReadYourWritesWindow readYourWritesWindow) {
+        this.readYourWritesWindow = readYourWritesWindow;
+        setTargetDataSources(Map.of(Target.PRIMARY, primary, Target.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Target determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            recordWriteOnCommit(ReadYourWritesWindow.currentUserId());
+            return Target.PRIMARY;
+        }
+        if (readYourWritesWindow.isCurrentUserWithin()) {
+            return Target.PRIMARY;
+        }
+        return Target.REPLICA;
+    }
+
+    private void recordWriteOnCommit(Long userId) {
+        if (userId == null || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                readYourWritesWindow.recordWrite(userId);
+            }
+        });
+    }
+
+}
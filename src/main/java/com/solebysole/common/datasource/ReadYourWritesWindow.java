@@ -0,0 +1,84 @@
+package com.solebysole.common.datasource;
+
+import com.solebysole.authentication.UserAuthentication;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * 회원별 마지막 쓰기 시각을 정해진 시간 동안 보관합니다.
+ *
+ * 쓰기 직후에는 복제본에 아직 반영되지 않았을 수 있으므로, 이 시간 동안 해당 회원의 읽기는 주 데이터베이스로 보냅니다.
+ * 인스턴스마다 따로 보관하므로 다른 인스턴스에서 한 쓰기는 알지 못합니다.
+ */
+public class ReadYourWritesWindow {
+
+    private final Map<Long, Long> lastWrites = new ConcurrentHashMap<>();
+
+    private final long windowNanos;
+
+    private final int maxSize;
+
+    private final LongSupplier clock;
+
+    public ReadYourWritesWindow(long windowMillis, int maxSize) {
+        this(windowMillis, maxSize, System::nanoTime);
+    }
+
+    ReadYourWritesWindow(long windowMillis, int maxSize, LongSupplier clock) {
+        this.windowNanos = TimeUnit.MILLISECONDS.toNanos(windowMillis);
+        this.maxSize = maxSize;
+        this.clock = clock;
+    }
+
+    /**
+     * 주어진 회원이 지금 쓰기를 마쳤다고 기록합니다.
+     *
+     * @param userId 회원 식별자
+     */
+    public void recordWrite(Long userId) {
+        long now = clock.getAsLong();
+        if (lastWrites.size() >= maxSize) {
+            lastWrites.values().removeIf(writtenAt -> now - writtenAt >= windowNanos);
+        }
+        lastWrites.put(userId, now);
+    }
+
+    /**
+     * 주어진 회원이 정해진 시간 안에 쓰기를 했다면 true 를 리턴합니다.
+     *
+     * @param userId 회원 식별자
+     */
+    public boolean isWithin(Long userId) {
+        Long writtenAt = lastWrites.get(userId);
+        if (writtenAt == null) {
+            return false;
+        }
+        if (clock.getAsLong() - writtenAt < windowNanos) {
+            return true;
+        }
+        lastWrites.remove(userId, writtenAt);
+        return false;
+    }
+
+    /**
+     * 현재 로그인한 회원이 정해진 시간 안에 쓰기를 했다면 true 를 리턴합니다. 로그인하지 않았다면 false 를 리턴합니다.
+     */
+    public boolean isCurrentUserWithin() {
+        Long userId = currentUserId();
+        return userId != null && isWithin(userId);
+    }
+
+    static Long currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication instanceof UserAuthentication) {
+            return ((UserAuthentication) authentication).getUser().getId();
+        }
+        return null;
+    }
+
+}
@@ -0,0 +1,30 @@
+package com.solebysole.common.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.Getter;
+
+/**
+ * 주 데이터베이스와 읽기 복제본의 커넥션 풀.
+ *
+ * 데이터 소스 타입의 빈으로 등록하면 스프링 부트의 데이터 소스 초기화가 라우팅 데이터 소스보다 먼저 실행되므로,
+ * 두 풀을 묶어서 빈으로 등록하고 종료할 때 함께 닫습니다.
+ */
+@Getter
+public class ReplicatedDataSources implements AutoCloseable {
+
+    private final HikariDataSource primary;
+
+    private final HikariDataSource replica;
+
+    public ReplicatedDataSources(HikariDataSource primary, HikariDataSource replica) {
+        this.primary = primary;
+        this.replica = replica;
+    }
+
+    @Override
+    public void close() {
+        primary.close();
+        replica.close();
+    }
+
+}
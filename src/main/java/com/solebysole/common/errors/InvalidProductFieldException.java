@@ -0,0 +1,12 @@
+package com.solebysole.common.errors;
+
+/**
+ * 상품 응답에서 고를 수 없는 필드가 주어진 예외.
+ */
+public class InvalidProductFieldException extends RuntimeException {
+
+    public InvalidProductFieldException(String field) {
+        super("고를 수 없는 상품 필드입니다. 문제의 필드 = " + field);
+    }
+
+}
@@ -0,0 +1,20 @@
+package com.solebysole.common.errors;
+
+/**
+ * 상품 옵션을 찾을 수 없는 예외.
+ */
+public class OptionNotFoundException extends RuntimeException {
+
+    public OptionNotFoundException(String message) {
+        super(message);
+    }
+
+    public OptionNotFoundException() {
+        this("상품 옵션을 찾을 수 없습니다.");
+    }
+
+    public OptionNotFoundException(Long id) {
+        this("주어진 id에 해당하는 상품 옵션을 찾을 수 없습니다. 문제의 id = " + id);
+    }
+
+}
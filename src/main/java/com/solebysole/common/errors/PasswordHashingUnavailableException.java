@@ -0,0 +1,12 @@
+package com.solebysole.common.errors;
+
+/**
+ * 비밀번호 해시 작업이 밀려 있어 요청을 처리할 수 없는 예외.
+ */
+public class PasswordHashingUnavailableException extends RuntimeException {
+
+    public PasswordHashingUnavailableException() {
+        super("요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+    }
+
+}
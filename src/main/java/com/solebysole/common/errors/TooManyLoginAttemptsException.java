@@ -0,0 +1,21 @@
+package com.solebysole.common.errors;
+
+import lombok.Getter;
+
+/**
+ * 로그인 시도가 너무 많은 예외.
+ */
+@Getter
+public class TooManyLoginAttemptsException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    /**
+     * @param retryAfterSeconds 다시 시도할 수 있을 때까지 남은 초
+     */
+    public TooManyLoginAttemptsException(long retryAfterSeconds) {
+        super("로그인 시도가 너무 많습니다. 잠시 후 다시 시도해주세요.");
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+}
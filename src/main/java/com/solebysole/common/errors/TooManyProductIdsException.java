@@ -0,0 +1,12 @@
+package com.solebysole.common.errors;
+
+/**
+ * 한 번에 조회할 수 있는 수보다 많은 상품 식별자가 주어진 예외.
+ */
+public class TooManyProductIdsException extends RuntimeException {
+
+    public TooManyProductIdsException(int count, int max) {
+        super("한 번에 조회할 수 있는 상품 수를 넘었습니다. 주어진 수 = " + count + ", 최대 = " + max);
+    }
+
+}
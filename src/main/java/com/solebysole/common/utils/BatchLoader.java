@@ -0,0 +1,154 @@
+package com.solebysole.common.utils;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * 여러 스레드에서 들어온 키 조회를 모아서 한 번에 읽는 로더.
+ *
+ * 대기 중인 키가 없을 때 들어온 첫 조회가 정해진 시간 뒤의 일괄 조회를 예약하고, 그 사이에 들어온 키들은
+ * 같은 일괄 조회에 합쳐집니다. 모인 키가 최대 개수에 이르면 기다리지 않고 바로 읽습니다.
+ * 같은 일괄 조회 안의 같은 키는 한 번만 읽고 결과를 나눠 받습니다. 일괄 조회는 전용 스레드에서 실행합니다.
+ *
+ * @param <K> 키
+ * @param <V> 값
+ */
+@Slf4j
+public class BatchLoader<K, V> implements AutoCloseable {
+
+    private final Function<Collection<K>, Map<K, V>> batchFunction;
+
+    private final long windowMillis;
+
+    private final int maxBatchSize;
+
+    private final ScheduledExecutorService executor;
+
+    private final Counter requests;
+
+    private final DistributionSummary batchSizes;
+
+    private final Timer batchTimer;
+
+    private final Counter failures;
+
+    private Map<K, CompletableFuture<Optional<V>>> pending = new LinkedHashMap<>();
+
+    private ScheduledFuture<?> scheduled;
+
+    /**
+     * @param name 스레드와 지표에 쓸 이름
+     * @param batchFunction 주어진 키들의 값을 읽는 함수. 값이 없는 키는 결과에서 빠집니다.
+     * @param windowMillis 첫 조회 뒤 키를 모으는 시간
+     * @param maxBatchSize 한 번에 읽을 최대 키 개수
+     * @param threads 일괄 조회를 실행할 스레드 수
+     * @param meterRegistry 지표 저장소
+     */
+    public BatchLoader(String name,
+                       Function<Collection<K>, Map<K, V>> batchFunction,
+                       long windowMillis,
+                       int maxBatchSize,
+                       int threads,
+                       MeterRegistry meterRegistry) {
+        this.batchFunction = batchFunction;
+        this.windowMillis = windowMillis;
+        this.maxBatchSize = maxBatchSize;
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = Executors.newScheduledThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, name + "-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        Tags tags = Tags.of("loader", name);
+        this.requests = meterRegistry.counter("batch.loader.requests", tags);
+        this.failures = meterRegistry.counter("batch.loader.failures", tags);
+        this.batchSizes = DistributionSummary.builder("batch.loader.batch.size")
+                .tags(tags)
+                .register(meterRegistry);
+        this.batchTimer = Timer.builder("batch.loader.batch.time")
+                .tags(tags)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 주어진 키의 값을 다음 일괄 조회에서 읽도록 하고, 읽으면 완료되는 결과를 리턴합니다.
+     * 값이 없다면 비어 있는 값으로, 일괄 조회가 실패하면 예외로 완료됩니다.
+     *
+     * @param key 키
+     */
+    public CompletableFuture<Optional<V>> load(K key) {
+        requests.increment();
+
+        CompletableFuture<Optional<V>> future;
+        Map<K, CompletableFuture<Optional<V>>> full = null;
+        synchronized (this) {
+            future = pending.computeIfAbsent(key, k -> new CompletableFuture<>());
+            if (pending.size() >= maxBatchSize) {
+                full = takePending();
+            } else if (scheduled == null) {
+                scheduled = executor.schedule(this::dispatchPending, windowMillis, TimeUnit.MILLISECONDS);
+            }
+        }
+        if (full != null) {
+            Map<K, CompletableFuture<Optional<V>>> batch = full;
+            executor.execute(() -> dispatch(batch));
+        }
+        return future;
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    private synchronized Map<K, CompletableFuture<Optional<V>>> takePending() {
+        if (scheduled != null) {
+            scheduled.cancel(false);
+            scheduled = null;
+        }
+        Map<K, CompletableFuture<Optional<V>>> batch = pending;
+        pending = new LinkedHashMap<>();
+        return batch;
+    }
+
+    private void dispatchPending() {
+        dispatch(takePending());
+    }
+
+    private void dispatch(Map<K, CompletableFuture<Optional<V>>> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        batchSizes.record(batch.size());
+
+        Map<K, V> values;
+        try {
+            values = batchTimer.recordCallable(() -> batchFunction.apply(batch.keySet()));
+        } catch (Exception e) {
+            failures.increment();
+            log.warn("일괄 조회에 실패했습니다. 키 개수 = {}", batch.size(), e);
+            batch.values().forEach(future -> future.completeExceptionally(e));
+            return;
+        }
+        batch.forEach((key, future) -> future.complete(Optional.ofNullable(values.get(key))));
+    }
+
+}
@@ -0,0 +1,91 @@
+package com.solebysole.common.utils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 문자열 블룸 필터.
+ *
+ * 들어있지 않은 값을 들어있다고 잘못 답할 수는 있지만, 들어있는 값을 없다고 답하지는 않습니다.
+ * 여러 스레드에서 동시에 추가하고 확인할 수 있으며, 값을 지울 수는 없습니다.
+ */
+public class BloomFilter {
+
+    private final AtomicLongArray bits;
+
+    private final long bitCount;
+
+    private final int hashCount;
+
+    /**
+     * 주어진 개수의 값을 넣었을 때 주어진 오탐률을 넘지 않는 크기로 블룸 필터를 만듭니다.
+     *
+     * @param expectedInsertions 넣을 것으로 예상되는 값의 개수
+     * @param falsePositiveRate 오탐률
+     */
+    public BloomFilter(long expectedInsertions, double falsePositiveRate) {
+        long n = Math.max(1, expectedInsertions);
+        long m = (long) Math.ceil(-n * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        int words = (int) Math.max(1, (m + Long.SIZE - 1) / Long.SIZE);
+
+        this.bits = new AtomicLongArray(words);
+        this.bitCount = (long) words * Long.SIZE;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / n * Math.log(2)));
+    }
+
+    /**
+     * 주어진 값을 넣습니다.
+     *
+     * @param value 값
+     */
+    public void put(String value) {
+        long hash1 = hash(value, 0x9e3779b97f4a7c15L);
+        long hash2 = hash(value, 0xc2b2ae3d27d4eb4fL);
+        for (int i = 0; i < hashCount; i++) {
+            long index = Math.floorMod(hash1 + i * hash2, bitCount);
+            setBit(index);
+        }
+    }
+
+    /**
+     * 주어진 값이 들어있을 수 있다면 true, 확실히 들어있지 않다면 false 를 리턴합니다.
+     *
+     * @param value 값
+     */
+    public boolean mightContain(String value) {
+        long hash1 = hash(value, 0x9e3779b97f4a7c15L);
+        long hash2 = hash(value, 0xc2b2ae3d27d4eb4fL);
+        for (int i = 0; i < hashCount; i++) {
+            long index = Math.floorMod(hash1 + i * hash2, bitCount);
+            if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void setBit(long index) {
+        int word = (int) (index >>> 6);
+        long mask = 1L << index;
+        long current;
+        do {
+            current = bits.get(word);
+            if ((current & mask) != 0) {
+                return;
+            }
+        } while (!bits.compareAndSet(word, current, current | mask));
+    }
+
+    private static long hash(String value, long seed) {
+        long hash = seed;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b;
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+
+}
@@ -0,0 +1,35 @@
+package com.solebysole.common.utils;
+
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.util.Locale;
+
+/**
+ * 데이터 무결성 위반 예외를 다루는 도구 모음.
+ */
+public final class DataIntegrityViolations {
+
+    private DataIntegrityViolations() {
+    }
+
+    /**
+     * 주어진 예외가 주어진 이름의 제약 조건을 위반해서 발생했다면 true 를 리턴합니다.
+     *
+     * 데이터베이스마다 제약 조건 이름 앞뒤에 스키마나 인덱스 이름을 덧붙이므로, 이름이 포함되어 있는지 확인합니다.
+     *
+     * @param e 데이터 무결성 위반 예외
+     * @param constraintName 제약 조건 이름
+     */
+    public static boolean isViolationOf(DataIntegrityViolationException e, String constraintName) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException) {
+                String violated = ((ConstraintViolationException) cause).getConstraintName();
+                return violated != null && violated.toLowerCase(Locale.ROOT)
+                        .contains(constraintName.toLowerCase(Locale.ROOT));
+            }
+        }
+        return false;
+    }
+
+}
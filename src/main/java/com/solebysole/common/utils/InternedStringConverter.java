@@ -0,0 +1,25 @@
+package com.solebysole.common.utils;
+
+import javax.persistence.AttributeConverter;
+import javax.persistence.Converter;
+
+/**
+ * 읽어온 문자열을 intern 해서, 같은 값을 여러 엔티티가 읽어도 힙에는 하나만 남도록 합니다.
+ *
+ * 종류가 적고 여러 번 반복되는 짧은 값에만 사용합니다. JVM 의 문자열 풀은 더 이상 참조되지 않는 값을
+ * GC 가 거둬가므로, 따로 크기를 제한하는 풀을 두지 않습니다.
+ */
+@Converter
+public class InternedStringConverter implements AttributeConverter<String, String> {
+
+    @Override
+    public String convertToDatabaseColumn(String attribute) {
+        return attribute;
+    }
+
+    @Override
+    public String convertToEntityAttribute(String dbData) {
+        return dbData == null ? null : dbData.intern();
+    }
+
+}
@@ -0,0 +1,80 @@
+package com.solebysole.mail.application;
+
+import com.solebysole.mail.domain.OutboxMail;
+import com.solebysole.mail.domain.OutboxMailRepository;
+import com.solebysole.order.domain.Order;
+import com.solebysole.order.domain.OrderProduct;
+import com.solebysole.user.domain.User;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 보낼 메일을 발송 대기열에 넣습니다.
+ *
+ * 호출한 쪽의 트랜잭션 안에서 저장만 하므로 메일 서버를 기다리지 않으며,
+ * 트랜잭션이 롤백되면 메일도 보내지 않습니다. 발송은 {@link OutboxMailSender} 가 합니다.
+ */
+@RequiredArgsConstructor
+@Component
+public class MailOutbox {
+
+    private final OutboxMailRepository outboxMailRepository;
+
+    /**
+     * 주어진 메일을 발송 대기열에 넣습니다.
+     *
+     * @param recipient 받는 사람
+     * @param subject 제목
+     * @param body 본문
+     */
+    public void enqueue(String recipient, String subject, String body) {
+        outboxMailRepository.save(OutboxMail.builder()
+                .recipient(recipient)
+                .subject(subject)
+                .body(body)
+                .build());
+    }
+
+    /**
+     * 가입 환영 메일을 발송 대기열에 넣습니다.
+     *
+     * @param user 가입한 회원
+     */
+    public void enqueueWelcome(User user) {
+        enqueue(user.getEmail(),
+                "[SOLE BY SOLE] 가입을 환영합니다",
+                user.getName() + "님, SOLE BY SOLE 에 가입해주셔서 감사합니다.");
+    }
+
+    /**
+     * 주문 확인 메일을 발송 대기열에 넣습니다.
+     *
+     * @param user 주문한 회원
+     * @param order 주문
+     */
+    public void enqueueOrderConfirmation(User user, Order order) {
+        enqueue(user.getEmail(),
+                "[SOLE BY SOLE] 주문이 접수되었습니다",
+                user.getName() + "님, 주문번호 " + order.getId() + " 주문이 접수되었습니다.\n"
+                        + "주문 상품 " + countProducts(order) + "개");
+    }
+
+    /**
+     * 배송 시작 메일을 발송 대기열에 넣습니다.
+     *
+     * @param user 주문한 회원
+     * @param order 주문
+     */
+    public void enqueueShipping(User user, Order order) {
+        enqueue(user.getEmail(),
+                "[SOLE BY SOLE] 상품이 발송되었습니다",
+                user.getName() + "님, 주문번호 " + order.getId() + " 상품이 발송되었습니다.");
+    }
+
+    private static int countProducts(Order order) {
+        return order.getOrderProducts().stream()
+                .mapToInt(OrderProduct::getCount)
+                .sum();
+    }
+
+}
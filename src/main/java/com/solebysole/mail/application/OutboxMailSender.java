@@ -0,0 +1,209 @@
+package com.solebysole.mail.application;
+
+import com.solebysole.mail.domain.OutboxMail;
+import com.solebysole.mail.domain.OutboxMailRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 발송 대기 메일을 주기적으로 가져와 보냅니다.
+ *
+ * 한 번에 가져온 메일들은 메일 서버 연결 하나로 보냅니다. 실패한 메일은 시도할 때마다 두 배씩 늘어나는
+ * 간격을 두고 다시 보내며, 최대 시도 횟수에 이르면 포기합니다. 초당 보내는 메일 수는 정해진 수를 넘지 않습니다.
+ * 가져온 메일은 정해진 시간 동안 다른 발송자가 가져가지 않도록 미뤄두므로, 여러 인스턴스에서 실행해도
+ * 같은 메일을 동시에 보내지 않습니다.
+ */
+@Slf4j
+@ConditionalOnProperty("spring.mail.host")
+@Component
+public class OutboxMailSender {
+
+    private final OutboxMailRepository outboxMailRepository;
+
+    private final JavaMailSender javaMailSender;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final String from;
+
+    private final int batchSize;
+
+    private final int ratePerSecond;
+
+    private final int maxAttempts;
+
+    private final long backoffSeconds;
+
+    private final long maxBackoffSeconds;
+
+    private final long claimSeconds;
+
+    private final Counter sent;
+
+    private final Counter failed;
+
+    private final Counter abandoned;
+
+    private final Timer batchDuration;
+
+    private long windowStartedAt;
+
+    private int sentInWindow;
+
+    public OutboxMailSender(
+            OutboxMailRepository outboxMailRepository,
+            JavaMailSender javaMailSender,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${mail.outbox.from:no-reply@solebysole.com}") String from,
+            @Value("${mail.outbox.batch-size:50}") int batchSize,
+            @Value("${mail.outbox.rate-per-second:10}") int ratePerSecond,
+            @Value("${mail.outbox.max-attempts:5}") int maxAttempts,
+            @Value("${mail.outbox.backoff-seconds:30}") long backoffSeconds,
+            @Value("${mail.outbox.max-backoff-seconds:3600}") long maxBackoffSeconds,
+            @Value("${mail.outbox.claim-seconds:300}") long claimSeconds) {
+        this.outboxMailRepository = outboxMailRepository;
+        this.javaMailSender = javaMailSender;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.from = from;
+        this.batchSize = batchSize;
+        this.ratePerSecond = ratePerSecond;
+        this.maxAttempts = maxAttempts;
+        this.backoffSeconds = backoffSeconds;
+        this.maxBackoffSeconds = maxBackoffSeconds;
+        this.claimSeconds = claimSeconds;
+
+        this.sent = meterRegistry.counter("mail.outbox.sent");
+        this.failed = meterRegistry.counter("mail.outbox.failed");
+        this.abandoned = meterRegistry.counter("mail.outbox.abandoned");
+        this.batchDuration = meterRegistry.timer("mail.outbox.batch.duration");
+    }
+
+    /**
+     * 보낼 수 있는 만큼 발송 대기 메일을 보냅니다.
+     */
+    @Scheduled(fixedDelayString = "${mail.outbox.poll-millis:1000}")
+    public synchronized void drain() {
+        while (true) {
+            int permits = Math.min(batchSize, acquirePermits());
+            if (permits == 0) {
+                return;
+            }
+
+            List<OutboxMail> batch = claim(permits);
+            if (batch.isEmpty()) {
+                return;
+            }
+            sentInWindow += batch.size();
+
+            batchDuration.record(() -> send(batch));
+            if (batch.size() < permits) {
+                return;
+            }
+        }
+    }
+
+    private int acquirePermits() {
+        long now = System.nanoTime();
+        if (now - windowStartedAt >= TimeUnit.SECONDS.toNanos(1)) {
+            windowStartedAt = now;
+            sentInWindow = 0;
+        }
+        return Math.max(0, ratePerSecond - sentInWindow);
+    }
+
+    private List<OutboxMail> claim(int count) {
+        return transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<OutboxMail> due = outboxMailRepository.findDue(now, PageRequest.of(0, count));
+            due.forEach(mail -> mail.claim(now.plusSeconds(claimSeconds)));
+            return due;
+        });
+    }
+
+    private void send(List<OutboxMail> batch) {
+        Map<SimpleMailMessage, Long> idByMessage = new IdentityHashMap<>();
+        for (OutboxMail mail : batch) {
+            idByMessage.put(toMessage(mail), mail.getId());
+        }
+
+        Map<Long, String> errors = new HashMap<>();
+        try {
+            javaMailSender.send(idByMessage.keySet().toArray(new SimpleMailMessage[0]));
+        } catch (MailSendException e) {
+            Map<Object, Exception> failedMessages = e.getFailedMessages();
+            if (failedMessages.isEmpty()) {
+                idByMessage.values().forEach(id -> errors.put(id, e.getMessage()));
+            }
+            failedMessages.forEach((message, cause) ->
+                    errors.put(idByMessage.get(message), cause.getMessage()));
+        } catch (MailException e) {
+            idByMessage.values().forEach(id -> errors.put(id, e.getMessage()));
+        }
+
+        if (!errors.isEmpty()) {
+            log.warn("메일 {}건 중 {}건을 보내지 못했습니다.", batch.size(), errors.size());
+        }
+        record(batch, errors);
+    }
+
+    private void record(List<OutboxMail> batch, Map<Long, String> errors) {
+        List<Long> ids = batch.stream()
+                .map(OutboxMail::getId)
+                .collect(Collectors.toList());
+
+        transactionTemplate.executeWithoutResult(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            for (OutboxMail mail : outboxMailRepository.findAllById(ids)) {
+                if (!errors.containsKey(mail.getId())) {
+                    mail.markSent(now);
+                    sent.increment();
+                    continue;
+                }
+
+                mail.markFailed(errors.get(mail.getId()), now.plusSeconds(backoff(mail.getAttempts())),
+                        maxAttempts);
+                failed.increment();
+                if (mail.getAttempts() >= maxAttempts) {
+                    abandoned.increment();
+                }
+            }
+        });
+    }
+
+    private long backoff(int attempts) {
+        long multiplier = 1L << Math.min(attempts, 20);
+        return Math.min(maxBackoffSeconds, backoffSeconds * multiplier);
+    }
+
+    private SimpleMailMessage toMessage(OutboxMail mail) {
+        SimpleMailMessage message = new SimpleMailMessage();
+        message.setFrom(from);
+        message.setTo(mail.getRecipient());
+        message.setSubject(mail.getSubject());
+        message.setText(mail.getBody());
+        return message;
+    }
+
+}
@@ -0,0 +1,107 @@
+package com.solebysole.mail.domain;
+
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Lob;
+import javax.persistence.SequenceGenerator;
+import java.time.LocalDateTime;
+
+/**
+ * 발송 대기 메일.
+ *
+ * 메일을 보내야 하는 작업과 같은 트랜잭션에서 저장하고, 발송은 백그라운드에서 따로 합니다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+public class OutboxMail {
+
+    private static final int MAX_ERROR_LENGTH = 255;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "outbox_mail_seq")
+    @SequenceGenerator(name = "outbox_mail_seq", sequenceName = "outbox_mail_seq", allocationSize = 50)
+    @Column(name = "outbox_mail_id")
+    private Long id;
+
+    private String recipient;
+
+    private String subject;
+
+    @Lob
+    private String body;
+
+    @Enumerated(EnumType.STRING)
+    private OutboxMailStatus status;
+
+    private int attempts;
+
+    private LocalDateTime createdAt;
+
+    private LocalDateTime nextAttemptAt;
+
+    private LocalDateTime sentAt;
+
+    private String lastError;
+
+    @Builder
+    private OutboxMail(Long id, String recipient, String subject, String body) {
+        this.id = id;
+        this.recipient = recipient;
+        this.subject = subject;
+        this.body = body;
+        this.status = OutboxMailStatus.PENDING;
+        this.createdAt = LocalDateTime.now();
+        this.nextAttemptAt = createdAt;
+    }
+
+    /**
+     * 발송하는 동안 다른 발송자가 가져가지 않도록 주어진 시각까지 발송을 미룹니다.
+     *
+     * @param until 미룰 시각
+     */
+    public void claim(LocalDateTime until) {
+        nextAttemptAt = until;
+    }
+
+    /**
+     * 발송되었다는 표시를 합니다.
+     *
+     * @param now 발송 시각
+     */
+    public void markSent(LocalDateTime now) {
+        status = OutboxMailStatus.SENT;
+        sentAt = now;
+        attempts++;
+    }
+
+    /**
+     * 발송에 실패했다는 표시를 합니다. 최대 시도 횟수에 이르면 더 이상 발송하지 않습니다.
+     *
+     * @param error 실패 이유
+     * @param retryAt 다시 시도할 시각
+     * @param maxAttempts 최대 시도 횟수
+     */
+    public void markFailed(String error, LocalDateTime retryAt, int maxAttempts) {
+        attempts++;
+        lastError = error != null && error.length() > MAX_ERROR_LENGTH
+                ? error.substring(0, MAX_ERROR_LENGTH)
+                : error;
+        if (attempts >= maxAttempts) {
+            status = OutboxMailStatus.FAILED;
+            return;
+        }
+        nextAttemptAt = retryAt;
+    }
+
+}
@@ -0,0 +1,26 @@
+package com.solebysole.mail.domain;
+
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 발송 대기 메일 저장소.
+ */
+public interface OutboxMailRepository {
+
+    OutboxMail save(OutboxMail outboxMail);
+
+    List<OutboxMail> findAllById(Iterable<Long> ids);
+
+    /**
+     * 주어진 시각까지 발송해야 하는 대기 메일들을 식별자 순으로 잠가서 리턴합니다.
+     *
+     * @param now 기준 시각
+     * @param pageable 가져올 개수
+     * @return 발송 대기 메일 목록
+     */
+    List<OutboxMail> findDue(LocalDateTime now, Pageable pageable);
+
+}
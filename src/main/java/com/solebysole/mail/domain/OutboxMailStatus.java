@@ -0,0 +1,8 @@
+package com.solebysole.mail.domain;
+
+/**
+ * 발송 대기 메일 상태.
+ */
+public enum OutboxMailStatus {
+    PENDING, SENT, FAILED
+}
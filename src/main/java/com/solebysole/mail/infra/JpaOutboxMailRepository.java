@@ -0,0 +1,32 @@
+package com.solebysole.mail.infra;
+
+import com.solebysole.mail.domain.OutboxMail;
+import com.solebysole.mail.domain.OutboxMailRepository;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import javax.persistence.LockModeType;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * JPA 발송 대기 메일 저장소.
+ */
+public interface JpaOutboxMailRepository
+        extends OutboxMailRepository, JpaRepository<OutboxMail, Long> {
+
+    OutboxMail save(OutboxMail outboxMail);
+
+    List<OutboxMail> findAllById(Iterable<Long> ids);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select m from OutboxMail m" +
+            " where m.status = com.solebysole.mail.domain.OutboxMailStatus.PENDING" +
+            " and m.nextAttemptAt <= :now" +
+            " order by m.id")
+    List<OutboxMail> findDue(@Param("now") LocalDateTime now, Pageable pageable);
+
+}
@@ -1,26 +1,32 @@
 package com.solebysole.order.application;
 
 import com.solebysole.common.errors.ProductNotFoundException;
+import com.solebysole.mail.application.MailOutbox;
 import com.solebysole.order.domain.Delivery;
 import com.solebysole.order.domain.DeliveryStatus;
 import com.solebysole.order.domain.Order;
 import com.solebysole.order.domain.OrderProduct;
 import com.solebysole.order.domain.OrderRepository;
 import com.solebysole.order.dto.OrderCreateData;
-import com.solebysole.product.domain.Product;
+import com.solebysole.order.dto.OrderProductData;
+import com.solebysole.product.application.ProductLoader;
 import com.solebysole.product.domain.ProductRepository;
+import com.solebysole.product.dto.ProductData;
 import com.solebysole.user.domain.User;
-import lombok.RequiredArgsConstructor;
+import com.solebysole.user.domain.UserRepository;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 /**
  * 주문과 관련된 비즈니스 로직을 담당합니다.
  */
-@RequiredArgsConstructor
 @Transactional(readOnly = true)
 @Service
 public class OrderService {
@@ -29,41 +35,73 @@ public class OrderService {
 
     private final ProductRepository productRepository;
 
+    private final ProductLoader productLoader;
+
+    private final UserRepository userRepository;
+
+    private final MailOutbox mailOutbox;
+
+    private final TransactionTemplate transactionTemplate;
+
+    public OrderService(OrderRepository orderRepository,
+                        ProductRepository productRepository,
+                        ProductLoader productLoader,
+                        UserRepository userRepository,
+                        MailOutbox mailOutbox,
+                        PlatformTransactionManager transactionManager) {
+        this.orderRepository = orderRepository;
+        this.productRepository = productRepository;
+        this.productLoader = productLoader;
+        this.userRepository = userRepository;
+        this.mailOutbox = mailOutbox;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
     /**
-     * 주어진 주문 정보로 주문합니다.
+     * 주어진 주문 정보로 주문합니다. 주문 확인 메일은 발송 대기열에 넣기만 합니다.
+     * 주문할 상품들의 가격은 동시에 들어온 다른 요청의 조회와 모아서 읽으며, 기다리는 동안 커넥션을 잡지
+     * 않도록 가격을 읽은 뒤에 트랜잭션을 시작합니다.
      *
-     * @param user 현재 회원
+     * @param userId 현재 회원 식별자
      * @param orderCreateData 주문 정보
      * @return 주문 식별자
      * @throws ProductNotFoundException 상품을 찾을 수 없는 경우
      */
-    @Transactional
-    public Long order(User user, OrderCreateData orderCreateData)
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public Long order(Long userId, OrderCreateData orderCreateData)
             throws ProductNotFoundException {
-        Delivery delivery = Delivery.builder()
-                .address(orderCreateData.getAddress())
-                .status(DeliveryStatus.READY)
-                .build();
+        List<OrderProductData> orderProductDataList = orderCreateData.getOrderProductDataList();
+        Map<Long, ProductData> products = productLoader.findSummaries(
+                orderProductDataList.stream()
+                        .map(OrderProductData::getProductId)
+                        .collect(Collectors.toList()));
 
-        List<OrderProduct> orderProducts = orderCreateData.getOrderProductDataList()
-                .stream()
-                .map((orderProductData) -> {
-                    Long productId = orderProductData.getProductId();
-                    Product product = findProduct(productId);
+        return transactionTemplate.execute(status -> {
+            Delivery delivery = Delivery.builder()
+                    .address(orderCreateData.getAddress())
+                    .status(DeliveryStatus.READY)
+                    .build();
 
-                    return OrderProduct.create(product, orderProductData.getCount());
-                })
-                .collect(Collectors.toList());
+            List<OrderProduct> orderProducts = orderProductDataList.stream()
+                    .map((orderProductData) -> {
+                        Long productId = orderProductData.getProductId();
+                        ProductData product = products.get(productId);
+                        if (product == null) {
+                            throw new ProductNotFoundException(productId);
+                        }
 
-        Order order = Order.create(user, delivery, orderProducts);
-        orderRepository.save(order);
+                        return OrderProduct.create(productRepository.getOne(productId),
+                                product.getDiscountedPrice(), orderProductData.getCount());
+                    })
+                    .collect(Collectors.toList());
 
-        return order.getId();
-    }
+            User user = userRepository.getOne(userId);
+            Order order = Order.create(user, delivery, orderProducts);
+            orderRepository.save(order);
+            mailOutbox.enqueueOrderConfirmation(user, order);
 
-    private Product findProduct(Long productId) {
-        return productRepository.findById(productId)
-                .orElseThrow(() -> new ProductNotFoundException(productId));
+            return order.getId();
+        });
     }
 
 }
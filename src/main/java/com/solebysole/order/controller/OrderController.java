@@ -1,9 +1,9 @@
 package com.solebysole.order.controller;
 
 import com.solebysole.authentication.CurrentUser;
+import com.solebysole.authentication.UserPrincipal;
 import com.solebysole.order.application.OrderService;
 import com.solebysole.order.dto.OrderCreateData;
-import com.solebysole.user.domain.User;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -36,9 +36,9 @@ public class OrderController {
      */
     @PostMapping
     public ResponseEntity<Void> create(
-            @CurrentUser User user,
+            @CurrentUser UserPrincipal user,
             @RequestBody @Valid OrderCreateData orderCreateData) {
-        Long savedId = orderService.order(user, orderCreateData);
+        Long savedId = orderService.order(user.getId(), orderCreateData);
         return ResponseEntity.created(URI.create("/api/order/" + savedId)).build();
     }
 
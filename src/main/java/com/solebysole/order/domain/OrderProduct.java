@@ -11,9 +11,11 @@ import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.FetchType;
 import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
 import javax.persistence.Id;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
+import javax.persistence.SequenceGenerator;
 
 /**
  * 주문 상품.
@@ -24,7 +26,8 @@ import javax.persistence.ManyToOne;
 public class OrderProduct {
 
     @Id
-    @GeneratedValue
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "order_product_seq")
+    @SequenceGenerator(name = "order_product_seq", sequenceName = "order_product_seq", allocationSize = 50)
     @Column(name = "order_product_id")
     private Long id;
 
@@ -59,9 +62,21 @@ public class OrderProduct {
      * @return 주문 상품
      */
     public static OrderProduct create(Product product, int count) {
+        return create(product, product.getDiscountedPrice(), count);
+    }
+
+    /**
+     * 주어진 상품과 주문 가격, 개수로 주문 상품을 생성합니다. 상품은 읽지 않으므로 참조만 넘겨도 됩니다.
+     *
+     * @param product 상품
+     * @param orderPrice 주문 가격
+     * @param count 개수
+     * @return 주문 상품
+     */
+    public static OrderProduct create(Product product, int orderPrice, int count) {
         return OrderProduct.builder()
                 .product(product)
-                .orderPrice(product.getDiscountedPrice())
+                .orderPrice(orderPrice)
                 .count(count)
                 .build();
     }
@@ -0,0 +1,239 @@
+package com.solebysole.product.application;
+
+import com.solebysole.product.dto.ProductData;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+/**
+ * 메모리에 매핑한 파일에 담긴 상품 목록.
+ *
+ * 파일은 머리말, 상품 식별자 순으로 정렬된 고정 길이 레코드들, 문자열 풀로 이루어집니다.
+ * 레코드는 식별자, 가격과 문자열 풀 안의 위치만 담는 고정 길이이므로 순서로 바로 찾을 수 있고, 같은 문자열은 풀에
+ * 한 번만 저장합니다. 상품 정보는 읽을 때마다 매핑된 버퍼에서 바로 복호화하므로 힙에 목록을 두지 않습니다.
+ *
+ * <pre>
+ * 머리말  magic(int) version(int) count(int) poolOffset(int)
+ * 레코드  id(long) name(int) originalPrice(int) discountedPrice(int) imageUrl(int)
+ * 문자열  length(int) UTF-8 bytes
+ * </pre>
+ */
+public final class CatalogSnapshot {
+
+    private static final int MAGIC = 0x53425343;
+
+    private static final int VERSION = 1;
+
+    private static final int HEADER_BYTES = 16;
+
+    private static final int RECORD_BYTES = 24;
+
+    private static final int NO_STRING = -1;
+
+    private static final int NO_PRICE = Integer.MIN_VALUE;
+
+    private final ByteBuffer buffer;
+
+    private final int count;
+
+    private final List<ProductData> products = new Products();
+
+    private CatalogSnapshot(ByteBuffer buffer, int count) {
+        this.buffer = buffer;
+        this.count = count;
+    }
+
+    /**
+     * 주어진 상품들을 파일에 쓰고, 쓴 파일을 매핑한 스냅숏을 리턴합니다.
+     * 같은 디렉터리의 임시 파일에 다 쓴 뒤 옮기므로, 읽는 쪽은 이전 파일이나 새 파일 중 하나만 봅니다.
+     *
+     * @param path 스냅숏 파일 경로
+     * @param products 상품들
+     * @throws IOException 파일을 쓸 수 없거나 2GB 를 넘는 경우
+     */
+    public static CatalogSnapshot write(Path path, List<ProductData> products) throws IOException {
+        List<ProductData> sorted = new ArrayList<>(products);
+        sorted.sort(Comparator.comparing(ProductData::getId));
+
+        Map<String, Integer> offsets = new HashMap<>();
+        List<byte[]> pool = new ArrayList<>();
+        int[] references = new int[sorted.size() * 2];
+        long poolOffset = HEADER_BYTES + (long) sorted.size() * RECORD_BYTES;
+        long poolBytes = 0;
+        for (int i = 0; i < sorted.size(); i++) {
+            ProductData product = sorted.get(i);
+            for (int field = 0; field < 2; field++) {
+                String value = field == 0 ? product.getName() : product.getImageUrl();
+                if (value == null) {
+                    references[i * 2 + field] = NO_STRING;
+                    continue;
+                }
+                Integer offset = offsets.get(value);
+                if (offset == null) {
+                    byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+                    offset = checkedOffset(poolOffset + poolBytes);
+                    offsets.put(value, offset);
+                    pool.add(bytes);
+                    poolBytes += Integer.BYTES + bytes.length;
+                }
+                references[i * 2 + field] = offset;
+            }
+        }
+        int fileBytes = checkedOffset(poolOffset + poolBytes);
+
+        Path temporary = Files.createTempFile(path.toAbsolutePath().getParent(),
+                path.getFileName().toString(), ".tmp");
+        try (FileChannel channel = FileChannel.open(temporary,
+                StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            MappedByteBuffer out = channel.map(FileChannel.MapMode.READ_WRITE, 0, fileBytes);
+            out.putInt(MAGIC).putInt(VERSION).putInt(sorted.size()).putInt((int) poolOffset);
+            for (int i = 0; i < sorted.size(); i++) {
+                ProductData product = sorted.get(i);
+                out.putLong(product.getId())
+                        .putInt(references[i * 2])
+                        .putInt(price(product.getOriginalPrice()))
+                        .putInt(price(product.getDiscountedPrice()))
+                        .putInt(references[i * 2 + 1]);
+            }
+            for (byte[] bytes : pool) {
+                out.putInt(bytes.length).put(bytes);
+            }
+            out.force();
+        }
+        Files.move(temporary, path,
+                StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+
+        return open(path);
+    }
+
+    /**
+     * 주어진 스냅숏 파일을 읽기 전용으로 매핑합니다.
+     *
+     * @param path 스냅숏 파일 경로
+     * @throws IOException 파일을 읽을 수 없거나 형식이 맞지 않는 경우
+     */
+    public static CatalogSnapshot open(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long fileBytes = channel.size();
+            if (fileBytes < HEADER_BYTES || fileBytes > Integer.MAX_VALUE) {
+                throw new IOException("잘못된 카탈로그 스냅숏 파일입니다. 파일 = " + path);
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, fileBytes);
+            int count = buffer.getInt(8);
+            if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION || count < 0
+                    || buffer.getInt(12) != HEADER_BYTES + (long) count * RECORD_BYTES
+                    || buffer.getInt(12) > fileBytes) {
+                throw new IOException("잘못된 카탈로그 스냅숏 파일입니다. 파일 = " + path);
+            }
+            return new CatalogSnapshot(buffer, count);
+        }
+    }
+
+    private static int checkedOffset(long offset) throws IOException {
+        if (offset > Integer.MAX_VALUE) {
+            throw new IOException("카탈로그 스냅숏이 2GB 를 넘습니다.");
+        }
+        return (int) offset;
+    }
+
+    private static int price(Integer price) {
+        return price == null ? NO_PRICE : price;
+    }
+
+    private static Integer price(int price) {
+        return price == NO_PRICE ? null : price;
+    }
+
+    public int size() {
+        return count;
+    }
+
+    /**
+     * 식별자 순으로 정렬된 모든 상품을 리턴합니다. 목록의 원소는 꺼낼 때마다 복호화합니다.
+     */
+    public List<ProductData> products() {
+        return products;
+    }
+
+    /**
+     * 주어진 상품들이 이 스냅숏과 같은 내용이라면 true 를 리턴합니다.
+     *
+     * @param products 식별자 순으로 정렬된 상품들
+     */
+    public boolean hasSameProducts(List<ProductData> products) {
+        if (products.size() != count) {
+            return false;
+        }
+        for (int i = 0; i < count; i++) {
+            ProductData stored = decode(i);
+            ProductData product = products.get(i);
+            if (!stored.getId().equals(product.getId())
+                    || !Objects.equals(stored.getName(), product.getName())
+                    || !Objects.equals(stored.getOriginalPrice(), product.getOriginalPrice())
+                    || !Objects.equals(stored.getDiscountedPrice(), product.getDiscountedPrice())
+                    || !Objects.equals(stored.getImageUrl(), product.getImageUrl())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int record(int index) {
+        return HEADER_BYTES + index * RECORD_BYTES;
+    }
+
+    private ProductData decode(int index) {
+        int record = record(index);
+        return ProductData.builder()
+                .id(buffer.getLong(record))
+                .name(string(buffer.getInt(record + 8)))
+                .originalPrice(price(buffer.getInt(record + 12)))
+                .discountedPrice(price(buffer.getInt(record + 16)))
+                .imageUrl(string(buffer.getInt(record + 20)))
+                .build();
+    }
+
+    private String string(int offset) {
+        if (offset == NO_STRING) {
+            return null;
+        }
+        byte[] bytes = new byte[buffer.getInt(offset)];
+        ByteBuffer view = buffer.duplicate();
+        view.position(offset + Integer.BYTES);
+        view.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private class Products extends AbstractList<ProductData> implements RandomAccess {
+
+        @Override
+        public ProductData get(int index) {
+            if (index < 0 || index >= count) {
+                throw new IndexOutOfBoundsException("index = " + index + ", size = " + count);
+            }
+            return decode(index);
+        }
+
+        @Override
+        public int size() {
+            return count;
+        }
+
+    }
+
+}
@@ -0,0 +1,127 @@
+package com.solebysole.product.application;
+
+import com.solebysole.product.domain.ProductChangedEvent;
+import com.solebysole.product.domain.ProductRepository;
+import com.solebysole.product.domain.ProductSummary;
+import com.solebysole.product.dto.ProductData;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PostConstruct;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 상품 목록을 메모리 매핑 파일 스냅숏으로 보관합니다.
+ *
+ * 경로가 주어졌을 때만 사용합니다. 기동할 때 이미 파일이 있으면 바로 그 파일로 목록을 제공하고,
+ * 저장소에서 다시 읽어 새 파일로 바꿉니다. 이 인스턴스에서 상품이 바뀌면 새 파일을 만들 때까지 스냅숏을
+ * 쓰지 않으며, 다른 인스턴스의 변경은 정해진 주기마다 다시 만들면서 반영합니다.
+ */
+@Slf4j
+@Component
+public class CatalogSnapshotStore {
+
+    private final ProductRepository productRepository;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final Path path;
+
+    private final long maxAgeMillis;
+
+    private volatile CatalogSnapshot snapshot;
+
+    private volatile boolean changed;
+
+    private long builtAt;
+
+    public CatalogSnapshotStore(
+            ProductRepository productRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${product.catalog-snapshot.path:}") String path,
+            @Value("${product.catalog-snapshot.max-age-millis:300000}") long maxAgeMillis) {
+        this.productRepository = productRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.path = path.isBlank() ? null : Paths.get(path);
+        this.maxAgeMillis = maxAgeMillis;
+    }
+
+    /**
+     * 이전에 만든 스냅숏 파일이 있다면 엽니다. 파일은 다음 갱신 때 저장소와 비교해 다시 만듭니다.
+     */
+    @PostConstruct
+    public void open() {
+        if (path == null || !Files.exists(path)) {
+            return;
+        }
+        try {
+            snapshot = CatalogSnapshot.open(path);
+        } catch (IOException e) {
+            log.warn("카탈로그 스냅숏을 열 수 없어 새로 만듭니다. 파일 = {}", path, e);
+        }
+    }
+
+    /**
+     * 사용할 수 있는 스냅숏을 리턴합니다. 사용하지 않거나, 아직 없거나, 이 인스턴스에서 바뀐 상품이
+     * 반영되지 않았다면 비어 있습니다.
+     */
+    public Optional<CatalogSnapshot> current() {
+        if (changed) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(snapshot);
+    }
+
+    /**
+     * 스냅숏이 없거나, 바뀐 상품이 있거나, 정해진 시간이 지났다면 저장소에서 상품 요약 정보를 다시 읽습니다.
+     * 기동 후 처음 호출될 때는 항상 다시 읽습니다. 읽은 목록이 지금 스냅숏과 같다면 새 파일을 만들지 않습니다.
+     */
+    @Scheduled(fixedDelayString = "${product.catalog-snapshot.poll-millis:1000}")
+    public synchronized void refresh() {
+        if (path == null) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        if (builtAt != 0 && !changed && now - builtAt < maxAgeMillis) {
+            return;
+        }
+
+        changed = false;
+        List<ProductData> products = transactionTemplate.execute(status -> {
+            try (Stream<ProductSummary> summaries = productRepository.streamAllSummaries()) {
+                return summaries.map(ProductData::of)
+                        .collect(Collectors.toList());
+            }
+        });
+        if (snapshot != null && snapshot.hasSameProducts(products)) {
+            builtAt = now;
+            return;
+        }
+        try {
+            snapshot = CatalogSnapshot.write(path, products);
+            builtAt = now;
+        } catch (IOException e) {
+            changed = true;
+            log.warn("카탈로그 스냅숏을 만들 수 없습니다. 파일 = {}", path, e);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleProductChanged(ProductChangedEvent event) {
+        changed = true;
+    }
+
+}
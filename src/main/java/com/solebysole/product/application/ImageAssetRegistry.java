@@ -0,0 +1,102 @@
+package com.solebysole.product.application;
+
+import com.solebysole.common.utils.DataIntegrityViolations;
+import com.solebysole.product.domain.ImageAsset;
+import com.solebysole.product.domain.ImageAssetRepository;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 이미지 주소마다 이미지 파일을 한 번만 저장합니다.
+ *
+ * 새 주소는 상품 트랜잭션을 시작하기 전에 따로 트랜잭션을 열어 저장하고 바로 커밋합니다. 트랜잭션을 중첩하지 않으므로
+ * 상품을 만드는 동안 커넥션을 두 개 잡지 않습니다. 같은 새 주소로 동시에 상품을 만들면 한 쪽은 유일 제약 조건을
+ * 위반하는데, 이때는 다른 쪽이 저장한 이미지 파일을 다시 찾아서 씁니다.
+ * 상품 저장이 실패해도 저장한 이미지 파일은 남으며, 같은 주소를 쓰는 다음 상품이 재사용합니다.
+ */
+@Component
+public class ImageAssetRegistry {
+
+    private static final int MAX_ATTEMPTS = 3;
+
+    private final ImageAssetRepository imageAssetRepository;
+
+    private final TransactionTemplate transactionTemplate;
+
+    public ImageAssetRegistry(ImageAssetRepository imageAssetRepository,
+                              PlatformTransactionManager transactionManager) {
+        this.imageAssetRepository = imageAssetRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * 주어진 주소들의 이미지 파일 식별자를 리턴합니다. 저장되지 않은 주소는 저장하고 커밋합니다.
+     * 다른 트랜잭션이 먼저 저장해서 충돌했다면, 롤백한 뒤 저장된 이미지 파일을 찾고 나머지만 다시 저장합니다.
+     * 충돌하면 트랜잭션을 롤백하므로, 트랜잭션 밖에서 호출해야 합니다.
+     *
+     * @param urls 이미지 주소들
+     * @return 주소별 이미지 파일 식별자
+     * @throws DataIntegrityViolationException 다른 트랜잭션과 계속 충돌하는 경우
+     */
+    public Map<String, Long> findOrCreate(Set<String> urls) {
+        Set<String> sortedUrls = new TreeSet<>(urls);
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> findOrSave(sortedUrls));
+            } catch (DataIntegrityViolationException e) {
+                if (attempt >= MAX_ATTEMPTS
+                        || !DataIntegrityViolations.isViolationOf(e, ImageAsset.URL_UNIQUE_CONSTRAINT)) {
+                    throw e;
+                }
+            }
+        }
+    }
+
+    /**
+     * 주어진 식별자의 이미지 파일을 현재 트랜잭션에서 참조할 수 있도록 리턴합니다. 이미지 파일을 조회하지 않습니다.
+     *
+     * @param id 이미지 파일 식별자
+     * @return 이미지 파일 참조
+     */
+    public ImageAsset getReference(Long id) {
+        return imageAssetRepository.getOne(id);
+    }
+
+    /**
+     * 저장된 이미지 파일을 찾고, 없는 주소만 저장합니다.
+     * 두 트랜잭션이 서로의 주소를 기다리지 않도록 주소 순서대로 저장합니다.
+     */
+    private Map<String, Long> findOrSave(Set<String> sortedUrls) {
+        Map<String, Long> ids = new HashMap<>();
+        findAll(sortedUrls).forEach((url, asset) -> ids.put(url, asset.getId()));
+
+        List<ImageAsset> created = sortedUrls.stream()
+                .filter(url -> !ids.containsKey(url))
+                .map(ImageAsset::new)
+                .collect(Collectors.toList());
+        if (!created.isEmpty()) {
+            imageAssetRepository.saveAll(created);
+            imageAssetRepository.flush();
+        }
+
+        created.forEach(asset -> ids.put(asset.getUrl(), asset.getId()));
+        return ids;
+    }
+
+    private Map<String, ImageAsset> findAll(Collection<String> urls) {
+        return imageAssetRepository.findAllByUrlIn(urls).stream()
+                .collect(Collectors.toMap(ImageAsset::getUrl, Function.identity()));
+    }
+
+}
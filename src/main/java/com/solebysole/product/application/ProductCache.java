@@ -0,0 +1,62 @@
+package com.solebysole.product.application;
+
+import com.solebysole.product.domain.Image;
+import com.solebysole.product.domain.Keyword;
+import com.solebysole.product.domain.Option;
+import com.solebysole.product.domain.Product;
+import com.solebysole.product.domain.ProductChangedEvent;
+import com.solebysole.product.domain.ProductDescription;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import javax.persistence.EntityManagerFactory;
+
+/**
+ * 상품 애그리거트의 2차 캐시를 비웁니다.
+ *
+ * 상품이 변경되면 커밋된 뒤에 상품과 상품의 컬렉션을 지웁니다. 상품 설명, 옵션, 이미지, 키워드는 어느 상품의
+ * 것인지 알려면 다시 읽어야 하고 상품 쓰기는 드물기 때문에, 해당 영역을 통째로 비웁니다.
+ */
+@Component
+public class ProductCache {
+
+    private final Cache cache;
+
+    public ProductCache(EntityManagerFactory entityManagerFactory) {
+        this.cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+    }
+
+    /**
+     * 주어진 상품 식별자의 상품이 캐시에 있는지 확인합니다.
+     *
+     * @param productId 상품 식별자
+     */
+    public boolean contains(Long productId) {
+        return cache.containsEntity(Product.class, productId);
+    }
+
+    /**
+     * 주어진 상품 식별자의 상품과 상품에 속한 엔티티들을 캐시에서 지웁니다.
+     *
+     * @param productId 상품 식별자
+     */
+    public void evict(Long productId) {
+        cache.evictEntityData(Product.class, productId);
+        cache.evictCollectionData(Product.class.getName() + ".keywords", productId);
+        cache.evictCollectionData(Product.class.getName() + ".images", productId);
+        cache.evictCollectionData(Product.class.getName() + ".options", productId);
+        cache.evictEntityData(ProductDescription.class);
+        cache.evictEntityData(Option.class);
+        cache.evictCollectionData(Option.class.getName() + ".children");
+        cache.evictEntityData(Image.class);
+        cache.evictEntityData(Keyword.class);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleProductChanged(ProductChangedEvent event) {
+        evict(event.getProductId());
+    }
+
+}
@@ -0,0 +1,194 @@
+package com.solebysole.product.application;
+
+import com.solebysole.common.datasource.ReadYourWritesWindow;
+import com.solebysole.common.utils.BatchLoader;
+import com.solebysole.product.domain.Option;
+import com.solebysole.product.domain.Product;
+import com.solebysole.product.domain.ProductRepository;
+import com.solebysole.product.domain.ProductSummary;
+import com.solebysole.product.dto.ProductData;
+import com.solebysole.product.dto.ProductDetailData;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.Hibernate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PreDestroy;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * 여러 요청의 상품 조회를 짧은 시간 동안 모아서 한 번에 읽습니다.
+ *
+ * 모아서 읽은 상품은 다른 트랜잭션에서 읽은 것이므로, 엔티티 대신 다 읽어둔 상품 정보로 돌려줍니다.
+ * 정해진 시간 안에 결과를 받지 못하거나 일괄 조회가 실패하면, 호출한 쪽의 트랜잭션에서 직접 읽습니다.
+ * 2차 캐시에 있는 상품의 상세 정보는 기다리지 않고 바로 캐시에서 읽습니다.
+ * 일괄 조회 스레드는 호출한 회원을 모르므로 복제본에서 읽습니다. 쓰기 트랜잭션 안에서 호출하거나 쓰기 직후의
+ * 회원이 호출하면 주 데이터베이스에서 읽어야 하므로, 모으지 않고 호출한 쪽에서 직접 읽습니다.
+ */
+@Component
+public class ProductLoader {
+
+    private final ProductRepository productRepository;
+
+    private final ProductCache productCache;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final Optional<ReadYourWritesWindow> readYourWritesWindow;
+
+    private final boolean enabled;
+
+    private final long waitTimeoutMillis;
+
+    private final BatchLoader<Long, ProductData> summaryLoader;
+
+    private final BatchLoader<Long, ProductDetailData> detailLoader;
+
+    private final Counter fallbacks;
+
+    public ProductLoader(
+            ProductRepository productRepository,
+            ProductCache productCache,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            Optional<ReadYourWritesWindow> readYourWritesWindow,
+            @Value("${product.loader.enabled:true}") boolean enabled,
+            @Value("${product.loader.window-millis:2}") long windowMillis,
+            @Value("${product.loader.max-batch-size:50}") int maxBatchSize,
+            @Value("${product.loader.threads:2}") int threads,
+            @Value("${product.loader.wait-timeout-millis:100}") long waitTimeoutMillis) {
+        this.productRepository = productRepository;
+        this.productCache = productCache;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.readYourWritesWindow = readYourWritesWindow;
+        this.enabled = enabled;
+        this.waitTimeoutMillis = waitTimeoutMillis;
+        this.summaryLoader = new BatchLoader<>("product-summary-loader", this::loadSummaries,
+                windowMillis, maxBatchSize, threads, meterRegistry);
+        this.detailLoader = new BatchLoader<>("product-detail-loader", this::loadDetails,
+                windowMillis, maxBatchSize, threads, meterRegistry);
+        this.fallbacks = meterRegistry.counter("product.loader.fallbacks");
+    }
+
+    @PreDestroy
+    public void close() {
+        summaryLoader.close();
+        detailLoader.close();
+    }
+
+    /**
+     * 주어진 식별자들의 상품 요약 정보를 리턴합니다. 이미지 주소는 담지 않으며, 없는 상품은 빠집니다.
+     *
+     * @param ids 상품 식별자들
+     */
+    public Map<Long, ProductData> findSummaries(Collection<Long> ids) {
+        if (!enabled || mustReadPrimary()) {
+            return readSummaries(ids);
+        }
+
+        Map<Long, CompletableFuture<Optional<ProductData>>> futures = new LinkedHashMap<>();
+        ids.forEach(id -> futures.computeIfAbsent(id, summaryLoader::load));
+
+        return await(CompletableFuture.allOf(futures.values().toArray(new CompletableFuture<?>[0])),
+                () -> {
+                    Map<Long, ProductData> summaries = new LinkedHashMap<>();
+                    futures.forEach((id, future) -> future.join()
+                            .ifPresent(summary -> summaries.put(id, summary)));
+                    return summaries;
+                },
+                () -> readSummaries(ids));
+    }
+
+    /**
+     * 주어진 식별자의 상품 상세 정보를 리턴합니다.
+     *
+     * @param id 상품 식별자
+     */
+    public Optional<ProductDetailData> findDetail(Long id) {
+        if (!enabled || mustReadPrimary() || productCache.contains(id)) {
+            return readDetail(id);
+        }
+
+        CompletableFuture<Optional<ProductDetailData>> future = detailLoader.load(id);
+        return await(future, future::join, () -> readDetail(id));
+    }
+
+    private boolean mustReadPrimary() {
+        if (TransactionSynchronizationManager.isActualTransactionActive()
+                && !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return true;
+        }
+        return readYourWritesWindow
+                .map(ReadYourWritesWindow::isCurrentUserWithin)
+                .orElse(false);
+    }
+
+    private <T> T await(CompletableFuture<?> future, Supplier<T> result, Supplier<T> fallback) {
+        try {
+            future.get(waitTimeoutMillis, TimeUnit.MILLISECONDS);
+            return result.get();
+        } catch (TimeoutException | ExecutionException e) {
+            fallbacks.increment();
+            return fallback.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            fallbacks.increment();
+            return fallback.get();
+        }
+    }
+
+    private Map<Long, ProductData> readSummaries(Collection<Long> ids) {
+        return productRepository.findAllSummariesByIdIn(ids).stream()
+                .collect(Collectors.toMap(ProductSummary::getId, ProductData::of));
+    }
+
+    private Optional<ProductDetailData> readDetail(Long id) {
+        return transactionTemplate.execute(status -> productRepository.findById(id)
+                .map(ProductDetailData::of));
+    }
+
+    private Map<Long, ProductData> loadSummaries(Collection<Long> ids) {
+        return transactionTemplate.execute(status -> readSummaries(ids));
+    }
+
+    /**
+     * 주어진 상품들을 읽고, 트랜잭션이 끝난 뒤에도 응답할 수 있도록 설명과 컬렉션을 모두 읽어둡니다.
+     * 컬렉션은 일괄 페치 크기만큼 한 번에 읽으므로, 쿼리 수는 상품 수와 관계없습니다.
+     */
+    private Map<Long, ProductDetailData> loadDetails(Collection<Long> ids) {
+        return transactionTemplate.execute(status -> {
+            List<Product> products = productRepository.findAllByIdIn(ids);
+            products.forEach(ProductLoader::initialize);
+            return products.stream()
+                    .collect(Collectors.toMap(Product::getId, ProductDetailData::of));
+        });
+    }
+
+    private static void initialize(Product product) {
+        product.getDescription();
+        Hibernate.initialize(product.getKeywords());
+        Hibernate.initialize(product.getImages());
+        initialize(product.getOptions());
+    }
+
+    private static void initialize(List<Option> options) {
+        Hibernate.initialize(options);
+        options.forEach(option -> initialize(option.getChildren()));
+    }
+
+}
@@ -0,0 +1,77 @@
+package com.solebysole.product.application;
+
+import com.solebysole.common.utils.BloomFilter;
+import com.solebysole.product.domain.ProductRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.util.List;
+
+/**
+ * 이미 사용 중인 상품 이름을 블룸 필터로 보관합니다.
+ *
+ * 필터에 없는 이름은 확실히 사용 중이지 않으므로 저장소를 조회하지 않아도 됩니다.
+ * 다른 인스턴스에서 추가된 이름은 모를 수 있으므로, 최종 확인은 유일 제약 조건이 맡습니다.
+ */
+@Component
+public class ProductNameFilter {
+
+    private final ProductRepository productRepository;
+
+    private final long expectedInsertions;
+
+    private final double falsePositiveRate;
+
+    private volatile BloomFilter filter;
+
+    private long capacity;
+
+    private long size;
+
+    public ProductNameFilter(
+            ProductRepository productRepository,
+            @Value("${product.name-filter.expected-insertions:100000}") long expectedInsertions,
+            @Value("${product.name-filter.false-positive-rate:0.01}") double falsePositiveRate) {
+        this.productRepository = productRepository;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+        this.capacity = expectedInsertions;
+        this.filter = new BloomFilter(expectedInsertions, falsePositiveRate);
+    }
+
+    /**
+     * 주어진 이름을 사용 중일 수 있다면 true, 확실히 사용 중이지 않다면 false 를 리턴합니다.
+     *
+     * @param name 상품 이름
+     */
+    public boolean mightExist(String name) {
+        return filter.mightContain(name);
+    }
+
+    /**
+     * 주어진 이름을 사용 중으로 표시합니다. 예상보다 많이 추가되었다면 저장소에서 다시 읽어 필터를 만듭니다.
+     *
+     * @param name 상품 이름
+     */
+    public synchronized void add(String name) {
+        filter.put(name);
+        if (++size > capacity) {
+            load();
+        }
+    }
+
+    /**
+     * 저장소에서 모든 상품 이름을 읽어 필터를 다시 만듭니다.
+     */
+    @PostConstruct
+    public synchronized void load() {
+        List<String> names = productRepository.findAllNames();
+        capacity = Math.max(expectedInsertions, names.size() * 2L);
+        BloomFilter rebuilt = new BloomFilter(capacity, falsePositiveRate);
+        names.forEach(rebuilt::put);
+        size = names.size();
+        filter = rebuilt;
+    }
+
+}
@@ -1,34 +1,95 @@
 package com.solebysole.product.application;
 
+import com.solebysole.product.domain.Image;
+import com.solebysole.product.domain.ImageAsset;
 import com.solebysole.product.domain.Product;
+import com.solebysole.product.domain.ProductChangedEvent;
 import com.solebysole.product.domain.ProductRepository;
+import com.solebysole.product.domain.ProductSummary;
 import com.solebysole.product.dto.ProductCreateData;
 import com.solebysole.product.dto.ProductData;
 import com.solebysole.product.dto.ProductDetailData;
+import com.solebysole.product.dto.ProductDetailListData;
+import com.solebysole.product.dto.ProductField;
 import com.solebysole.common.errors.ProductNameDuplicationException;
 import com.solebysole.common.errors.ProductNotFoundException;
-import lombok.RequiredArgsConstructor;
+import com.solebysole.common.errors.TooManyProductIdsException;
+import com.solebysole.common.utils.DataIntegrityViolations;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * 상품과 관련된 비즈니스 로직을 담당합니다.
  */
 @Service
-@RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class ProductService {
 
+    /**
+     * 한 번에 조회할 수 있는 최대 상품 수.
+     */
+    public static final int MAX_IDS_PER_REQUEST = 100;
+
     private final ProductRepository productRepository;
 
+    private final ImageAssetRegistry imageAssetRegistry;
+
+    private final ProductNameFilter productNameFilter;
+
+    private final CatalogSnapshotStore catalogSnapshotStore;
+
+    private final ProductCache productCache;
+
+    private final ProductLoader productLoader;
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final TransactionTemplate transactionTemplate;
+
+    public ProductService(ProductRepository productRepository,
+                          ImageAssetRegistry imageAssetRegistry,
+                          ProductNameFilter productNameFilter,
+                          CatalogSnapshotStore catalogSnapshotStore,
+                          ProductCache productCache,
+                          ProductLoader productLoader,
+                          ApplicationEventPublisher eventPublisher,
+                          PlatformTransactionManager transactionManager) {
+        this.productRepository = productRepository;
+        this.imageAssetRegistry = imageAssetRegistry;
+        this.productNameFilter = productNameFilter;
+        this.catalogSnapshotStore = catalogSnapshotStore;
+        this.productCache = productCache;
+        this.productLoader = productLoader;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
     /**
-     * 모든 상품을 리턴합니다.
+     * 모든 상품을 리턴합니다. 카탈로그 스냅숏을 쓸 수 있다면 저장소 대신 스냅숏에서 읽습니다.
      */
     public List<ProductData> getProducts() {
+        Optional<CatalogSnapshot> snapshot = catalogSnapshotStore.current();
+        if (snapshot.isPresent()) {
+            return snapshot.get().products();
+        }
+
         List<Product> products = productRepository.findAll();
 
         return Collections.unmodifiableList(
@@ -39,37 +100,174 @@ public class ProductService {
     }
 
     /**
-     * 주어진 id에 해당하는 상품 상세 정보를 리턴합니다.
+     * 모든 상품의 주어진 필드만 리턴합니다. 이미지 주소를 고르지 않으면 이미지를 읽지 않습니다.
+     *
+     * @param fields 고른 필드
+     */
+    public List<ProductData> getProducts(Set<ProductField> fields) {
+        Optional<CatalogSnapshot> snapshot = catalogSnapshotStore.current();
+        if (snapshot.isPresent()) {
+            return Collections.unmodifiableList(
+                    snapshot.get().products().stream()
+                            .map(product -> product.select(fields))
+                            .collect(Collectors.toList())
+            );
+        }
+
+        try (Stream<ProductSummary> summaries = fields.contains(ProductField.IMAGE_URL)
+                ? productRepository.streamAllSummaries()
+                : productRepository.streamAllSummariesWithoutImageUrl()) {
+            return Collections.unmodifiableList(
+                    summaries.map(summary -> ProductData.of(summary).select(fields))
+                            .collect(Collectors.toList())
+            );
+        }
+    }
+
+    /**
+     * 모든 상품을 식별자 순으로 하나씩 주어진 함수에 넘깁니다.
+     * 목록을 메모리에 모으지 않으며, 저장소에서 읽는 경우 다 넘길 때까지 트랜잭션을 유지합니다.
+     *
+     * @param action 상품을 받을 함수
+     */
+    public void forEachProduct(Consumer<ProductData> action) {
+        Optional<CatalogSnapshot> snapshot = catalogSnapshotStore.current();
+        if (snapshot.isPresent()) {
+            snapshot.get().products().forEach(action);
+            return;
+        }
+
+        try (Stream<ProductSummary> summaries = productRepository.streamAllSummaries()) {
+            summaries.map(ProductData::of)
+                    .forEach(action);
+        }
+    }
+
+    /**
+     * 주어진 id에 해당하는 상품 상세 정보를 리턴합니다. 동시에 들어온 다른 요청의 조회와 모아서 읽으며,
+     * 기다리는 동안 커넥션을 잡지 않도록 트랜잭션을 시작하지 않습니다.
      *
      * @param id 상품의 식별자
      * @return 주어진 id에 해당하는 상품 상세 정보
      * @throws ProductNotFoundException 상품을 찾을 수 없는 경우
      */
+    @Transactional(propagation = Propagation.SUPPORTS)
     public ProductDetailData getProduct(Long id) throws ProductNotFoundException {
+        return productLoader.findDetail(id)
+                .orElseThrow(() -> new ProductNotFoundException(id));
+    }
+
+    /**
+     * 주어진 id에 해당하는 상품 상세 정보 중 주어진 필드만 리턴합니다.
+     * 고르지 않은 설명, 키워드, 이미지, 옵션은 읽지 않습니다.
+     *
+     * @param id 상품의 식별자
+     * @param fields 고른 필드
+     * @return 주어진 id에 해당하는 상품 상세 정보
+     * @throws ProductNotFoundException 상품을 찾을 수 없는 경우
+     */
+    public ProductDetailData getProduct(Long id, Set<ProductField> fields) throws ProductNotFoundException {
         Product product = findProductById(id);
 
-        return ProductDetailData.of(product);
+        return ProductDetailData.of(product, fields);
+    }
+
+    /**
+     * 주어진 식별자들에 해당하는 상품 상세 정보 중 주어진 필드만 요청한 순서대로 리턴합니다.
+     * 중복된 식별자는 처음 것만 남기고, 찾을 수 없는 식별자는 실패 대신 따로 알려줍니다.
+     * 캐시에 있는 상품은 캐시에서 읽고, 나머지는 한 번의 쿼리로 읽습니다.
+     *
+     * @param ids 상품 식별자들
+     * @param fields 고른 필드
+     * @throws TooManyProductIdsException 식별자가 최대 수보다 많은 경우
+     */
+    public ProductDetailListData getProductsByIds(List<Long> ids, Set<ProductField> fields)
+            throws TooManyProductIdsException {
+        Set<Long> requested = new LinkedHashSet<>(ids);
+        if (requested.size() > MAX_IDS_PER_REQUEST) {
+            throw new TooManyProductIdsException(requested.size(), MAX_IDS_PER_REQUEST);
+        }
+
+        Map<Long, Product> found = new HashMap<>();
+        List<Long> uncached = new ArrayList<>();
+        for (Long id : requested) {
+            if (productCache.contains(id)) {
+                productRepository.findById(id)
+                        .ifPresent(product -> found.put(id, product));
+            } else {
+                uncached.add(id);
+            }
+        }
+        if (!uncached.isEmpty()) {
+            productRepository.findAllByIdIn(uncached)
+                    .forEach(product -> found.put(product.getId(), product));
+        }
+
+        List<ProductDetailData> products = new ArrayList<>();
+        List<Long> missingIds = new ArrayList<>();
+        for (Long id : requested) {
+            Product product = found.get(id);
+            if (product == null) {
+                missingIds.add(id);
+            } else {
+                products.add(ProductDetailData.of(product, fields));
+            }
+        }
+
+        return ProductDetailListData.builder()
+                .products(Collections.unmodifiableList(products))
+                .missingIds(Collections.unmodifiableList(missingIds))
+                .build();
     }
 
     /**
      * 주어진 상품 정보로 상품을 생성하고, 상품의 식별자를 리턴합니다.
+     * 사용 중일 수 있는 이름만 저장소에서 중복을 확인하며, 동시에 생성되는 경우는 유일 제약 조건으로 확인합니다.
+     * 이미지 파일은 상품 트랜잭션을 시작하기 전에 찾거나 저장하며, 커넥션을 두 개 잡지 않도록 저장소는 트랜잭션 안에서만
+     * 읽습니다.
      *
      * @param productCreateData 상품 정보
      * @return 상품 식별자
      * @throws ProductNameDuplicationException 상품의 이름이 중복될 경우
      */
-    @Transactional
+    @Transactional(propagation = Propagation.SUPPORTS)
     public Long createProduct(ProductCreateData productCreateData)
             throws ProductNameDuplicationException {
         String name = productCreateData.getName();
-        if (productRepository.existsByName(name)) {
+        if (productNameFilter.mightExist(name)
+                && transactionTemplate.execute(status -> productRepository.existsByName(name))) {
             throw new ProductNameDuplicationException("중복된 상품 이름입니다. 문제의 이름 = " + name);
         }
 
         Product product = productCreateData.toEntity();
-        productRepository.save(product);
+        Map<String, Long> assetIds = imageAssetRegistry.findOrCreate(product.getImages().stream()
+                .map(Image::getUrl)
+                .collect(Collectors.toSet()));
+
+        return transactionTemplate.execute(status -> {
+            shareImageAssets(product.getImages(), assetIds);
+            try {
+                productRepository.saveAndFlush(product);
+            } catch (DataIntegrityViolationException e) {
+                if (DataIntegrityViolations.isViolationOf(e, Product.NAME_UNIQUE_CONSTRAINT)) {
+                    throw new ProductNameDuplicationException("중복된 상품 이름입니다. 문제의 이름 = " + name);
+                }
+                throw e;
+            }
+            productNameFilter.add(name);
+            eventPublisher.publishEvent(new ProductChangedEvent(product.getId()));
+
+            return product.getId();
+        });
+    }
 
-        return product.getId();
+    /**
+     * 이미지들이 주소마다 한 번만 저장된 이미지 파일을 참조하게 합니다.
+     */
+    private void shareImageAssets(List<Image> images, Map<String, Long> assetIds) {
+        for (Image image : images) {
+            image.changeAsset(imageAssetRegistry.getReference(assetIds.get(image.getUrl())));
+        }
     }
 
     private Product findProductById(Long id) throws ProductNotFoundException {
@@ -1,12 +1,17 @@
 package com.solebysole.product.controller;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.solebysole.authentication.CurrentUser;
+import com.solebysole.authentication.UserPrincipal;
 import com.solebysole.product.application.ProductService;
 import com.solebysole.product.dto.ProductCreateData;
 import com.solebysole.product.dto.ProductData;
 import com.solebysole.product.dto.ProductDetailData;
-import com.solebysole.user.domain.User;
+import com.solebysole.product.dto.ProductDetailListData;
+import com.solebysole.product.dto.ProductField;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.CrossOrigin;
@@ -15,9 +20,13 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import javax.validation.Valid;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.net.URI;
 import java.util.List;
 
@@ -32,23 +41,78 @@ public class ProductController {
 
     private final ProductService productService;
 
+    private final ObjectMapper objectMapper;
+
     /**
-     * 모든 상품을 응답합니다.
+     * 모든 상품을 응답합니다. 필드가 주어지면 주어진 필드만 응답합니다.
+     *
+     * @param fields 쉼표로 구분한 필드 이름들
      */
     @GetMapping
-    public ResponseEntity<List<ProductData>> list() {
-        return ResponseEntity.ok(productService.getProducts());
+    public ResponseEntity<List<ProductData>> list(@RequestParam(required = false) String fields) {
+        if (fields == null) {
+            return ResponseEntity.ok(productService.getProducts());
+        }
+        return ResponseEntity.ok(productService.getProducts(
+                ProductField.parse(fields, ProductField.LISTING)));
+    }
+
+    /**
+     * 모든 상품을 읽는 대로 응답에 씁니다. 상품 수와 관계없이 목록을 메모리에 모으지 않습니다.
+     */
+    @GetMapping(params = "stream=true")
+    public ResponseEntity<StreamingResponseBody> stream() {
+        StreamingResponseBody body = outputStream -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+                generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+                generator.writeStartArray();
+                productService.forEachProduct(product -> write(generator, product));
+                generator.writeEndArray();
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
+    }
+
+    private static void write(JsonGenerator generator, ProductData product) {
+        try {
+            generator.writeObject(product);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 주어진 id들에 해당하는 상품 상세 정보를 요청한 순서대로 응답합니다. 찾을 수 없는 id는 따로 응답합니다.
+     * 필드가 주어지면 주어진 필드만 응답합니다.
+     *
+     * @param ids 쉼표로 구분한 상품의 식별자들
+     * @param fields 쉼표로 구분한 필드 이름들
+     * @return 상품 상세 정보들과 찾을 수 없는 id들
+     */
+    @GetMapping(params = "ids")
+    public ResponseEntity<ProductDetailListData> findAll(@RequestParam List<Long> ids,
+                                                         @RequestParam(required = false) String fields) {
+        return ResponseEntity.ok(productService.getProductsByIds(ids,
+                fields == null ? ProductField.DETAIL : ProductField.parse(fields, ProductField.DETAIL)));
     }
 
     /**
-     * 주어진 id에 해당하는 상품 상세 정보를 응답합니다.
+     * 주어진 id에 해당하는 상품 상세 정보를 응답합니다. 필드가 주어지면 주어진 필드만 응답합니다.
      *
      * @param id 상품의 식별자
+     * @param fields 쉼표로 구분한 필드 이름들
      * @return 주어진 id에 해당하는 상품 상세 정보
      */
     @GetMapping("/{id}")
-    public ResponseEntity<ProductDetailData> findOne(@PathVariable Long id) {
-        return ResponseEntity.ok(productService.getProduct(id));
+    public ResponseEntity<ProductDetailData> findOne(@PathVariable Long id,
+                                                     @RequestParam(required = false) String fields) {
+        if (fields == null) {
+            return ResponseEntity.ok(productService.getProduct(id));
+        }
+        return ResponseEntity.ok(productService.getProduct(id,
+                ProductField.parse(fields, ProductField.DETAIL)));
     }
 
     /**
@@ -61,7 +125,7 @@ public class ProductController {
     @PreAuthorize("hasRole('ADMIN')")
     @PostMapping
     public ResponseEntity<Void> create(
-            @CurrentUser User user,
+            @CurrentUser UserPrincipal user,
             @RequestBody @Valid ProductCreateData productCreateData) {
         Long savedId = productService.createProduct(productCreateData);
         return ResponseEntity.created(URI.create("/api/products/" + savedId)).build();
@@ -4,31 +4,41 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
+import javax.persistence.CascadeType;
 import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.FetchType;
 import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
 import javax.persistence.Id;
 import javax.persistence.JoinColumn;
-import javax.persistence.Lob;
 import javax.persistence.ManyToOne;
+import javax.persistence.SequenceGenerator;
 
 /**
- * 이미지.
+ * 상품 이미지.
+ *
+ * 주소는 상품끼리 함께 쓰는 {@link ImageAsset} 에 두고, 이미지는 이를 참조합니다.
  */
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Entity
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 public class Image {
 
     @Id
-    @GeneratedValue
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "image_seq")
+    @SequenceGenerator(name = "image_seq", sequenceName = "image_seq", allocationSize = 50)
     @Column(name = "iamge_id")
     private Long id;
 
-    @Lob
-    private String url;
+    @JsonIgnore
+    @ManyToOne(cascade = CascadeType.PERSIST, optional = false)
+    @JoinColumn(name = "image_asset_id")
+    private ImageAsset asset;
 
     @JsonIgnore
     @ManyToOne(fetch = FetchType.LAZY)
@@ -36,12 +46,25 @@ public class Image {
     private Product product;
 
     public Image(String url) {
-        this.url = url;
+        this.asset = new ImageAsset(url);
     }
 
     public Image(Long id, String url) {
         this.id = id;
-        this.url = url;
+        this.asset = new ImageAsset(url);
+    }
+
+    public String getUrl() {
+        return asset.getUrl();
+    }
+
+    /**
+     * 같은 주소로 이미 저장된 이미지 파일을 참조하도록 바꿉니다.
+     *
+     * @param asset 이미지 파일
+     */
+    public void changeAsset(ImageAsset asset) {
+        this.asset = asset;
     }
 
     public void setProduct(Product product) {
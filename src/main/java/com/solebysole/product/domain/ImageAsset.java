@@ -0,0 +1,54 @@
+package com.solebysole.product.domain;
+
+import com.solebysole.common.utils.InternedStringConverter;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.Immutable;
+
+import javax.persistence.Column;
+import javax.persistence.Convert;
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.SequenceGenerator;
+import javax.persistence.Table;
+import javax.persistence.UniqueConstraint;
+
+/**
+ * 이미지 파일.
+ *
+ * 같은 주소의 이미지를 여러 상품이 함께 쓰므로, 주소마다 한 번만 저장하고 이미지가 이를 참조합니다.
+ * 한 번 저장한 주소는 바뀌지 않습니다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Immutable
+@Cache(usage = CacheConcurrencyStrategy.READ_ONLY)
+@Table(uniqueConstraints = @UniqueConstraint(
+        name = ImageAsset.URL_UNIQUE_CONSTRAINT, columnNames = "url"))
+public class ImageAsset {
+
+    public static final String URL_UNIQUE_CONSTRAINT = "uk_image_asset_url";
+
+    public static final int URL_MAX_LENGTH = 2048;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "image_asset_seq")
+    @SequenceGenerator(name = "image_asset_seq", sequenceName = "image_asset_seq", allocationSize = 50)
+    @Column(name = "image_asset_id")
+    private Long id;
+
+    @Convert(converter = InternedStringConverter.class)
+    @Column(nullable = false, length = URL_MAX_LENGTH)
+    private String url;
+
+    public ImageAsset(String url) {
+        this.url = url.intern();
+    }
+
+}
@@ -0,0 +1,32 @@
+package com.solebysole.product.domain;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 이미지 파일 저장소.
+ */
+public interface ImageAssetRepository {
+
+    /**
+     * 주어진 주소들 중 이미 저장된 이미지 파일들을 리턴합니다.
+     *
+     * @param urls 이미지 주소들
+     */
+    List<ImageAsset> findAllByUrlIn(Collection<String> urls);
+
+    /**
+     * 주어진 식별자의 이미지 파일을 읽지 않고 참조만 리턴합니다. 연관 관계를 맺을 때 씁니다.
+     *
+     * @param id 이미지 파일 식별자
+     */
+    ImageAsset getOne(Long id);
+
+    <S extends ImageAsset> List<S> saveAll(Iterable<S> imageAssets);
+
+    /**
+     * 저장한 이미지 파일들을 바로 반영합니다. 제약 조건 위반은 이 메소드에서 발생합니다.
+     */
+    void flush();
+
+}
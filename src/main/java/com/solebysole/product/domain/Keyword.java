@@ -1,17 +1,23 @@
 package com.solebysole.product.domain;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.solebysole.common.utils.InternedStringConverter;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import javax.persistence.Column;
+import javax.persistence.Convert;
 import javax.persistence.Entity;
 import javax.persistence.FetchType;
 import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
 import javax.persistence.Id;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
+import javax.persistence.SequenceGenerator;
 
 /**
  * 상품 키워드.
@@ -19,13 +25,16 @@ import javax.persistence.ManyToOne;
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Entity
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 public class Keyword {
 
     @Id
-    @GeneratedValue
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "keyword_seq")
+    @SequenceGenerator(name = "keyword_seq", sequenceName = "keyword_seq", allocationSize = 50)
     @Column(name = "keyword_id")
     private Long id;
 
+    @Convert(converter = InternedStringConverter.class)
     private String name;
 
     @JsonIgnore
@@ -1,19 +1,25 @@
 package com.solebysole.product.domain;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.solebysole.common.utils.InternedStringConverter;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import javax.persistence.CascadeType;
 import javax.persistence.Column;
+import javax.persistence.Convert;
 import javax.persistence.Entity;
 import javax.persistence.FetchType;
 import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
 import javax.persistence.Id;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
 import javax.persistence.OneToMany;
+import javax.persistence.SequenceGenerator;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -24,13 +30,16 @@ import java.util.List;
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Entity
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 public class Option {
 
     @Id
-    @GeneratedValue
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "option_seq")
+    @SequenceGenerator(name = "option_seq", sequenceName = "option_seq", allocationSize = 50)
     @Column(name = "option_id")
     private Long id;
 
+    @Convert(converter = InternedStringConverter.class)
     private String name;
 
     private int additionalPrice;
@@ -40,6 +49,7 @@ public class Option {
     @JoinColumn(name = "parent_id")
     private Option parent;
 
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
     @OneToMany(mappedBy = "parent", cascade = CascadeType.ALL)
     private List<Option> children = new ArrayList<>();
 
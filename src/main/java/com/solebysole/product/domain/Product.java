@@ -4,20 +4,30 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import javax.persistence.CascadeType;
 import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.EnumType;
 import javax.persistence.Enumerated;
+import javax.persistence.FetchType;
 import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
 import javax.persistence.Id;
-import javax.persistence.Lob;
+import javax.persistence.JoinColumn;
 import javax.persistence.OneToMany;
+import javax.persistence.OneToOne;
+import javax.persistence.SequenceGenerator;
+import javax.persistence.Table;
+import javax.persistence.UniqueConstraint;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Stream;
 
 /**
  * 상품.
@@ -25,10 +35,16 @@ import java.util.Set;
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Entity
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+@Table(uniqueConstraints = @UniqueConstraint(
+        name = Product.NAME_UNIQUE_CONSTRAINT, columnNames = "name"))
 public class Product {
 
+    public static final String NAME_UNIQUE_CONSTRAINT = "uk_product_name";
+
     @Id
-    @GeneratedValue
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "product_seq")
+    @SequenceGenerator(name = "product_seq", sequenceName = "product_seq", allocationSize = 50)
     @Column(name = "product_id")
     private Long id;
 
@@ -38,18 +54,22 @@ public class Product {
 
     private int discountedPrice;
 
-    @Lob
-    private String description;
+    @OneToOne(fetch = FetchType.LAZY, cascade = CascadeType.ALL)
+    @JoinColumn(name = "product_description_id")
+    private ProductDescription description;
 
     @Enumerated(EnumType.STRING)
     private Category category;
 
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
     @OneToMany(mappedBy = "product", cascade = CascadeType.ALL)
     private Set<Keyword> keywords = new HashSet<>();
 
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
     @OneToMany(mappedBy = "product", cascade = CascadeType.ALL)
     private List<Image> images = new ArrayList<>();
 
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
     @OneToMany(mappedBy = "product", cascade = CascadeType.ALL)
     private List<Option> options = new ArrayList<>();
 
@@ -60,10 +80,17 @@ public class Product {
         this.name = name;
         this.originalPrice = originalPrice;
         this.discountedPrice = discountedPrice;
-        this.description = description;
+        this.description = new ProductDescription(description);
         this.category = category;
     }
 
+    /**
+     * 상품 설명을 리턴합니다. 설명은 처음 호출할 때 읽어옵니다.
+     */
+    public String getDescription() {
+        return description.getContent();
+    }
+
     public void addKeyword(Keyword keyword) {
         keywords.add(keyword);
         keyword.setProduct(this);
@@ -79,4 +106,17 @@ public class Product {
         option.setProduct(this);
     }
 
+    /**
+     * 주어진 id에 해당하는 옵션을 상품의 옵션과 하위 옵션 중에서 찾아 리턴합니다.
+     *
+     * @param optionId 옵션 식별자
+     * @return 옵션
+     */
+    public Optional<Option> findOption(Long optionId) {
+        return options.stream()
+                .flatMap(option -> Stream.concat(Stream.of(option), option.getChildren().stream()))
+                .filter(option -> optionId.equals(option.getId()))
+                .findFirst();
+    }
+
 }
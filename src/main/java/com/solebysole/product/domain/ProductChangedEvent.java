@@ -0,0 +1,17 @@
+package com.solebysole.product.domain;
+
+import lombok.Getter;
+
+/**
+ * 상품이 생성되었거나 변경되었음을 알리는 이벤트.
+ */
+@Getter
+public class ProductChangedEvent {
+
+    private final Long productId;
+
+    public ProductChangedEvent(Long productId) {
+        this.productId = productId;
+    }
+
+}
@@ -0,0 +1,42 @@
+package com.solebysole.product.domain;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Lob;
+import javax.persistence.SequenceGenerator;
+
+/**
+ * 상품 설명.
+ *
+ * 상품 목록, 장바구니, 주문에서는 쓰지 않는 큰 값이므로 상품과 다른 테이블에 두고 필요할 때만 읽습니다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+public class ProductDescription {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "product_description_seq")
+    @SequenceGenerator(name = "product_description_seq", sequenceName = "product_description_seq",
+            allocationSize = 50)
+    @Column(name = "product_description_id")
+    private Long id;
+
+    @Lob
+    private String content;
+
+    public ProductDescription(String content) {
+        this.content = content;
+    }
+
+}
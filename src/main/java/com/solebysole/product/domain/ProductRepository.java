@@ -1,7 +1,9 @@
 package com.solebysole.product.domain;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * 상품 저장소.
@@ -12,8 +14,53 @@ public interface ProductRepository {
 
     Optional<Product> findById(Long id);
 
+    /**
+     * 주어진 식별자들의 상품을 한 번의 쿼리로 리턴합니다. 순서는 보장하지 않으며, 없는 상품은 빠집니다.
+     *
+     * @param ids 상품 식별자들
+     */
+    List<Product> findAllByIdIn(Collection<Long> ids);
+
+    /**
+     * 주어진 식별자의 상품을 읽지 않고 참조만 리턴합니다. 연관 관계를 맺을 때 씁니다.
+     *
+     * @param id 상품 식별자
+     */
+    Product getOne(Long id);
+
     Product save(Product product);
 
+    /**
+     * 주어진 상품을 저장하고 바로 반영합니다. 제약 조건 위반은 이 메소드에서 발생합니다.
+     *
+     * @param product 상품
+     * @return 저장된 상품
+     */
+    Product saveAndFlush(Product product);
+
     boolean existsByName(String name);
 
+    /**
+     * 모든 상품의 이름을 리턴합니다.
+     */
+    List<String> findAllNames();
+
+    /**
+     * 모든 상품의 요약 정보를 식별자 순으로 리턴합니다. 상품 엔티티를 만들지 않고 나눠서 읽어오므로,
+     * 트랜잭션 안에서 다 쓴 뒤 닫아야 합니다. 이미지가 없는 상품은 이미지 주소가 비어 있습니다.
+     */
+    Stream<ProductSummary> streamAllSummaries();
+
+    /**
+     * 이미지 주소를 뺀 모든 상품의 요약 정보를 식별자 순으로 리턴합니다. 이미지 테이블을 조인하지 않습니다.
+     */
+    Stream<ProductSummary> streamAllSummariesWithoutImageUrl();
+
+    /**
+     * 주어진 식별자들의 이미지 주소를 뺀 요약 정보를 한 번의 쿼리로 리턴합니다. 없는 상품은 빠집니다.
+     *
+     * @param ids 상품 식별자들
+     */
+    List<ProductSummary> findAllSummariesByIdIn(Collection<Long> ids);
+
 }
@@ -0,0 +1,18 @@
+package com.solebysole.product.domain;
+
+/**
+ * 상품 목록에 보여줄 상품 요약 정보.
+ */
+public interface ProductSummary {
+
+    Long getId();
+
+    String getName();
+
+    int getOriginalPrice();
+
+    int getDiscountedPrice();
+
+    String getImageUrl();
+
+}
@@ -1,32 +1,38 @@
 package com.solebysole.product.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.solebysole.product.domain.Image;
 import com.solebysole.product.domain.Product;
+import com.solebysole.product.domain.ProductSummary;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.util.List;
+import java.util.Set;
+
 /**
- * 상품 정보.
+ * 상품 정보. 고르지 않은 필드는 비어 있고 응답에 쓰지 않습니다.
  */
 @Getter
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public class ProductData {
 
     private Long id;
 
     private String name;
 
-    private int originalPrice;
+    private Integer originalPrice;
 
-    private int discountedPrice;
+    private Integer discountedPrice;
 
     private String imageUrl;
 
     @Builder
-    private ProductData(Long id, String name, int originalPrice,
-                        int discountedPrice, String imageUrl) {
+    private ProductData(Long id, String name, Integer originalPrice,
+                        Integer discountedPrice, String imageUrl) {
         this.id = id;
         this.name = name;
         this.originalPrice = originalPrice;
@@ -35,14 +41,39 @@ public class ProductData {
     }
 
     public static ProductData of(Product product) {
-        Image mainImage = product.getImages().get(0);
+        List<Image> images = product.getImages();
 
         return ProductData.builder()
                 .id(product.getId())
                 .name(product.getName())
                 .originalPrice(product.getOriginalPrice())
                 .discountedPrice(product.getDiscountedPrice())
-                .imageUrl(mainImage.getUrl())
+                .imageUrl(images.isEmpty() ? null : images.get(0).getUrl())
+                .build();
+    }
+
+    public static ProductData of(ProductSummary summary) {
+        return ProductData.builder()
+                .id(summary.getId())
+                .name(summary.getName())
+                .originalPrice(summary.getOriginalPrice())
+                .discountedPrice(summary.getDiscountedPrice())
+                .imageUrl(summary.getImageUrl())
+                .build();
+    }
+
+    /**
+     * 주어진 필드만 남긴 상품 정보를 리턴합니다.
+     *
+     * @param fields 남길 필드
+     */
+    public ProductData select(Set<ProductField> fields) {
+        return ProductData.builder()
+                .id(fields.contains(ProductField.ID) ? id : null)
+                .name(fields.contains(ProductField.NAME) ? name : null)
+                .originalPrice(fields.contains(ProductField.ORIGINAL_PRICE) ? originalPrice : null)
+                .discountedPrice(fields.contains(ProductField.DISCOUNTED_PRICE) ? discountedPrice : null)
+                .imageUrl(fields.contains(ProductField.IMAGE_URL) ? imageUrl : null)
                 .build();
     }
 
@@ -1,5 +1,6 @@
 package com.solebysole.product.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.solebysole.product.domain.Category;
 import com.solebysole.product.domain.Image;
 import com.solebysole.product.domain.Keyword;
@@ -14,19 +15,20 @@ import java.util.List;
 import java.util.Set;
 
 /**
- * 상품 상세 정보.
+ * 상품 상세 정보. 고르지 않은 필드는 비어 있고 응답에 쓰지 않습니다.
  */
 @Getter
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public class ProductDetailData {
 
     private Long id;
 
     private String name;
 
-    private int originalPrice;
+    private Integer originalPrice;
 
-    private int discountedPrice;
+    private Integer discountedPrice;
 
     private String description;
 
@@ -39,7 +41,7 @@ public class ProductDetailData {
     private List<Option> options;
 
     @Builder
-    private ProductDetailData(Long id, String name, int originalPrice, int discountedPrice,
+    private ProductDetailData(Long id, String name, Integer originalPrice, Integer discountedPrice,
                               String description, Category category,
                               Set<Keyword> keywords, List<Image> images, List<Option> options) {
         this.id = id;
@@ -54,16 +56,29 @@ public class ProductDetailData {
     }
 
     public static ProductDetailData of(Product product) {
+        return of(product, ProductField.DETAIL);
+    }
+
+    /**
+     * 주어진 필드만 담은 상품 상세 정보를 리턴합니다.
+     * 고르지 않은 설명과 컬렉션은 읽지 않으므로, 이에 대한 쿼리도 실행되지 않습니다.
+     *
+     * @param product 상품
+     * @param fields 담을 필드
+     */
+    public static ProductDetailData of(Product product, Set<ProductField> fields) {
         return ProductDetailData.builder()
-                .id(product.getId())
-                .name(product.getName())
-                .originalPrice(product.getOriginalPrice())
-                .discountedPrice(product.getDiscountedPrice())
-                .description(product.getDescription())
-                .category(product.getCategory())
-                .keywords(product.getKeywords())
-                .images(product.getImages())
-                .options(product.getOptions())
+                .id(fields.contains(ProductField.ID) ? product.getId() : null)
+                .name(fields.contains(ProductField.NAME) ? product.getName() : null)
+                .originalPrice(fields.contains(ProductField.ORIGINAL_PRICE)
+                        ? product.getOriginalPrice() : null)
+                .discountedPrice(fields.contains(ProductField.DISCOUNTED_PRICE)
+                        ? product.getDiscountedPrice() : null)
+                .description(fields.contains(ProductField.DESCRIPTION) ? product.getDescription() : null)
+                .category(fields.contains(ProductField.CATEGORY) ? product.getCategory() : null)
+                .keywords(fields.contains(ProductField.KEYWORDS) ? product.getKeywords() : null)
+                .images(fields.contains(ProductField.IMAGES) ? product.getImages() : null)
+                .options(fields.contains(ProductField.OPTIONS) ? product.getOptions() : null)
                 .build();
     }
 
@@ -0,0 +1,27 @@
+package com.solebysole.product.dto;
+
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 여러 상품의 상세 정보. 상품은 요청한 식별자 순서대로 담고, 찾을 수 없는 식별자는 따로 담습니다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class ProductDetailListData {
+
+    private List<ProductDetailData> products;
+
+    private List<Long> missingIds;
+
+    @Builder
+    private ProductDetailListData(List<ProductDetailData> products, List<Long> missingIds) {
+        this.products = products;
+        this.missingIds = missingIds;
+    }
+
+}
@@ -0,0 +1,75 @@
+package com.solebysole.product.dto;
+
+import com.solebysole.common.errors.InvalidProductFieldException;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * 상품 응답에서 골라 받을 수 있는 필드.
+ */
+public enum ProductField {
+
+    ID("id"),
+    NAME("name"),
+    ORIGINAL_PRICE("originalPrice"),
+    DISCOUNTED_PRICE("discountedPrice"),
+    IMAGE_URL("imageUrl"),
+    DESCRIPTION("description"),
+    CATEGORY("category"),
+    KEYWORDS("keywords"),
+    IMAGES("images"),
+    OPTIONS("options");
+
+    /**
+     * 상품 목록에서 고를 수 있는 필드.
+     */
+    public static final Set<ProductField> LISTING = Collections.unmodifiableSet(
+            EnumSet.of(ID, NAME, ORIGINAL_PRICE, DISCOUNTED_PRICE, IMAGE_URL));
+
+    /**
+     * 상품 상세 정보에서 고를 수 있는 필드.
+     */
+    public static final Set<ProductField> DETAIL = Collections.unmodifiableSet(
+            EnumSet.complementOf(EnumSet.of(IMAGE_URL)));
+
+    private final String name;
+
+    ProductField(String name) {
+        this.name = name;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * 쉼표로 구분한 필드 이름들을 필드 집합으로 바꿔 리턴합니다.
+     *
+     * @param fields 쉼표로 구분한 필드 이름들
+     * @param allowed 고를 수 있는 필드
+     * @throws InvalidProductFieldException 고를 수 없는 필드 이름이 있는 경우
+     */
+    public static Set<ProductField> parse(String fields, Set<ProductField> allowed)
+            throws InvalidProductFieldException {
+        Set<ProductField> parsed = EnumSet.noneOf(ProductField.class);
+        for (String name : fields.split(",")) {
+            String trimmed = name.trim();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            ProductField field = Arrays.stream(values())
+                    .filter(value -> value.name.equals(trimmed) && allowed.contains(value))
+                    .findFirst()
+                    .orElseThrow(() -> new InvalidProductFieldException(trimmed));
+            parsed.add(field);
+        }
+        if (parsed.isEmpty()) {
+            throw new InvalidProductFieldException(fields);
+        }
+        return Collections.unmodifiableSet(parsed);
+    }
+
+}
@@ -0,0 +1,18 @@
+package com.solebysole.product.infra;
+
+import com.solebysole.product.domain.ImageAsset;
+import com.solebysole.product.domain.ImageAssetRepository;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * JPA 이미지 파일 저장소.
+ */
+public interface JpaImageAssetRepository
+        extends ImageAssetRepository, JpaRepository<ImageAsset, Long> {
+
+    List<ImageAsset> findAllByUrlIn(Collection<String> urls);
+
+}
@@ -2,10 +2,19 @@ package com.solebysole.product.infra;
 
 import com.solebysole.product.domain.Product;
 import com.solebysole.product.domain.ProductRepository;
+import com.solebysole.product.domain.ProductSummary;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import javax.persistence.QueryHint;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
 
 /**
  * JPA 상품 저장소.
@@ -17,8 +26,38 @@ public interface JpaProductRepository
 
     Optional<Product> findById(Long id);
 
+    List<Product> findAllByIdIn(Collection<Long> ids);
+
+    Product getOne(Long id);
+
     Product save(Product product);
 
+    Product saveAndFlush(Product product);
+
     boolean existsByName(String name);
 
+    @Query("select p.name from Product p")
+    List<String> findAllNames();
+
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "500"))
+    @Query("select p.id as id, p.name as name, p.originalPrice as originalPrice, "
+            + "p.discountedPrice as discountedPrice, a.url as imageUrl "
+            + "from Product p left join p.images i left join i.asset a "
+            + "where i.id is null or i.id = (select min(m.id) from Image m where m.product = p) "
+            + "order by p.id")
+    Stream<ProductSummary> streamAllSummaries();
+
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "500"))
+    @Query("select p.id as id, p.name as name, p.originalPrice as originalPrice, "
+            + "p.discountedPrice as discountedPrice "
+            + "from Product p "
+            + "order by p.id")
+    Stream<ProductSummary> streamAllSummariesWithoutImageUrl();
+
+    @Query("select p.id as id, p.name as name, p.originalPrice as originalPrice, "
+            + "p.discountedPrice as discountedPrice "
+            + "from Product p "
+            + "where p.id in :ids")
+    List<ProductSummary> findAllSummariesByIdIn(@Param("ids") Collection<Long> ids);
+
 }
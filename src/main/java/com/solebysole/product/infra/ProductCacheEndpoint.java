@@ -0,0 +1,49 @@
+package com.solebysole.product.infra;
+
+import com.solebysole.common.config.ProductCacheConfig;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import javax.persistence.EntityManagerFactory;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * 상품 캐시 영역별 적중, 실패, 저장 횟수와 보관 중인 개수를 보여주는 액추에이터 엔드포인트.
+ * 다른 액추에이터 엔드포인트와 마찬가지로 관리자만 조회할 수 있습니다.
+ */
+@Component
+@Endpoint(id = "productcache")
+public class ProductCacheEndpoint {
+
+    private final Statistics statistics;
+
+    public ProductCacheEndpoint(EntityManagerFactory entityManagerFactory) {
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @ReadOperation
+    public Map<String, Map<String, Long>> regions() {
+        Map<String, Map<String, Long>> regions = new LinkedHashMap<>();
+        Stream.concat(ProductCacheConfig.ENTITY_REGIONS.stream(),
+                ProductCacheConfig.COLLECTION_REGIONS.stream())
+                .forEach(region -> regions.put(region,
+                        of(statistics.getDomainDataRegionStatistics(region))));
+        return regions;
+    }
+
+    private static Map<String, Long> of(CacheRegionStatistics region) {
+        Map<String, Long> values = new LinkedHashMap<>();
+        values.put("hits", region.getHitCount());
+        values.put("misses", region.getMissCount());
+        values.put("puts", region.getPutCount());
+        values.put("size", region.getElementCountInMemory());
+        return values;
+    }
+
+}
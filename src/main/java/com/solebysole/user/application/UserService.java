@@ -1,19 +1,28 @@
 package com.solebysole.user.application;
 
+import com.solebysole.common.errors.PasswordHashingUnavailableException;
 import com.solebysole.common.errors.UserEmailDuplicationException;
+import com.solebysole.common.errors.UserNotFoundException;
+import com.solebysole.common.utils.DataIntegrityViolations;
+import com.solebysole.mail.application.MailOutbox;
 import com.solebysole.user.domain.User;
+import com.solebysole.user.domain.UserChangedEvent;
 import com.solebysole.user.domain.UserRepository;
 import com.solebysole.user.dto.UserRegisterData;
+import com.solebysole.user.dto.UserResponseData;
 import com.solebysole.user.dto.UserUpdateData;
-import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 /**
  * 회원과 관련된 비즈니스 로직을 담당합니다.
  */
-@RequiredArgsConstructor
 @Transactional(readOnly = true)
 @Service
 public class UserService {
@@ -22,50 +31,103 @@ public class UserService {
 
     private final PasswordEncoder passwordEncoder;
 
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final MailOutbox mailOutbox;
+
+    private final TransactionTemplate transactionTemplate;
+
+    public UserService(UserRepository userRepository,
+                       PasswordEncoder passwordEncoder,
+                       ApplicationEventPublisher eventPublisher,
+                       MailOutbox mailOutbox,
+                       PlatformTransactionManager transactionManager) {
+        this.userRepository = userRepository;
+        this.passwordEncoder = passwordEncoder;
+        this.eventPublisher = eventPublisher;
+        this.mailOutbox = mailOutbox;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * 주어진 id에 해당하는 회원의 정보를 리턴합니다.
+     *
+     * @param id 회원 식별자
+     * @return 회원의 정보
+     * @throws UserNotFoundException 회원을 찾을 수 없는 경우
+     */
+    public UserResponseData getUser(Long id) {
+        return UserResponseData.of(findUser(id));
+    }
+
     /**
      * 주어진 회원 정보로 회원을 생성하고, 회원의 식별자를 리턴합니다.
+     * 이미 가입된 이메일은 비밀번호를 해시하기 전에 거절하고, 동시에 같은 이메일로 가입하는 경우는
+     * 저장할 때 유일 제약 조건으로 확인합니다. 가입 환영 메일은 발송 대기열에 넣기만 합니다.
+     * 해시 작업을 기다리는 동안 커넥션을 잡지 않도록, 비밀번호를 해시한 뒤에 트랜잭션을 시작합니다.
      *
      * @param userRegisterData 회원 정보
      * @return 회원의 식별자
      * @throws UserEmailDuplicationException 회원 이메일이 중복될 경우
+     * @throws PasswordHashingUnavailableException 비밀번호 해시 작업이 밀려 있는 경우
      */
-    @Transactional
+    @Transactional(propagation = Propagation.SUPPORTS)
     public Long registerUser(UserRegisterData userRegisterData) {
-        String email = userRegisterData.getEmail();
-        if (userRepository.existsByEmail(email)) {
-            throw new UserEmailDuplicationException(email);
+        if (userRepository.existsByEmail(userRegisterData.getEmail())) {
+            throw new UserEmailDuplicationException(userRegisterData.getEmail());
         }
 
         User user = userRegisterData.toEntity();
         user.changePassword(userRegisterData.getPassword(), passwordEncoder);
 
-        userRepository.save(user);
+        return transactionTemplate.execute(status -> {
+            try {
+                userRepository.saveAndFlush(user);
+            } catch (DataIntegrityViolationException e) {
+                if (DataIntegrityViolations.isViolationOf(e, User.EMAIL_UNIQUE_CONSTRAINT)) {
+                    throw new UserEmailDuplicationException(userRegisterData.getEmail());
+                }
+                throw e;
+            }
+            mailOutbox.enqueueWelcome(user);
 
-        return user.getId();
+            return user.getId();
+        });
     }
 
     /**
-     * 주어진 회원을 전달받은 회원 수정 정보로 변경합니다.
+     * 주어진 id에 해당하는 회원을 전달받은 회원 수정 정보로 변경합니다.
      *
-     * @param user 회원
+     * @param id 회원 식별자
      * @param userUpdateData 회원 수정 정보
+     * @throws UserNotFoundException 회원을 찾을 수 없는 경우
      */
     @Transactional
-    public void updateUser(User user,
+    public void updateUser(Long id,
                            UserUpdateData userUpdateData) {
+        User user = findUser(id);
         user.changeWith(userUpdateData.toEntity());
         userRepository.save(user);
+        eventPublisher.publishEvent(new UserChangedEvent(id));
     }
 
     /**
-     * 주어진 회원을 삭제합니다.
+     * 주어진 id에 해당하는 회원을 삭제합니다.
      *
-     * @param user 회원
+     * @param id 회원 식별자
+     * @throws UserNotFoundException 회원을 찾을 수 없는 경우
      */
     @Transactional
-    public void deleteUser(User user) {
+    public void deleteUser(Long id) {
+        User user = findUser(id);
         user.delete();
         userRepository.save(user);
+        eventPublisher.publishEvent(new UserChangedEvent(id));
+    }
+
+    private User findUser(Long id) {
+        return userRepository.findById(id)
+                .orElseThrow(() -> new UserNotFoundException(id));
     }
 
 }
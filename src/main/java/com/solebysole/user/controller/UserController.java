@@ -1,8 +1,8 @@
 package com.solebysole.user.controller;
 
 import com.solebysole.authentication.CurrentUser;
+import com.solebysole.authentication.UserPrincipal;
 import com.solebysole.user.application.UserService;
-import com.solebysole.user.domain.User;
 import com.solebysole.user.dto.UserRegisterData;
 import com.solebysole.user.dto.UserResponseData;
 import com.solebysole.user.dto.UserUpdateData;
@@ -53,8 +53,8 @@ public class UserController {
      * @return 회원의 정보
      */
     @GetMapping("/me")
-    public ResponseEntity<UserResponseData> getCurrentUser(@CurrentUser User user) {
-        return ResponseEntity.ok(UserResponseData.of(user));
+    public ResponseEntity<UserResponseData> getCurrentUser(@CurrentUser UserPrincipal user) {
+        return ResponseEntity.ok(userService.getUser(user.getId()));
     }
 
     /**
@@ -66,9 +66,9 @@ public class UserController {
      */
     @PatchMapping("/me")
     public ResponseEntity<Void> updateCurrentUser(
-            @CurrentUser User user,
+            @CurrentUser UserPrincipal user,
             @RequestBody @Valid UserUpdateData userUpdateData) {
-        userService.updateUser(user, userUpdateData);
+        userService.updateUser(user.getId(), userUpdateData);
         return ResponseEntity.ok().build();
     }
 
@@ -79,8 +79,8 @@ public class UserController {
      * @return 응답 정보
      */
     @DeleteMapping("/me")
-    public ResponseEntity<Void> deleteCurrentUser(@CurrentUser User user) {
-        userService.deleteUser(user);
+    public ResponseEntity<Void> deleteCurrentUser(@CurrentUser UserPrincipal user) {
+        userService.deleteUser(user.getId());
         return ResponseEntity.noContent().build();
     }
 
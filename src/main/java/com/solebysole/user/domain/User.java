@@ -11,7 +11,12 @@ import javax.persistence.Entity;
 import javax.persistence.EnumType;
 import javax.persistence.Enumerated;
 import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.SequenceGenerator;
+import javax.persistence.Table;
+import javax.persistence.UniqueConstraint;
+import java.time.LocalDateTime;
 
 /**
  * 회원.
@@ -19,10 +24,15 @@ import javax.persistence.Id;
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Entity
+@Table(uniqueConstraints = @UniqueConstraint(
+        name = User.EMAIL_UNIQUE_CONSTRAINT, columnNames = "email"))
 public class User {
 
+    public static final String EMAIL_UNIQUE_CONSTRAINT = "uk_user_email";
+
     @Id
-    @GeneratedValue
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "user_seq")
+    @SequenceGenerator(name = "user_seq", sequenceName = "user_seq", allocationSize = 50)
     @Column(name = "user_id")
     private Long id;
 
@@ -41,6 +51,10 @@ public class User {
 
     private boolean deleted;
 
+    private long tokenVersion;
+
+    private LocalDateTime tokenVersionUpdatedAt;
+
     @Builder
     protected User(Long id, String name, String email, String password,
                    AuthProvider provider, String providerId, Role role, boolean deleted) {
@@ -74,11 +88,33 @@ public class User {
         this.password = passwordEncoder.encode(password);
     }
 
+    /**
+     * 현재 비밀번호 해시가 주어진 이전 해시와 같다면, 같은 비밀번호를 다시 해시한 값으로 바꿉니다.
+     * 그 사이에 비밀번호가 변경되었다면 바꾸지 않습니다.
+     *
+     * @param previousHash 다시 해시하기 전의 비밀번호 해시
+     * @param rehashed 다시 해시한 비밀번호 해시
+     */
+    public void replacePasswordHash(String previousHash, String rehashed) {
+        if (password.equals(previousHash)) {
+            password = rehashed;
+        }
+    }
+
     /**
      * 회원이 삭제되었다는 표시를 합니다.
      */
     public void delete() {
         this.deleted = true;
+        revokeTokens();
+    }
+
+    /**
+     * 토큰 버전을 올려서, 지금까지 발급된 토큰들을 더 이상 사용할 수 없게 합니다.
+     */
+    public void revokeTokens() {
+        tokenVersion++;
+        tokenVersionUpdatedAt = LocalDateTime.now();
     }
 
     /**
@@ -92,8 +128,4 @@ public class User {
         return !deleted && passwordEncoder.matches(password, this.password);
     }
 
-    public User getUser() {
-        return this;
-    }
-
 }
@@ -0,0 +1,17 @@
+package com.solebysole.user.domain;
+
+import lombok.Getter;
+
+/**
+ * 회원 정보가 변경되었거나 회원이 삭제되었음을 알리는 이벤트.
+ */
+@Getter
+public class UserChangedEvent {
+
+    private final Long userId;
+
+    public UserChangedEvent(Long userId) {
+        this.userId = userId;
+    }
+
+}
@@ -1,5 +1,7 @@
 package com.solebysole.user.domain;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -9,10 +11,34 @@ public interface UserRepository {
 
     User save(User user);
 
+    /**
+     * 주어진 회원을 저장하고 바로 반영합니다. 제약 조건 위반은 이 메소드에서 발생합니다.
+     *
+     * @param user 회원
+     * @return 저장된 회원
+     */
+    User saveAndFlush(User user);
+
     Optional<User> findById(Long id);
 
+    /**
+     * 주어진 식별자에 해당하는 회원의 참조를 리턴합니다. 회원을 조회하지 않습니다.
+     *
+     * @param id 회원 식별자
+     * @return 회원 참조
+     */
+    User getOne(Long id);
+
     Optional<User> findByEmail(String email);
 
     boolean existsByEmail(String email);
 
+    /**
+     * 주어진 시각 이후에 토큰 버전이 바뀐 회원들을 리턴합니다.
+     *
+     * @param time 기준 시각
+     * @return 회원 목록
+     */
+    List<User> findAllByTokenVersionUpdatedAtAfter(LocalDateTime time);
+
 }
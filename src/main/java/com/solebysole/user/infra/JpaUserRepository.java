@@ -4,6 +4,8 @@ import com.solebysole.user.domain.User;
 import com.solebysole.user.domain.UserRepository;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -14,10 +16,16 @@ public interface JpaUserRepository
 
     User save(User user);
 
+    User saveAndFlush(User user);
+
     Optional<User> findById(Long id);
 
+    User getOne(Long id);
+
     Optional<User> findByEmail(String email);
 
     boolean existsByEmail(String email);
 
+    List<User> findAllByTokenVersionUpdatedAtAfter(LocalDateTime time);
+
 }
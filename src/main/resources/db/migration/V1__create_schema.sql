@@ -0,0 +1,189 @@
+-- 시퀀스
+create sequence cart_product_seq start with 1 increment by 50;
+create sequence delivery_seq start with 1 increment by 50;
+create sequence image_seq start with 1 increment by 50;
+create sequence keyword_seq start with 1 increment by 50;
+create sequence option_seq start with 1 increment by 50;
+create sequence order_product_seq start with 1 increment by 50;
+create sequence order_seq start with 1 increment by 50;
+create sequence outbox_mail_seq start with 1 increment by 50;
+create sequence product_seq start with 1 increment by 50;
+create sequence user_seq start with 1 increment by 50;
+
+-- 회원
+create table user (
+    user_id bigint not null,
+    deleted boolean not null,
+    email varchar(255),
+    name varchar(255),
+    password varchar(255),
+    provider varchar(255),
+    provider_id varchar(255),
+    role integer,
+    token_version bigint not null,
+    token_version_updated_at timestamp,
+    primary key (user_id),
+    constraint uk_user_email unique (email)
+);
+
+-- TokenVersionTable.refresh: findAllByTokenVersionUpdatedAtAfter
+create index idx_user_token_version_updated_at on user (token_version_updated_at);
+
+-- 상품
+create table product (
+    product_id bigint not null,
+    category varchar(255),
+    description clob,
+    discounted_price integer not null,
+    name varchar(255),
+    original_price integer not null,
+    primary key (product_id),
+    constraint uk_product_name unique (name)
+);
+
+create table image (
+    iamge_id bigint not null,
+    url clob,
+    product_id bigint,
+    primary key (iamge_id)
+);
+
+create index idx_image_product_id on image (product_id);
+
+alter table image
+    add constraint fk_image_product foreign key (product_id) references product;
+
+create table keyword (
+    keyword_id bigint not null,
+    name varchar(255),
+    product_id bigint,
+    primary key (keyword_id)
+);
+
+create index idx_keyword_product_id on keyword (product_id);
+
+alter table keyword
+    add constraint fk_keyword_product foreign key (product_id) references product;
+
+create table option (
+    option_id bigint not null,
+    additional_price integer not null,
+    name varchar(255),
+    parent_id bigint,
+    product_id bigint,
+    primary key (option_id)
+);
+
+create index idx_option_product_id on option (product_id);
+create index idx_option_parent_id on option (parent_id);
+
+alter table option
+    add constraint fk_option_product foreign key (product_id) references product;
+alter table option
+    add constraint fk_option_parent foreign key (parent_id) references option;
+
+-- 장바구니
+create table cart_product (
+    cart_product_id bigint not null,
+    count integer not null,
+    last_modified_at timestamp,
+    product_id bigint,
+    user_id bigint,
+    primary key (cart_product_id)
+);
+
+-- findAllByUserId, findAbandoned 의 회원별 최근 수정 여부 확인
+create index idx_cart_product_user_id_last_modified_at on cart_product (user_id, last_modified_at);
+create index idx_cart_product_product_id on cart_product (product_id);
+
+alter table cart_product
+    add constraint fk_cart_product_user foreign key (user_id) references user;
+alter table cart_product
+    add constraint fk_cart_product_product foreign key (product_id) references product;
+
+create table cart_product_option (
+    cart_product_id bigint not null,
+    option_id bigint not null
+);
+
+-- deleteOptionsByCartProductIds
+create index idx_cart_product_option_cart_product_id on cart_product_option (cart_product_id);
+create index idx_cart_product_option_option_id on cart_product_option (option_id);
+
+alter table cart_product_option
+    add constraint fk_cart_product_option_cart_product foreign key (cart_product_id) references cart_product;
+alter table cart_product_option
+    add constraint fk_cart_product_option_option foreign key (option_id) references option;
+
+-- 주문
+create table delivery (
+    delivery_id bigint not null,
+    base varchar(255),
+    detail varchar(255),
+    zipcode varchar(255),
+    status varchar(255),
+    primary key (delivery_id)
+);
+
+create table orders (
+    order_id bigint not null,
+    cancel_date timestamp,
+    order_date timestamp,
+    status varchar(255),
+    delivery_id bigint,
+    user_id bigint,
+    primary key (order_id)
+);
+
+create index idx_orders_user_id on orders (user_id);
+create index idx_orders_delivery_id on orders (delivery_id);
+
+alter table orders
+    add constraint fk_orders_user foreign key (user_id) references user;
+alter table orders
+    add constraint fk_orders_delivery foreign key (delivery_id) references delivery;
+
+create table order_product (
+    order_product_id bigint not null,
+    count integer not null,
+    order_price integer not null,
+    order_id bigint,
+    product_id bigint,
+    primary key (order_product_id)
+);
+
+create index idx_order_product_order_id on order_product (order_id);
+create index idx_order_product_product_id on order_product (product_id);
+
+alter table order_product
+    add constraint fk_order_product_order foreign key (order_id) references orders;
+alter table order_product
+    add constraint fk_order_product_product foreign key (product_id) references product;
+
+-- 인증
+create table revoked_token (
+    token_id varchar(255) not null,
+    expires_at timestamp,
+    primary key (token_id)
+);
+
+-- findAllByExpiresAtAfter, deleteExpiredBefore
+create index idx_revoked_token_expires_at on revoked_token (expires_at);
+
+-- 메일
+create table outbox_mail (
+    outbox_mail_id bigint not null,
+    attempts integer not null,
+    body clob,
+    created_at timestamp,
+    last_error varchar(255),
+    next_attempt_at timestamp,
+    recipient varchar(255),
+    sent_at timestamp,
+    status varchar(255),
+    subject varchar(255),
+    primary key (outbox_mail_id)
+);
+
+-- findDue
+create index idx_outbox_mail_status_next_attempt_at on outbox_mail (status, next_attempt_at);
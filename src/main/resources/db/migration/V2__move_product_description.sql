@@ -0,0 +1,26 @@
+-- 상품 설명을 별도 테이블로 옮겨서, 상품을 읽을 때 설명을 함께 읽지 않도록 합니다.
+create sequence product_description_seq start with 1 increment by 50;
+
+create table product_description (
+    product_description_id bigint not null,
+    content clob,
+    primary key (product_description_id)
+);
+
+alter table product add column product_description_id bigint;
+
+insert into product_description (product_description_id, content)
+select product_id, description from product;
+
+update product set product_description_id = product_id;
+
+alter sequence product_description_seq
+    restart with (select coalesce(max(product_description_id), 0) + 1 from product_description);
+
+alter table product drop column description;
+
+create unique index uk_product_product_description_id on product (product_description_id);
+
+alter table product
+    add constraint fk_product_product_description
+        foreign key (product_description_id) references product_description;
@@ -0,0 +1,29 @@
+-- 이미지 주소를 주소마다 한 번만 저장하고, 이미지는 이를 참조하도록 합니다.
+create sequence image_asset_seq start with 1 increment by 50;
+
+create table image_asset (
+    image_asset_id bigint not null,
+    url varchar(2048) not null,
+    primary key (image_asset_id),
+    constraint uk_image_asset_url unique (url)
+);
+
+insert into image_asset (image_asset_id, url)
+select min(iamge_id), cast(url as varchar(2048)) from image group by cast(url as varchar(2048));
+
+alter table image add column image_asset_id bigint;
+
+update image i set image_asset_id = (
+    select a.image_asset_id from image_asset a where a.url = cast(i.url as varchar(2048)));
+
+alter sequence image_asset_seq
+    restart with (select coalesce(max(image_asset_id), 0) + 1 from image_asset);
+
+alter table image drop column url;
+
+alter table image alter column image_asset_id set not null;
+
+create index idx_image_image_asset_id on image (image_asset_id);
+
+alter table image
+    add constraint fk_image_image_asset foreign key (image_asset_id) references image_asset;
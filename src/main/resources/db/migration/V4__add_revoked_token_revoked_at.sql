@@ -0,0 +1,7 @@
+-- 다른 인스턴스에서 폐기된 토큰을 주기적으로 읽어올 수 있도록 폐기 시각을 기록합니다.
+alter table revoked_token add column revoked_at timestamp;
+
+update revoked_token set revoked_at = current_timestamp;
+
+-- findAllByRevokedAtAfter
+create index idx_revoked_token_revoked_at on revoked_token (revoked_at);
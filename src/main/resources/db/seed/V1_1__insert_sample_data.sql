@@ -4,42 +4,47 @@ insert into image (product_id, url, iamge_id) values (1, 'https://res.cloudinary
 insert into image (product_id, url, iamge_id) values (1, 'https://res.cloudinary.com/dtcjunptq/image/upload/v1617891428/the3oqpqmdkjleffs5kb.jpg', 6);
 insert into image (product_id, url, iamge_id) values (1, 'https://res.cloudinary.com/dtcjunptq/image/upload/v1617891404/shdt9ajhyrfdoldp4zhn.jpg', 7);
 insert into image (product_id, url, iamge_id) values (1, 'https://res.cloudinary.com/dtcjunptq/image/upload/v1617890985/xw87wxmmmmhccrrdxnpz.jpg', 8);
-
-insert into keyword (name, product_id, keyword_id)values ('지갑', 1, 1);
+insert into keyword (name, product_id, keyword_id) values ('지갑', 1, 1);
 insert into option (additional_price, name, parent_id, product_id, option_id) values (0, '색상', null, 1, 1);
 insert into option (additional_price, name, parent_id, product_id, option_id) values (1000, '갈색', 1, null, 2);
 insert into option (additional_price, name, parent_id, product_id, option_id) values (2000, '검정', 1, null, 3);
-
 insert into option (additional_price, name, parent_id, product_id, option_id) values (0, '각인 추가', null, 1, 16);
 insert into option (additional_price, name, parent_id, product_id, option_id) values (3000, '추가함', 16, null, 17);
 insert into option (additional_price, name, parent_id, product_id, option_id) values (0, '추가하지 않음', 16, null, 18);
 
 insert into product (category, description, discounted_price, name, original_price, product_id) values ('WALLET', '만두 지갑 입니다.', 18000, '만두지갑2', 20000, 2);
 insert into image (product_id, url, iamge_id) values (2, 'https://res.cloudinary.com/dtcjunptq/image/upload/v1617891428/the3oqpqmdkjleffs5kb.jpg', 2);
-insert into keyword (name, product_id, keyword_id)values ('지갑', 2, 2);
+insert into keyword (name, product_id, keyword_id) values ('지갑', 2, 2);
 insert into option (additional_price, name, parent_id, product_id, option_id) values (0, '색상', null, 2, 4);
 insert into option (additional_price, name, parent_id, product_id, option_id) values (1000, '갈색', 4, null, 5);
 insert into option (additional_price, name, parent_id, product_id, option_id) values (2000, '검정', 4, null, 6);
 
 insert into product (category, description, discounted_price, name, original_price, product_id) values ('WALLET', '만두 지갑 입니다.', 18000, '만두지갑3', 20000, 3);
 insert into image (product_id, url, iamge_id) values (3, 'https://res.cloudinary.com/dtcjunptq/image/upload/v1617891404/shdt9ajhyrfdoldp4zhn.jpg', 3);
-insert into keyword (name, product_id, keyword_id)values ('지갑', 3, 3);
+insert into keyword (name, product_id, keyword_id) values ('지갑', 3, 3);
 insert into option (additional_price, name, parent_id, product_id, option_id) values (0, '색상', null, 3, 7);
 insert into option (additional_price, name, parent_id, product_id, option_id) values (1000, '갈색', 7, null, 8);
 insert into option (additional_price, name, parent_id, product_id, option_id) values (2000, '검정', 7, null, 9);
 
 insert into product (category, description, discounted_price, name, original_price, product_id) values ('WALLET', '만두 지갑 입니다.', 18000, '만두지갑4', 20000, 4);
 insert into image (product_id, url, iamge_id) values (4, 'https://res.cloudinary.com/dtcjunptq/image/upload/v1617890985/xw87wxmmmmhccrrdxnpz.jpg', 4);
-insert into keyword (name, product_id, keyword_id)values ('지갑', 4, 4);
+insert into keyword (name, product_id, keyword_id) values ('지갑', 4, 4);
 insert into option (additional_price, name, parent_id, product_id, option_id) values (0, '색상', null, 4, 10);
 insert into option (additional_price, name, parent_id, product_id, option_id) values (1000, '갈색', 10, null, 11);
 insert into option (additional_price, name, parent_id, product_id, option_id) values (2000, '검정', 10, null, 12);
 
 insert into product (category, description, discounted_price, name, original_price, product_id) values ('WALLET', '만두 지갑 입니다.', 18000, '만두지갑5', 20000, 5);
 insert into image (product_id, url, iamge_id) values (5, 'https://res.cloudinary.com/dtcjunptq/image/upload/v1617890885/bvh359gbflgdrwg6jjo9.jpg', 5);
-insert into keyword (name, product_id, keyword_id)values ('지갑', 5, 5);
+insert into keyword (name, product_id, keyword_id) values ('지갑', 5, 5);
 insert into option (additional_price, name, parent_id, product_id, option_id) values (0, '색상', null, 5, 13);
 insert into option (additional_price, name, parent_id, product_id, option_id) values (1000, '갈색', 13, null, 14);
 insert into option (additional_price, name, parent_id, product_id, option_id) values (2000, '검정', 13, null, 15);
 
-insert into user (deleted, email, name, password, provider, provider_id, role, user_id) values(false, 'test@test.com', 'jamie', '$2a$10$QBqPRhegnOKycBUibWxvouXh5.obp8uhjf87Rht4fL50vNyis0Jpm', 'LOCAL', null, 0, 1)
+insert into user (deleted, email, name, password, provider, provider_id, role, token_version, user_id) values (false, 'test@test.com', 'jamie', '$2a$10$QBqPRhegnOKycBUibWxvouXh5.obp8uhjf87Rht4fL50vNyis0Jpm', 'LOCAL', null, 0, 0, 1);
+
+-- 샘플 데이터의 식별자와 겹치지 않도록 시퀀스를 다시 시작합니다.
+alter sequence product_seq restart with 1000;
+alter sequence image_seq restart with 1000;
+alter sequence keyword_seq restart with 1000;
+alter sequence option_seq restart with 1000;
+alter sequence user_seq restart with 1000;
@@ -0,0 +1,244 @@
+package com.solebysole;
+
+import com.solebysole.authentication.domain.RevokedTokenRepository;
+import com.solebysole.cart.domain.CartProductRepository;
+import com.solebysole.mail.domain.OutboxMailRepository;
+import com.solebysole.product.domain.ImageAssetRepository;
+import com.solebysole.product.domain.Product;
+import com.solebysole.product.domain.ProductRepository;
+import com.solebysole.user.domain.UserRepository;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 저장소의 쿼리마다 실행 계획을 확인해서, 전체 테이블을 읽는 쿼리가 없는지 검사합니다.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.solebysole.QueryPlanTest$StatementRecorder")
+@Transactional
+@DisplayName("저장소 쿼리의 실행 계획")
+class QueryPlanTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.now();
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ImageAssetRepository imageAssetRepository;
+
+    @Autowired
+    private CartProductRepository cartProductRepository;
+
+    @Autowired
+    private RevokedTokenRepository revokedTokenRepository;
+
+    @Autowired
+    private OutboxMailRepository outboxMailRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        entityManager.clear();
+        entityManager.getEntityManagerFactory().getCache().evictAll();
+    }
+
+    /**
+     * 현재 스레드에서 실행한 SQL 을 기록합니다.
+     */
+    public static class StatementRecorder implements StatementInspector {
+
+        private static final ThreadLocal<List<String>> STATEMENTS =
+                ThreadLocal.withInitial(ArrayList::new);
+
+        static List<String> record(Runnable query) {
+            STATEMENTS.get().clear();
+            query.run();
+            return new ArrayList<>(STATEMENTS.get());
+        }
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.get().add(sql);
+            return sql;
+        }
+
+    }
+
+    private void assertNoTableScan(Runnable query) {
+        List<String> statements = StatementRecorder.record(query);
+
+        assertThat(statements).isNotEmpty();
+        for (String sql : statements) {
+            String plan = String.join("\n", jdbcTemplate.queryForList("explain " + sql, String.class));
+            assertThat(plan).as(plan).doesNotContain("tableScan");
+        }
+    }
+
+    @Nested
+    @DisplayName("UserRepository")
+    class Describe_UserRepository {
+        @Test
+        @DisplayName("findByEmail 은 전체 테이블을 읽지 않는다.")
+        void findByEmail() {
+            assertNoTableScan(() -> userRepository.findByEmail("test@test.com"));
+        }
+
+        @Test
+        @DisplayName("existsByEmail 은 전체 테이블을 읽지 않는다.")
+        void existsByEmail() {
+            assertNoTableScan(() -> userRepository.existsByEmail("test@test.com"));
+        }
+
+        @Test
+        @DisplayName("findById 는 전체 테이블을 읽지 않는다.")
+        void findById() {
+            assertNoTableScan(() -> userRepository.findById(1L));
+        }
+
+        @Test
+        @DisplayName("findAllByTokenVersionUpdatedAtAfter 는 전체 테이블을 읽지 않는다.")
+        void findAllByTokenVersionUpdatedAtAfter() {
+            assertNoTableScan(() -> userRepository.findAllByTokenVersionUpdatedAtAfter(NOW));
+        }
+    }
+
+    @Nested
+    @DisplayName("ProductRepository")
+    class Describe_ProductRepository {
+        @Test
+        @DisplayName("findById 는 전체 테이블을 읽지 않는다.")
+        void findById() {
+            assertNoTableScan(() -> productRepository.findById(1L));
+        }
+
+        @Test
+        @DisplayName("existsByName 은 전체 테이블을 읽지 않는다.")
+        void existsByName() {
+            assertNoTableScan(() -> productRepository.existsByName("만두지갑1"));
+        }
+
+        @Test
+        @DisplayName("상품의 컬렉션을 읽을 때 전체 테이블을 읽지 않는다.")
+        void collections() {
+            Product product = productRepository.findById(1L).orElseThrow();
+
+            assertNoTableScan(() -> {
+                product.getImages().size();
+                product.getKeywords().size();
+                product.getOptions().forEach(option -> option.getChildren().size());
+            });
+        }
+    }
+
+    @Nested
+    @DisplayName("ImageAssetRepository")
+    class Describe_ImageAssetRepository {
+        @Test
+        @DisplayName("findAllByUrlIn 은 전체 테이블을 읽지 않는다.")
+        void findAllByUrlIn() {
+            assertNoTableScan(() -> imageAssetRepository.findAllByUrlIn(List.of(
+                    "https://res.cloudinary.com/dtcjunptq/image/upload/v1617891401/rgonw3xeyeh7oihrmjeu.jpg",
+                    "https://res.cloudinary.com/dtcjunptq/image/upload/v1617891428/the3oqpqmdkjleffs5kb.jpg")));
+        }
+    }
+
+    @Nested
+    @DisplayName("CartProductRepository")
+    class Describe_CartProductRepository {
+        @Test
+        @DisplayName("findAllByUserId 는 전체 테이블을 읽지 않는다.")
+        void findAllByUserId() {
+            assertNoTableScan(() -> cartProductRepository.findAllByUserId(1L));
+        }
+
+        @Test
+        @DisplayName("findCartVersion 은 전체 테이블을 읽지 않는다.")
+        void findCartVersion() {
+            assertNoTableScan(() -> cartProductRepository.findCartVersion(1L));
+        }
+
+        @Test
+        @DisplayName("findById 는 전체 테이블을 읽지 않는다.")
+        void findById() {
+            assertNoTableScan(() -> cartProductRepository.findById(1L));
+        }
+
+        @Test
+        @DisplayName("findAbandoned 는 전체 테이블을 읽지 않는다.")
+        void findAbandoned() {
+            assertNoTableScan(() ->
+                    cartProductRepository.findAbandoned(NOW, 0L, PageRequest.of(0, 100)));
+        }
+
+        @Test
+        @DisplayName("deleteAllByIds 는 전체 테이블을 읽지 않는다.")
+        void deleteAllByIds() {
+            jdbcTemplate.update("insert into cart_product (cart_product_id, count, last_modified_at, product_id, user_id)"
+                    + " values (1, 1, ?, 1, 1)", NOW.minusDays(1));
+
+            assertNoTableScan(() -> cartProductRepository.deleteAllByIds(List.of(1L, 2L), NOW));
+        }
+    }
+
+    @Nested
+    @DisplayName("RevokedTokenRepository")
+    class Describe_RevokedTokenRepository {
+        @Test
+        @DisplayName("findAllByExpiresAtAfter 는 전체 테이블을 읽지 않는다.")
+        void findAllByExpiresAtAfter() {
+            assertNoTableScan(() -> revokedTokenRepository.findAllByExpiresAtAfter(NOW));
+        }
+
+        @Test
+        @DisplayName("findAllByRevokedAtAfter 는 전체 테이블을 읽지 않는다.")
+        void findAllByRevokedAtAfter() {
+            assertNoTableScan(() -> revokedTokenRepository.findAllByRevokedAtAfter(NOW));
+        }
+
+        @Test
+        @DisplayName("deleteExpiredBefore 는 전체 테이블을 읽지 않는다.")
+        void deleteExpiredBefore() {
+            assertNoTableScan(() -> revokedTokenRepository.deleteExpiredBefore(NOW));
+        }
+    }
+
+    @Nested
+    @DisplayName("OutboxMailRepository")
+    class Describe_OutboxMailRepository {
+        @Test
+        @DisplayName("findDue 는 전체 테이블을 읽지 않는다.")
+        void findDue() {
+            assertNoTableScan(() -> outboxMailRepository.findDue(NOW, PageRequest.of(0, 50)));
+        }
+
+        @Test
+        @DisplayName("findAllById 는 전체 테이블을 읽지 않는다.")
+        void findAllById() {
+            assertNoTableScan(() -> outboxMailRepository.findAllById(List.of(1L, 2L)));
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.solebysole.authentication;
+
+import com.solebysole.user.domain.Role;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.MethodParameter;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CurrentUserArgumentResolverTest {
+
+    private final CurrentUserArgumentResolver resolver = new CurrentUserArgumentResolver();
+
+    private MethodParameter currentUser;
+    private MethodParameter notAnnotated;
+
+    @BeforeEach
+    void setUp() throws NoSuchMethodException {
+        currentUser = new MethodParameter(
+                Handler.class.getDeclaredMethod("handle", UserPrincipal.class, UserPrincipal.class), 0);
+        notAnnotated = new MethodParameter(
+                Handler.class.getDeclaredMethod("handle", UserPrincipal.class, UserPrincipal.class), 1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @DisplayName("supportsParameter 메소드는 @CurrentUser 가 붙은 매개변수에 대해서만 true 를 리턴합니다.")
+    @Test
+    void supportsParameter() {
+        assertThat(resolver.supportsParameter(currentUser)).isTrue();
+        assertThat(resolver.supportsParameter(notAnnotated)).isFalse();
+    }
+
+    @DisplayName("resolveArgument 메소드는 인증된 회원을 리턴합니다.")
+    @Test
+    void resolveArgumentWithAuthenticatedUser() {
+        UserPrincipal principal = UserPrincipal.of(1L, Role.ROLE_USER);
+        SecurityContextHolder.getContext().setAuthentication(new UserAuthentication(principal));
+
+        assertThat(resolver.resolveArgument(currentUser, null, null, null)).isSameAs(principal);
+    }
+
+    @DisplayName("resolveArgument 메소드는 인증되지 않았다면 공유하는 익명 회원을 리턴합니다.")
+    @Test
+    void resolveArgumentWithAnonymousUser() {
+        assertThat(resolver.resolveArgument(currentUser, null, null, null))
+                .isSameAs(UserPrincipal.ANONYMOUS);
+
+        SecurityContextHolder.getContext().setAuthentication(new AnonymousAuthenticationToken(
+                "key", "anonymousUser", AuthorityUtils.createAuthorityList("ROLE_ANONYMOUS")));
+
+        assertThat(resolver.resolveArgument(currentUser, null, null, null))
+                .isSameAs(UserPrincipal.ANONYMOUS);
+    }
+
+    private static class Handler {
+
+        @SuppressWarnings("unused")
+        void handle(@CurrentUser UserPrincipal user, UserPrincipal other) {
+        }
+
+    }
+
+}
@@ -0,0 +1,54 @@
+package com.solebysole.authentication.controller;
+
+import com.solebysole.authentication.dto.SessionRequestData;
+import com.solebysole.authentication.service.LoginRateLimiter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "server.forward-headers-strategy=native")
+@DisplayName("로그인 요청의 클라이언트 IP")
+class SessionClientIpTest {
+
+    private static final String EMAIL = "tester@example.com";
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @MockBean
+    private LoginRateLimiter loginRateLimiter;
+
+    private void login(HttpHeaders headers) {
+        SessionRequestData sessionRequestData = SessionRequestData.builder()
+                .email(EMAIL)
+                .password("password")
+                .build();
+        restTemplate.postForEntity("/session", new HttpEntity<>(sessionRequestData, headers), String.class);
+    }
+
+    @Nested
+    @DisplayName("내부 프록시를 거친 요청이라면")
+    class Context_with_internal_proxy {
+        @Test
+        @DisplayName("X-Forwarded-For 헤더의 클라이언트 IP로 시도 횟수를 센다.")
+        void it_limits_forwarded_client() {
+            HttpHeaders headers = new HttpHeaders();
+            headers.add("X-Forwarded-For", "203.0.113.7");
+
+            login(headers);
+
+            verify(loginRateLimiter).acquire(eq(EMAIL), eq("203.0.113.7"));
+        }
+    }
+
+}
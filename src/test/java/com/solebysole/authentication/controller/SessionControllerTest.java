@@ -1,11 +1,18 @@
 package com.solebysole.authentication.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.solebysole.authentication.UserPrincipal;
+import com.solebysole.authentication.dto.SessionRefreshRequestData;
 import com.solebysole.authentication.dto.SessionRequestData;
+import com.solebysole.authentication.dto.SessionResponseData;
 import com.solebysole.authentication.service.AuthenticationService;
+import com.solebysole.authentication.service.LoginRateLimiter;
 import com.solebysole.common.RestDocsConfiguration;
+import com.solebysole.common.errors.InvalidTokenException;
 import com.solebysole.common.errors.LoginFailException;
+import com.solebysole.common.errors.TooManyLoginAttemptsException;
 import com.solebysole.docs.AuthenticationDocumentation;
+import com.solebysole.user.domain.Role;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -21,8 +28,13 @@ import org.springframework.test.web.servlet.MockMvc;
 import static org.hamcrest.Matchers.containsString;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -41,11 +53,25 @@ class SessionControllerTest {
     @MockBean
     private AuthenticationService authenticationService;
 
+    @MockBean
+    private LoginRateLimiter loginRateLimiter;
+
+    private static final String ACCESS_TOKEN = "a.b.c";
+    private static final String REFRESH_TOKEN = "d.e.f";
+    private static final String INVALID_REFRESH_TOKEN = REFRESH_TOKEN + "INVALID";
+
     private SessionRequestData validSessionRequestData;
     private SessionRequestData inValidSessionRequestData;
 
+    private SessionResponseData sessionResponseData;
+
     @BeforeEach
     void setUp() {
+        sessionResponseData = SessionResponseData.builder()
+                .accessToken(ACCESS_TOKEN)
+                .refreshToken(REFRESH_TOKEN)
+                .build();
+
         validSessionRequestData = SessionRequestData.builder()
                 .email("jamie@example.com")
                 .password("12345678")
@@ -66,10 +92,10 @@ class SessionControllerTest {
             @BeforeEach
             void setUp() {
                 given(authenticationService.login(any(String.class), any(String.class)))
-                        .willReturn("a.b.c");
+                        .willReturn(sessionResponseData);
             }
 
-            @DisplayName("액세스 토큰과 상태코드 201 Created 를 응답한다.")
+            @DisplayName("액세스 토큰, 리프레시 토큰과 상태코드 201 Created 를 응답한다.")
             @Test
             void it_responds_the_access_token_and_status_code_201() throws Exception {
                 mockMvc.perform(post("/session")
@@ -77,6 +103,7 @@ class SessionControllerTest {
                         .content(objectMapper.writeValueAsString(validSessionRequestData)))
                         .andExpect(status().isCreated())
                         .andExpect(jsonPath("accessToken").exists())
+                        .andExpect(jsonPath("refreshToken").exists())
                         .andExpect(content().string(containsString(".")))
                         .andDo(AuthenticationDocumentation.createSession());
             }
@@ -102,6 +129,140 @@ class SessionControllerTest {
                         .andExpect(jsonPath("message").exists());
             }
         }
+
+        @Nested
+        @DisplayName("로그인 시도가 너무 많다면")
+        class Context_with_too_many_attempts {
+            @BeforeEach
+            void setUp() {
+                willThrow(new TooManyLoginAttemptsException(30))
+                        .given(loginRateLimiter).acquire(any(String.class), any(String.class));
+            }
+
+            @DisplayName("비밀번호를 확인하지 않고 다시 시도할 수 있는 시간과 상태코드 429 Too Many Requests 를 응답한다.")
+            @Test
+            void it_responds_status_code_429() throws Exception {
+                mockMvc.perform(post("/session")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(validSessionRequestData)))
+                        .andExpect(status().isTooManyRequests())
+                        .andExpect(header().string("Retry-After", "30"))
+                        .andExpect(jsonPath("message").exists());
+
+                verify(authenticationService, never()).login(any(String.class), any(String.class));
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("POST /session/refresh 요청은")
+    class Describe_POST_refresh {
+        @Nested
+        @DisplayName("유효한 리프레시 토큰이 주어진다면")
+        class Context_with_valid_refresh_token {
+            @BeforeEach
+            void setUp() {
+                given(authenticationService.refresh(REFRESH_TOKEN))
+                        .willReturn(sessionResponseData);
+            }
+
+            @DisplayName("새로 생성된 액세스 토큰, 리프레시 토큰과 상태코드 201 Created 를 응답한다.")
+            @Test
+            void it_responds_new_tokens_and_status_code_201() throws Exception {
+                mockMvc.perform(post("/session/refresh")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(refreshRequest(REFRESH_TOKEN))))
+                        .andExpect(status().isCreated())
+                        .andExpect(jsonPath("accessToken").value(ACCESS_TOKEN))
+                        .andExpect(jsonPath("refreshToken").value(REFRESH_TOKEN))
+                        .andDo(AuthenticationDocumentation.refreshSession());
+            }
+        }
+
+        @Nested
+        @DisplayName("유효하지 않거나 이미 사용한 리프레시 토큰이 주어진다면")
+        class Context_with_invalid_refresh_token {
+            @BeforeEach
+            void setUp() {
+                given(authenticationService.refresh(INVALID_REFRESH_TOKEN))
+                        .willThrow(new InvalidTokenException(INVALID_REFRESH_TOKEN));
+            }
+
+            @DisplayName("에러 메시지와 상태코드 401 Unauthorized 를 응답한다.")
+            @Test
+            void it_responds_the_error_message_and_status_code_401() throws Exception {
+                mockMvc.perform(post("/session/refresh")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(refreshRequest(INVALID_REFRESH_TOKEN))))
+                        .andExpect(status().isUnauthorized())
+                        .andExpect(jsonPath("message").exists());
+            }
+        }
+
+        @Nested
+        @DisplayName("리프레시 토큰이 주어지지 않는다면")
+        class Context_without_refresh_token {
+            @DisplayName("상태코드 400 Bad Request 를 응답한다.")
+            @Test
+            void it_responds_status_code_400() throws Exception {
+                mockMvc.perform(post("/session/refresh")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{}"))
+                        .andExpect(status().isBadRequest());
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("DELETE 요청은")
+    class Describe_DELETE {
+        @BeforeEach
+        void setUp() {
+            given(authenticationService.authenticate(ACCESS_TOKEN))
+                    .willReturn(UserPrincipal.of(1L, Role.ROLE_USER));
+        }
+
+        @Nested
+        @DisplayName("유효한 리프레시 토큰과 액세스 토큰이 주어진다면")
+        class Context_with_valid_tokens {
+            @DisplayName("두 토큰을 폐기하고 상태코드 204 No Content 를 응답한다.")
+            @Test
+            void it_revokes_tokens_and_responds_status_code_204() throws Exception {
+                mockMvc.perform(delete("/session")
+                        .header("Authorization", "Bearer " + ACCESS_TOKEN)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(refreshRequest(REFRESH_TOKEN))))
+                        .andExpect(status().isNoContent())
+                        .andDo(AuthenticationDocumentation.deleteSession());
+
+                verify(authenticationService).logout(REFRESH_TOKEN, ACCESS_TOKEN);
+            }
+        }
+
+        @Nested
+        @DisplayName("유효하지 않은 리프레시 토큰이 주어진다면")
+        class Context_with_invalid_refresh_token {
+            @BeforeEach
+            void setUp() {
+                willThrow(new InvalidTokenException(INVALID_REFRESH_TOKEN))
+                        .given(authenticationService).logout(INVALID_REFRESH_TOKEN, null);
+            }
+
+            @DisplayName("상태코드 401 Unauthorized 를 응답한다.")
+            @Test
+            void it_responds_status_code_401() throws Exception {
+                mockMvc.perform(delete("/session")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(refreshRequest(INVALID_REFRESH_TOKEN))))
+                        .andExpect(status().isUnauthorized());
+            }
+        }
+    }
+
+    private SessionRefreshRequestData refreshRequest(String refreshToken) {
+        return SessionRefreshRequestData.builder()
+                .refreshToken(refreshToken)
+                .build();
     }
 
 }
@@ -1,43 +1,61 @@
 package com.solebysole.authentication.service;
 
+import com.solebysole.authentication.UserPrincipal;
+import com.solebysole.authentication.domain.RevokedTokenRepository;
+import com.solebysole.authentication.dto.SessionResponseData;
 import com.solebysole.authentication.utils.JwtUtil;
 import com.solebysole.common.errors.InvalidTokenException;
 import com.solebysole.common.errors.LoginFailException;
-import com.solebysole.common.errors.UserNotFoundException;
+import com.solebysole.common.errors.PasswordHashingUnavailableException;
 import com.solebysole.user.domain.Role;
 import com.solebysole.user.domain.User;
 import com.solebysole.user.domain.UserRepository;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.PlatformTransactionManager;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
 
 @DisplayName("AuthenticationService 클래스")
 class AuthenticationServiceTest {
 
     private static final String SECRET = "12345678901234567890123456789012";
 
-    private static final String VALID_TOKEN = "eyJhbGciOiJIUzI1NiJ9." +
+    private static final String LEGACY_TOKEN = "eyJhbGciOiJIUzI1NiJ9." +
             "eyJ1c2VySWQiOjF9.ZZ3CUl0jxeLGvQ1Js5nG2Ty5qGTlqai5ubDMXZOdaDk";
-    private static final String INVALID_TOKEN = VALID_TOKEN + "INVALID";
+    private static final String INVALID_TOKEN = LEGACY_TOKEN + "INVALID";
 
     private AuthenticationService authenticationService;
 
     private UserRepository userRepository = mock(UserRepository.class);
+    private TokenVersionTable tokenVersionTable;
+    private RevokedTokenRepository revokedTokenRepository = mock(RevokedTokenRepository.class);
+    private PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+    private RevokedTokenSet revokedTokenSet;
+    private JwtUtil jwtUtil;
 
     private User user;
 
     private final Long existingId = 1L;
-    private final Long notExistingId = 1000L;
     private final Long parsedUserId = 1L;
 
     private final String validEmail = "tester@example.com";
@@ -50,11 +68,18 @@ class AuthenticationServiceTest {
 
     @BeforeEach
     void setUp() {
-        JwtUtil jwtUtil = new JwtUtil(SECRET);
+        jwtUtil = new JwtUtil(SECRET);
         PasswordEncoder passwordEncoder = new BCryptPasswordEncoder();
 
+        tokenVersionTable = new TokenVersionTable(userRepository);
+        revokedTokenSet = new RevokedTokenSet(
+                revokedTokenRepository, new SimpleMeterRegistry(), 1000, 0.01);
+        given(revokedTokenRepository.insertIfAbsent(anyString(), any(LocalDateTime.class), any(LocalDateTime.class)))
+                .willReturn(1);
+
         authenticationService = new AuthenticationService(
-                userRepository, jwtUtil, passwordEncoder);
+                userRepository, jwtUtil, passwordEncoder,
+                tokenVersionTable, revokedTokenSet, transactionManager);
 
         user = User.builder()
                 .id(existingId)
@@ -78,12 +103,77 @@ class AuthenticationServiceTest {
             }
 
             @Test
-            @DisplayName("액세스 토큰을 리턴한다.")
+            @DisplayName("회원 id, 권한, 토큰 버전, 만료 시각이 담긴 액세스 토큰을 리턴한다.")
             void it_returns_access_token() {
-                String accessToken = authenticationService.login(
+                SessionResponseData session = authenticationService.login(
                         validEmail, validPassword);
 
-                assertThat(accessToken).isEqualTo(VALID_TOKEN);
+                Claims claims = jwtUtil.decode(session.getAccessToken());
+                assertThat(claims.get(JwtUtil.USER_ID, Long.class)).isEqualTo(existingId);
+                assertThat(claims.get(JwtUtil.ROLE, String.class)).isEqualTo(role.name());
+                assertThat(claims.get(JwtUtil.TOKEN_VERSION, Long.class)).isZero();
+                assertThat(claims.getExpiration()).isNotNull();
+            }
+
+            @DisplayName("리프레시 토큰을 함께 리턴한다.")
+            @Test
+            void it_returns_refresh_token() {
+                SessionResponseData session = authenticationService.login(
+                        validEmail, validPassword);
+
+                Claims claims = jwtUtil.decode(session.getRefreshToken());
+                assertThat(claims.get(JwtUtil.TOKEN_TYPE, String.class)).isEqualTo(JwtUtil.REFRESH_TOKEN);
+                assertThat(claims.get(JwtUtil.USER_ID, Long.class)).isEqualTo(existingId);
+            }
+        }
+
+        @Nested
+        @DisplayName("더 약한 작업 계수로 저장된 비밀번호라면")
+        class Context_with_a_weaker_password_hash {
+            @BeforeEach
+            void setUp() {
+                user.changePassword(validPassword, new BCryptPasswordEncoder(4));
+                given(userRepository.findByEmail(validEmail))
+                        .willReturn(Optional.of(user));
+                given(userRepository.findById(existingId))
+                        .willReturn(Optional.of(user));
+            }
+
+            @DisplayName("비밀번호를 현재 작업 계수로 다시 해시해서 저장한다.")
+            @Test
+            void it_rehashes_the_password() {
+                authenticationService.login(validEmail, validPassword);
+
+                assertThat(user.getPassword()).startsWith("$2a$10$");
+                assertThat(user.getTokenVersion()).isZero();
+            }
+
+            @Nested
+            @DisplayName("비밀번호 해시 작업이 밀려 있다면")
+            class Context_with_saturated_hashing {
+                @BeforeEach
+                void setUp() {
+                    PasswordEncoder passwordEncoder = spy(new BCryptPasswordEncoder());
+                    willThrow(new PasswordHashingUnavailableException())
+                            .given(passwordEncoder).encode(anyString());
+
+                    authenticationService = new AuthenticationService(
+                            userRepository, jwtUtil, passwordEncoder,
+                            tokenVersionTable, revokedTokenSet, transactionManager);
+                }
+
+                @DisplayName("다시 해시하지 않고 토큰을 리턴한다.")
+                @Test
+                void it_returns_tokens_without_rehashing() {
+                    String previousHash = user.getPassword();
+
+                    SessionResponseData session = authenticationService.login(validEmail, validPassword);
+
+                    assertThat(jwtUtil.decode(session.getAccessToken()).get(JwtUtil.USER_ID, Long.class))
+                            .isEqualTo(existingId);
+                    assertThat(user.getPassword()).isEqualTo(previousHash);
+                    verify(userRepository, never()).findById(existingId);
+                }
             }
         }
 
@@ -123,17 +213,93 @@ class AuthenticationServiceTest {
     }
 
     @Nested
-    @DisplayName("parseToken")
-    class Describe_parseToken {
+    @DisplayName("authenticate")
+    class Describe_authenticate {
         @Nested
-        @DisplayName("유효한 토큰이 주어진다면")
-        class Context_with_a_valid_token {
-            @DisplayName("파싱된 값을 리턴한다.")
+        @DisplayName("권한과 토큰 버전이 담긴 유효한 토큰이 주어진다면")
+        class Context_with_a_stateless_token {
+            private String accessToken;
+
+            @BeforeEach
+            void setUp() {
+                accessToken = jwtUtil.encode(existingId, role, 0);
+            }
+
+            @DisplayName("회원을 조회하지 않고 인증된 회원을 리턴한다.")
             @Test
-            void it_returns_the_parsed_value() {
-                final Long userId = authenticationService.parseToken(VALID_TOKEN);
+            void it_returns_principal_without_loading_user() {
+                UserPrincipal principal = authenticationService.authenticate(accessToken);
+
+                assertThat(principal.getId()).isEqualTo(existingId);
+                assertThat(principal.getRole()).isEqualTo(role);
+                verify(userRepository, never()).findById(existingId);
+            }
+        }
+
+        @Nested
+        @DisplayName("토큰 버전이 바뀐 회원의 토큰이 주어진다면")
+        class Context_with_a_revoked_token {
+            private String accessToken;
+
+            @BeforeEach
+            void setUp() {
+                accessToken = jwtUtil.encode(existingId, role, 0);
+
+                user.revokeTokens();
+                given(userRepository.findAllByTokenVersionUpdatedAtAfter(any(LocalDateTime.class)))
+                        .willReturn(List.of(user));
+                tokenVersionTable.refresh();
+            }
 
-                assertThat(userId).isEqualTo(parsedUserId);
+            @DisplayName("'유효하지 않은 토큰입니다.' 라는 예외를 던진다.")
+            @Test
+            void it_throws_invalid_token_exception() {
+                assertThrows(InvalidTokenException.class,
+                        () -> authenticationService.authenticate(accessToken));
+            }
+        }
+
+        @Nested
+        @DisplayName("로그아웃으로 폐기된 토큰이 주어진다면")
+        class Context_with_a_logged_out_token {
+            private String accessToken;
+
+            @BeforeEach
+            void setUp() {
+                accessToken = jwtUtil.encode(existingId, role, 0);
+                authenticationService.logout(jwtUtil.encodeRefreshToken(existingId, 0), accessToken);
+            }
+
+            @DisplayName("'유효하지 않은 토큰입니다.' 라는 예외를 던진다.")
+            @Test
+            void it_throws_invalid_token_exception() {
+                assertThrows(InvalidTokenException.class,
+                        () -> authenticationService.authenticate(accessToken));
+            }
+        }
+
+        @Nested
+        @DisplayName("리프레시 토큰이 주어진다면")
+        class Context_with_a_refresh_token {
+            @DisplayName("'유효하지 않은 토큰입니다.' 라는 예외를 던진다.")
+            @Test
+            void it_throws_invalid_token_exception() {
+                String refreshToken = jwtUtil.encodeRefreshToken(existingId, 0);
+
+                assertThrows(InvalidTokenException.class,
+                        () -> authenticationService.authenticate(refreshToken));
+            }
+        }
+
+        @Nested
+        @DisplayName("회원 id만 담긴 이전 형식의 토큰이 주어진다면")
+        class Context_with_a_legacy_token {
+            @DisplayName("만료되거나 폐기될 수 없는 토큰이므로 '유효하지 않은 토큰입니다.' 라는 예외를 던진다.")
+            @Test
+            void it_throws_invalid_token_exception() {
+                assertThrows(InvalidTokenException.class,
+                        () -> authenticationService.authenticate(LEGACY_TOKEN));
+                verify(userRepository, never()).findById(parsedUserId);
             }
         }
 
@@ -144,44 +310,89 @@ class AuthenticationServiceTest {
             @Test
             void it_throws_invalid_token_exception() {
                 assertThrows(InvalidTokenException.class,
-                        () -> authenticationService.parseToken(INVALID_TOKEN));
+                        () -> authenticationService.authenticate(INVALID_TOKEN));
             }
         }
     }
 
     @Nested
-    @DisplayName("loadUserById")
-    class Describe_loadUserById {
+    @DisplayName("refresh")
+    class Describe_refresh {
+        private String refreshToken;
+
+        @BeforeEach
+        void setUp() {
+            refreshToken = jwtUtil.encodeRefreshToken(existingId, 0);
+            given(userRepository.findById(existingId))
+                    .willReturn(Optional.of(user));
+        }
+
+        @Nested
+        @DisplayName("유효한 리프레시 토큰이 주어진다면")
+        class Context_with_a_valid_refresh_token {
+            @DisplayName("새로운 액세스 토큰과 리프레시 토큰을 리턴한다.")
+            @Test
+            void it_returns_new_tokens() {
+                SessionResponseData session = authenticationService.refresh(refreshToken);
+
+                assertThat(session.getRefreshToken()).isNotEqualTo(refreshToken);
+                assertThat(authenticationService.authenticate(session.getAccessToken()).getId())
+                        .isEqualTo(existingId);
+            }
+
+            @DisplayName("사용한 리프레시 토큰은 다시 사용할 수 없다.")
+            @Test
+            void it_revokes_the_used_refresh_token() {
+                authenticationService.refresh(refreshToken);
+
+                assertThrows(InvalidTokenException.class,
+                        () -> authenticationService.refresh(refreshToken));
+            }
+        }
+
         @Nested
-        @DisplayName("주어진 id에 해당하는 회원이 존재한다면")
-        class Context_with_a_existing_id {
+        @DisplayName("다른 인스턴스에서 이미 사용한 리프레시 토큰이 주어진다면")
+        class Context_with_a_refresh_token_used_elsewhere {
             @BeforeEach
             void setUp() {
-                given(userRepository.findById(existingId))
-                        .willReturn(Optional.of(user));
+                given(revokedTokenRepository.insertIfAbsent(anyString(), any(LocalDateTime.class), any(LocalDateTime.class)))
+                        .willReturn(0);
             }
 
-            @DisplayName("권한을 리턴한다.")
+            @DisplayName("'유효하지 않은 토큰입니다.' 라는 예외를 던진다.")
             @Test
-            void it_returns_role() {
-                assertThat(user.getRole()).isEqualTo(role);
+            void it_throws_invalid_token_exception() {
+                assertThrows(InvalidTokenException.class,
+                        () -> authenticationService.refresh(refreshToken));
             }
         }
 
         @Nested
-        @DisplayName("주어진 id에 해당하는 회원이 존재하지 않는다면")
-        class Context_with_not_existing_id {
+        @DisplayName("토큰 버전이 바뀐 회원의 리프레시 토큰이 주어진다면")
+        class Context_with_a_revoked_refresh_token {
             @BeforeEach
             void setUp() {
-                given(userRepository.findById(notExistingId))
-                        .willReturn(Optional.empty());
+                user.revokeTokens();
             }
 
-            @DisplayName("'회원을 찾을 수 없습니다.' 라는 예외를 던진다.")
+            @DisplayName("'유효하지 않은 토큰입니다.' 라는 예외를 던진다.")
             @Test
-            void it_throws_user_not_found_exception() {
-                assertThrows(UserNotFoundException.class,
-                        () -> authenticationService.loadUserById(notExistingId));
+            void it_throws_invalid_token_exception() {
+                assertThrows(InvalidTokenException.class,
+                        () -> authenticationService.refresh(refreshToken));
+            }
+        }
+
+        @Nested
+        @DisplayName("액세스 토큰이 주어진다면")
+        class Context_with_an_access_token {
+            @DisplayName("'유효하지 않은 토큰입니다.' 라는 예외를 던진다.")
+            @Test
+            void it_throws_invalid_token_exception() {
+                String accessToken = jwtUtil.encode(existingId, role, 0);
+
+                assertThrows(InvalidTokenException.class,
+                        () -> authenticationService.refresh(accessToken));
             }
         }
     }
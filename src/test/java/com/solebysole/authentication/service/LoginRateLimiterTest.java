@@ -0,0 +1,112 @@
+package com.solebysole.authentication.service;
+
+import com.solebysole.common.errors.TooManyLoginAttemptsException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("LoginRateLimiter 클래스")
+class LoginRateLimiterTest {
+
+    private static final String EMAIL = "tester@example.com";
+    private static final String IP = "10.0.0.1";
+
+    private final AtomicLong clock = new AtomicLong();
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private LoginRateLimiter loginRateLimiter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        loginRateLimiter = new LoginRateLimiter(meterRegistry, 3, 60, 5, 10, 1600, clock::get);
+    }
+
+    @Nested
+    @DisplayName("acquire")
+    class Describe_acquire {
+        @Nested
+        @DisplayName("같은 이메일로 용량보다 많이 시도한다면")
+        class Context_with_too_many_attempts_for_an_email {
+            @BeforeEach
+            void setUp() {
+                for (int i = 0; i < 3; i++) {
+                    loginRateLimiter.acquire(EMAIL, "10.0.0." + i);
+                }
+            }
+
+            @DisplayName("'로그인 시도가 너무 많습니다.' 라는 예외를 던지고 거절 횟수를 기록한다.")
+            @Test
+            void it_throws_exception() {
+                assertThrows(TooManyLoginAttemptsException.class,
+                        () -> loginRateLimiter.acquire(EMAIL.toUpperCase(), "10.0.0.9"));
+                assertThat(meterRegistry.get("authentication.login.rate-limit")
+                        .tags("key", "email", "result", "rejected").counter().count())
+                        .isEqualTo(1);
+            }
+
+            @DisplayName("다음 토큰이 채워질 때까지 남은 초를 예외에 담는다.")
+            @Test
+            void it_tells_when_to_retry() {
+                clock.addAndGet(TimeUnit.SECONDS.toNanos(15));
+
+                TooManyLoginAttemptsException e = assertThrows(TooManyLoginAttemptsException.class,
+                        () -> loginRateLimiter.acquire(EMAIL, IP));
+                assertThat(e.getRetryAfterSeconds()).isEqualTo(45);
+            }
+
+            @DisplayName("토큰이 다시 채워지면 허용한다.")
+            @Test
+            void it_allows_after_refill() {
+                clock.addAndGet(TimeUnit.SECONDS.toNanos(60));
+
+                assertDoesNotThrow(() -> loginRateLimiter.acquire(EMAIL, IP));
+            }
+        }
+
+        @Nested
+        @DisplayName("같은 IP로 용량보다 많이 시도한다면")
+        class Context_with_too_many_attempts_for_an_ip {
+            @BeforeEach
+            void setUp() {
+                for (int i = 0; i < 5; i++) {
+                    loginRateLimiter.acquire(i + EMAIL, IP);
+                }
+            }
+
+            @DisplayName("다른 이메일이라도 '로그인 시도가 너무 많습니다.' 라는 예외를 던진다.")
+            @Test
+            void it_throws_exception() {
+                assertThrows(TooManyLoginAttemptsException.class,
+                        () -> loginRateLimiter.acquire("other@example.com", IP));
+            }
+        }
+
+        @Nested
+        @DisplayName("서로 다른 키가 최대 개수보다 많아진다면")
+        class Context_with_too_many_keys {
+            @DisplayName("오래 사용하지 않은 버킷을 지워서 최대 개수를 넘지 않는다.")
+            @Test
+            void it_evicts_buckets() {
+                for (int i = 0; i < 10_000; i++) {
+                    clock.incrementAndGet();
+                    loginRateLimiter.acquire(i + EMAIL, null);
+                }
+
+                assertThat(meterRegistry.get("authentication.login.rate-limit.buckets").gauge().value())
+                        .isLessThanOrEqualTo(1600);
+            }
+        }
+    }
+
+}
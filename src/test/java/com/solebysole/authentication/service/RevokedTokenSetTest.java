@@ -0,0 +1,118 @@
+package com.solebysole.authentication.service;
+
+import com.solebysole.authentication.domain.RevokedTokenRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Date;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:revoked-token-test;DB_CLOSE_DELAY=-1")
+@DisplayName("RevokedTokenSet 클래스")
+class RevokedTokenSetTest {
+
+    @Autowired
+    private RevokedTokenRepository revokedTokenRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+
+    private RevokedTokenSet node;
+
+    private RevokedTokenSet otherNode;
+
+    private String tokenId;
+
+    private Date expiresAt;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        node = newNode();
+        otherNode = newNode();
+        tokenId = UUID.randomUUID().toString();
+        expiresAt = new Date(System.currentTimeMillis() + TimeUnit.HOURS.toMillis(1));
+    }
+
+    private RevokedTokenSet newNode() {
+        RevokedTokenSet revokedTokenSet = new RevokedTokenSet(
+                revokedTokenRepository, new SimpleMeterRegistry(), 1000, 0.01);
+        revokedTokenSet.load();
+        return revokedTokenSet;
+    }
+
+    private boolean revoke(RevokedTokenSet revokedTokenSet) {
+        return transactionTemplate.execute(status -> revokedTokenSet.revoke(tokenId, expiresAt));
+    }
+
+    @Nested
+    @DisplayName("revoke")
+    class Describe_revoke {
+        @Nested
+        @DisplayName("다른 인스턴스에서 이미 폐기한 토큰이라면")
+        class Context_with_token_revoked_elsewhere {
+            @BeforeEach
+            void setUp() {
+                assertThat(revoke(node)).isTrue();
+            }
+
+            @Test
+            @DisplayName("false 를 리턴한다.")
+            void it_returns_false() {
+                assertThat(revoke(otherNode)).isFalse();
+            }
+        }
+
+        @Nested
+        @DisplayName("트랜잭션이 롤백된다면")
+        class Context_with_rolled_back_transaction {
+            @BeforeEach
+            void setUp() {
+                transactionTemplate.execute(status -> {
+                    node.revoke(tokenId, expiresAt);
+                    status.setRollbackOnly();
+                    return null;
+                });
+            }
+
+            @Test
+            @DisplayName("폐기하지 않는다.")
+            void it_does_not_revoke() {
+                assertThat(node.isRevoked(tokenId)).isFalse();
+                assertThat(revoke(otherNode)).isTrue();
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("refresh")
+    class Describe_refresh {
+        @BeforeEach
+        void setUp() {
+            revoke(node);
+        }
+
+        @Test
+        @DisplayName("다른 인스턴스에서 폐기한 토큰을 읽어온다.")
+        void it_reads_tokens_revoked_elsewhere() {
+            assertThat(otherNode.isRevoked(tokenId)).isFalse();
+
+            otherNode.refresh();
+
+            assertThat(otherNode.isRevoked(tokenId)).isTrue();
+        }
+    }
+
+}
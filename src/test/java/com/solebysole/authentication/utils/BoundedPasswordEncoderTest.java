@@ -0,0 +1,127 @@
+package com.solebysole.authentication.utils;
+
+import com.solebysole.common.errors.PasswordHashingUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class BoundedPasswordEncoderTest {
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private CountDownLatch release;
+
+    private BoundedPasswordEncoder passwordEncoder;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        release = new CountDownLatch(1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        passwordEncoder.close();
+    }
+
+    @DisplayName("encode, matches 메소드는 주어진 인코더로 해시하고 비교합니다.")
+    @Test
+    void encodeAndMatches() {
+        passwordEncoder = new BoundedPasswordEncoder(
+                new BCryptPasswordEncoder(4), 1, 1, 5000, meterRegistry);
+
+        String encoded = passwordEncoder.encode("test1234");
+
+        assertThat(passwordEncoder.matches("test1234", encoded)).isTrue();
+        assertThat(passwordEncoder.matches("WRONG", encoded)).isFalse();
+    }
+
+    @DisplayName("upgradeEncoding 메소드는 더 약한 작업 계수로 만든 해시가 주어진다면 true 를 리턴합니다.")
+    @Test
+    void upgradeEncoding() {
+        passwordEncoder = new BoundedPasswordEncoder(
+                new BCryptPasswordEncoder(5), 1, 1, 5000, meterRegistry);
+
+        assertThat(passwordEncoder.upgradeEncoding(new BCryptPasswordEncoder(4).encode("a")))
+                .isTrue();
+        assertThat(passwordEncoder.upgradeEncoding(new BCryptPasswordEncoder(5).encode("a")))
+                .isFalse();
+    }
+
+    @DisplayName("matches 메소드는 대기열이 가득 찼다면 기다리지 않고 예외를 던집니다.")
+    @Test
+    void matchesWhenSaturated() throws Exception {
+        passwordEncoder = new BoundedPasswordEncoder(
+                new BlockingPasswordEncoder(release), 1, 1, 5000, meterRegistry);
+
+        CompletableFuture.runAsync(() -> passwordEncoder.matches("a", "a"));
+        CompletableFuture.runAsync(() -> passwordEncoder.matches("b", "b"));
+        awaitQueued(1);
+
+        assertThrows(PasswordHashingUnavailableException.class,
+                () -> passwordEncoder.matches("c", "c"));
+        assertThat(meterRegistry.get("authentication.password.hashing.rejected").counter().count())
+                .isEqualTo(1);
+    }
+
+    @DisplayName("matches 메소드는 정해진 시간 안에 끝나지 않으면 예외를 던집니다.")
+    @Test
+    void matchesWhenTimedOut() {
+        passwordEncoder = new BoundedPasswordEncoder(
+                new BlockingPasswordEncoder(release), 1, 1, 10, meterRegistry);
+
+        assertThrows(PasswordHashingUnavailableException.class,
+                () -> passwordEncoder.matches("a", "a"));
+    }
+
+    private void awaitQueued(int count) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (meterRegistry.get("authentication.password.hashing.queue").gauge().value() < count
+                && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+
+    private static class BlockingPasswordEncoder implements PasswordEncoder {
+
+        private final CountDownLatch release;
+
+        private BlockingPasswordEncoder(CountDownLatch release) {
+            this.release = release;
+        }
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            await();
+            return rawPassword.toString();
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            await();
+            return rawPassword.toString().equals(encodedPassword);
+        }
+
+        private void await() {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+    }
+
+}
@@ -1,6 +1,7 @@
 package com.solebysole.authentication.utils;
 
 import com.solebysole.common.errors.InvalidTokenException;
+import com.solebysole.user.domain.Role;
 import io.jsonwebtoken.Claims;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -27,12 +28,40 @@ class JwtUtilTest {
         jwtUtil = new JwtUtil(SECRET);
     }
 
-    @DisplayName("encode 메소드는 주어진 회원 id를 이용해 부호화한 JWT 토큰 문자열을 리턴합니다.")
+    @DisplayName("encode 메소드는 주어진 회원 id, 권한, 토큰 버전과 만료 시각을 담은 JWT 토큰 문자열을 리턴합니다.")
     @Test
     void encode() {
-        String token = jwtUtil.encode(1L);
+        String token = jwtUtil.encode(1L, Role.ROLE_USER, 3);
 
-        assertThat(token).isEqualTo(VALID_TOKEN);
+        Claims claims = jwtUtil.decode(token);
+        assertThat(claims.get(JwtUtil.USER_ID, Long.class)).isEqualTo(1L);
+        assertThat(claims.get(JwtUtil.ROLE, String.class)).isEqualTo(Role.ROLE_USER.name());
+        assertThat(claims.get(JwtUtil.TOKEN_VERSION, Long.class)).isEqualTo(3L);
+        assertThat(claims.get(JwtUtil.TOKEN_TYPE, String.class)).isEqualTo(JwtUtil.ACCESS_TOKEN);
+        assertThat(claims.getId()).isNotBlank();
+        assertThat(claims.getExpiration()).isInTheFuture();
+    }
+
+    @DisplayName("encodeRefreshToken 메소드는 주어진 회원 id, 토큰 버전을 담은, 액세스 토큰보다 오래 유지되는 리프레시 토큰을 리턴합니다.")
+    @Test
+    void encodeRefreshToken() {
+        Claims accessClaims = jwtUtil.decode(jwtUtil.encode(1L, Role.ROLE_USER, 3));
+        Claims claims = jwtUtil.decode(jwtUtil.encodeRefreshToken(1L, 3));
+
+        assertThat(claims.get(JwtUtil.USER_ID, Long.class)).isEqualTo(1L);
+        assertThat(claims.get(JwtUtil.TOKEN_VERSION, Long.class)).isEqualTo(3L);
+        assertThat(claims.get(JwtUtil.TOKEN_TYPE, String.class)).isEqualTo(JwtUtil.REFRESH_TOKEN);
+        assertThat(claims.getId()).isNotEqualTo(accessClaims.getId());
+        assertThat(claims.getExpiration()).isAfter(accessClaims.getExpiration());
+    }
+
+    @DisplayName("decode 메소드는 만료된 토큰이 주어진다면 '유효하지 않은 토큰입니다.' 라는 예외가 발생합니다.")
+    @Test
+    void decodeWithExpiredToken() {
+        String token = new JwtUtil(SECRET, 0, -1, -1).encode(1L, Role.ROLE_USER, 0);
+
+        assertThrows(InvalidTokenException.class,
+                () -> jwtUtil.decode(token));
     }
 
     @DisplayName("decode 메소드는 유효한 토큰이 주어진다면 복호화된 정보 조각을 리턴합니다.")
@@ -50,6 +79,28 @@ class JwtUtilTest {
                 () -> jwtUtil.decode(INVALID_TOKEN));
     }
 
+    @DisplayName("decode 메소드는 형식이 잘못된 토큰이 주어진다면 '유효하지 않은 토큰입니다.' 라는 예외가 발생합니다.")
+    @ParameterizedTest
+    @ValueSource(strings = {"abc", "a.b.c", "eyJhbGciOiJIUzI1NiJ9.eyJ1c2VySWQiOjF9"})
+    void decodeWithMalformedToken(String input) {
+        assertThrows(InvalidTokenException.class,
+                () -> jwtUtil.decode(input));
+    }
+
+    @DisplayName("decode 메소드는 캐시를 사용하더라도 같은 토큰에 대해 같은 정보 조각을 리턴합니다.")
+    @Test
+    void decodeWithVerifiedCache() {
+        JwtUtil cachingJwtUtil = new JwtUtil(SECRET, 16, 60, 60);
+
+        Claims first = cachingJwtUtil.decode(VALID_TOKEN);
+        first.put("userId", 2L);
+        Claims second = cachingJwtUtil.decode(VALID_TOKEN);
+
+        assertThat(second.get("userId", Long.class)).isEqualTo(1L);
+        assertThrows(InvalidTokenException.class,
+                () -> cachingJwtUtil.decode(INVALID_TOKEN));
+    }
+
     @DisplayName("decode 메소드는 '', '   ', null 이 주어진다면 '유효하지 않은 토큰입니다.' 라는 예외가 발생합니다.")
     @ParameterizedTest
     @ValueSource(strings = {"", "   "})
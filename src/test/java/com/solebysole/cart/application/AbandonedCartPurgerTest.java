@@ -0,0 +1,120 @@
+package com.solebysole.cart.application;
+
+import com.solebysole.cart.domain.CartProduct;
+import com.solebysole.cart.domain.CartProductRepository;
+import com.solebysole.user.domain.User;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+@DisplayName("AbandonedCartPurger 클래스")
+class AbandonedCartPurgerTest {
+
+    private AbandonedCartPurger purger;
+
+    private final CartProductRepository cartProductRepository = mock(CartProductRepository.class);
+    private final PlatformTransactionManager transactionManager =
+            mock(PlatformTransactionManager.class);
+    private MeterRegistry meterRegistry;
+
+    private final Long userId = 1L;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+
+        given(cartProductRepository.findAbandoned(any(LocalDateTime.class), eq(0L), any(Pageable.class)))
+                .willReturn(List.of(createCartProduct(1L), createCartProduct(2L)));
+        given(cartProductRepository.findAbandoned(any(LocalDateTime.class), eq(2L), any(Pageable.class)))
+                .willReturn(List.of(createCartProduct(3L)));
+        given(cartProductRepository.findAbandoned(any(LocalDateTime.class), eq(3L), any(Pageable.class)))
+                .willReturn(List.of());
+        given(cartProductRepository.deleteAllByIds(anyList(), any(LocalDateTime.class)))
+                .willAnswer(invocation -> invocation.<List<Long>>getArgument(0).size());
+    }
+
+    @Nested
+    @DisplayName("purge 메소드는")
+    class Describe_purge {
+        @Nested
+        @DisplayName("오래된 장바구니가 여러 묶음에 걸쳐 있다면")
+        class Context_with_abandoned_carts {
+            @BeforeEach
+            void setUp() {
+                purger = createPurger(Long.MAX_VALUE);
+            }
+
+            @Test
+            @DisplayName("마지막 식별자 다음부터 묶음씩 삭제하고, 삭제된 개수를 리턴한다.")
+            void it_deletes_chunk_by_chunk() {
+                int deleted = purger.purge();
+
+                assertThat(deleted).isEqualTo(3);
+                verify(cartProductRepository).deleteAllByIds(eq(List.of(1L, 2L)), any(LocalDateTime.class));
+                verify(cartProductRepository).deleteAllByIds(eq(List.of(3L)), any(LocalDateTime.class));
+            }
+
+            @Test
+            @DisplayName("삭제된 개수와 걸린 시간을 기록한다.")
+            void it_records_metrics() {
+                purger.purge();
+
+                assertThat(meterRegistry.counter("cart.purge.deleted").count()).isEqualTo(3);
+                assertThat(meterRegistry.timer("cart.purge.duration").count()).isEqualTo(1);
+                assertThat(meterRegistry.counter("cart.purge.pauses").count()).isZero();
+            }
+        }
+
+        @Nested
+        @DisplayName("묶음 처리 시간이 기준보다 길다면")
+        class Context_with_slow_chunks {
+            @BeforeEach
+            void setUp() {
+                given(cartProductRepository.deleteAllByIds(anyList(), any(LocalDateTime.class)))
+                        .willAnswer(invocation -> {
+                            Thread.sleep(5);
+                            return invocation.<List<Long>>getArgument(0).size();
+                        });
+                purger = createPurger(1);
+            }
+
+            @Test
+            @DisplayName("다음 묶음 전에 잠시 쉰다.")
+            void it_pauses() {
+                purger.purge();
+
+                assertThat(meterRegistry.counter("cart.purge.pauses").count()).isEqualTo(2);
+            }
+        }
+    }
+
+    private AbandonedCartPurger createPurger(long slowChunkMillis) {
+        return new AbandonedCartPurger(cartProductRepository, transactionManager,
+                meterRegistry, 30, 2, slowChunkMillis, 1, 2);
+    }
+
+    private CartProduct createCartProduct(Long id) {
+        return CartProduct.builder()
+                .id(id)
+                .user(User.builder().id(userId).build())
+                .count(1)
+                .build();
+    }
+
+}
@@ -4,14 +4,18 @@ import com.solebysole.cart.domain.CartProduct;
 import com.solebysole.cart.domain.CartProductRepository;
 import com.solebysole.cart.dto.CartProductCreateData;
 import com.solebysole.cart.dto.CartProductUpdateData;
+import com.solebysole.cart.dto.CartSummaryData;
 import com.solebysole.common.errors.CartProductNotFoundException;
+import com.solebysole.common.errors.OptionNotFoundException;
 import com.solebysole.common.errors.ProductNotFoundException;
 import com.solebysole.product.domain.Category;
 import com.solebysole.product.domain.Image;
+import com.solebysole.product.domain.Option;
 import com.solebysole.product.domain.Product;
 import com.solebysole.product.domain.ProductRepository;
 import com.solebysole.user.domain.Role;
 import com.solebysole.user.domain.User;
+import com.solebysole.user.domain.UserRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -25,6 +29,7 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 @DisplayName("CartProductService 클래스")
@@ -34,6 +39,8 @@ class CartProductServiceTest {
 
     private CartProductRepository cartproductRepository = mock(CartProductRepository.class);
     private ProductRepository productRepository = mock(ProductRepository.class);
+    private UserRepository userRepository = mock(UserRepository.class);
+    private CartSummaryCache cartSummaryCache;
 
     private final Long existingProductId = 1L;
     private final Long notExistingProductId = 1000L;
@@ -41,6 +48,9 @@ class CartProductServiceTest {
     private final Long existingCartProductId = 1L;
     private final Long notExistingCartProductId = 1000L;
 
+    private final Long existingOptionId = 2L;
+    private final Long notExistingOptionId = 1000L;
+
     private User user;
 
     private CartProductCreateData cartProductCreateData;
@@ -55,10 +65,13 @@ class CartProductServiceTest {
 
     @BeforeEach
     void setup() {
-        cartProductService = new CartProductService(cartproductRepository, productRepository);
+        cartSummaryCache = new CartSummaryCache(100);
+        cartProductService = new CartProductService(
+                cartproductRepository, productRepository, userRepository, cartSummaryCache);
 
         cartProductCreateData = CartProductCreateData.builder()
                 .productId(existingProductId)
+                .optionIds(List.of(existingOptionId))
                 .count(3)
                 .build();
 
@@ -76,14 +89,20 @@ class CartProductServiceTest {
                 .role(Role.ROLE_USER)
                 .build();
 
+        given(userRepository.getOne(user.getId()))
+                .willReturn(user);
+
         cartProduct1 = CartProduct.builder()
+                .user(user)
                 .product(product1)
+                .options(List.of(new Option(existingOptionId, "갈색", 1000)))
                 .count(1)
                 .build();
 
         cartProduct2 = CartProduct.builder()
+                .user(user)
                 .product(product2)
-                .count(1)
+                .count(2)
                 .build();
     }
 
@@ -104,7 +123,7 @@ class CartProductServiceTest {
             @Test
             @DisplayName("모든 장바구니 상품 목록을 리턴한다.")
             void it_returns_all_cart_product_list() {
-                assertThat(cartProductService.getCartProducts(user)).hasSize(2);
+                assertThat(cartProductService.getCartProducts(user.getId())).hasSize(2);
             }
         }
 
@@ -120,7 +139,66 @@ class CartProductServiceTest {
             @Test
             @DisplayName("비어있는 상품 목록을 리턴한다.")
             void it_returns_empty_cart_product_list() {
-                assertThat(cartProductService.getCartProducts(user)).hasSize(0);
+                assertThat(cartProductService.getCartProducts(user.getId())).hasSize(0);
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("getCartSummary")
+    class Describe_getCartSummary {
+        @BeforeEach
+        void setUp() {
+            cartProducts = List.of(cartProduct1, cartProduct2);
+
+            given(cartproductRepository.findAllByUserId(user.getId()))
+                    .willReturn(cartProducts);
+            given(cartproductRepository.findById(existingCartProductId))
+                    .willReturn(Optional.of(cartProduct1));
+            given(cartproductRepository.findCartVersion(user.getId()))
+                    .willReturn(1L);
+        }
+
+        @Test
+        @DisplayName("옵션 추가 금액을 포함한 소계, 할인 금액, 결제 금액을 리턴한다.")
+        void it_returns_cart_summary() {
+            CartSummaryData summary = cartProductService.getCartSummary(user.getId());
+
+            assertThat(summary.getSubtotal()).isEqualTo(51000 + 50000 * 2);
+            assertThat(summary.getDiscount()).isEqualTo(10000 * 3);
+            assertThat(summary.getTotal()).isEqualTo(151000 - 30000);
+            assertThat(summary.getVersion()).isEqualTo(cartProductService.getCartVersion(user.getId()));
+        }
+
+        @Nested
+        @DisplayName("장바구니가 변경되지 않았다면")
+        class Context_without_changes {
+            @Test
+            @DisplayName("캐시된 합계를 리턴한다.")
+            void it_returns_cached_summary() {
+                CartSummaryData summary = cartProductService.getCartSummary(user.getId());
+
+                assertThat(cartProductService.getCartSummary(user.getId())).isSameAs(summary);
+                verify(cartproductRepository, times(1)).findAllByUserId(user.getId());
+            }
+        }
+
+        @Nested
+        @DisplayName("장바구니가 변경되었다면")
+        class Context_with_changes {
+            @Test
+            @DisplayName("바뀐 버전의 합계를 다시 계산한다.")
+            void it_recalculates_summary() {
+                CartSummaryData summary = cartProductService.getCartSummary(user.getId());
+
+                cartProductService.updateCartProduct(existingCartProductId, cartProductUpdateData);
+                given(cartproductRepository.findCartVersion(user.getId()))
+                        .willReturn(2L);
+
+                CartSummaryData recalculated = cartProductService.getCartSummary(user.getId());
+                assertThat(recalculated.getVersion()).isEqualTo(2L);
+                assertThat(recalculated.getVersion()).isNotEqualTo(summary.getVersion());
+                verify(cartproductRepository, times(2)).findAllByUserId(user.getId());
             }
         }
     }
@@ -143,12 +221,35 @@ class CartProductServiceTest {
             @Test
             @DisplayName("장바구니 상품을 생성한다.")
             void it_create_cart_product() {
-                cartProductService.crateCartProduct(user, cartProductCreateData);
+                cartProductService.crateCartProduct(user.getId(), cartProductCreateData);
 
                 verify(cartproductRepository).save(any(CartProduct.class));
             }
         }
 
+        @Nested
+        @DisplayName("상품에 없는 옵션 id가 주어진다면")
+        class Context_with_not_existing_option_id {
+            @BeforeEach
+            void setUp() {
+                given(productRepository.findById(existingProductId))
+                        .willReturn(Optional.of(product1));
+
+                cartProductCreateData = CartProductCreateData.builder()
+                        .productId(existingProductId)
+                        .optionIds(List.of(notExistingOptionId))
+                        .count(3)
+                        .build();
+            }
+
+            @Test
+            @DisplayName("'상품 옵션을 찾을 수 없습니다.' 라는 예외가 발생한다.")
+            void it_throws_exception() {
+                assertThrows(OptionNotFoundException.class,
+                        () -> cartProductService.crateCartProduct(user.getId(), cartProductCreateData));
+            }
+        }
+
         @Nested
         @DisplayName("존재하지 않는 상품 id가 주어진다면")
         class Context_with_not_existing_product_id {
@@ -162,7 +263,7 @@ class CartProductServiceTest {
             @DisplayName("'상품을 찾을 수 없습니다.' 라는 예외가 발생한다.")
             void it_throws_exception() {
                 assertThrows(ProductNotFoundException.class,
-                        () -> cartProductService.crateCartProduct(user, cartProductCreateData));
+                        () -> cartProductService.crateCartProduct(user.getId(), cartProductCreateData));
             }
         }
     }
@@ -255,6 +356,7 @@ class CartProductServiceTest {
                 .build();
 
         product.addImage(new Image("url1"));
+        product.addOption(new Option(1L, "색상", new Option(existingOptionId, "갈색", 1000)));
 
         return product;
     }
@@ -0,0 +1,79 @@
+package com.solebysole.cart.application;
+
+import com.solebysole.cart.domain.CartProductRepository;
+import com.solebysole.cart.dto.CartProductCreateData;
+import com.solebysole.cart.dto.CartSummaryData;
+import com.solebysole.product.domain.ProductRepository;
+import com.solebysole.user.domain.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@DisplayName("장바구니 버전")
+class CartVersionConsistencyTest {
+
+    private final Long userId = 1L;
+
+    @Autowired
+    private CartProductService cartProductService;
+
+    @Autowired
+    private CartProductRepository cartProductRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long cartProductId;
+
+    @BeforeEach
+    void setUp() {
+        cartProductId = cartProductService.crateCartProduct(userId, CartProductCreateData.builder()
+                .productId(1L)
+                .optionIds(List.of())
+                .count(1)
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("delete from cart_product where user_id = ?", userId);
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스에서도 같은 장바구니라면 같은 버전을 리턴한다.")
+    void it_returns_same_version_on_other_instances() {
+        CartProductService otherInstance = new CartProductService(
+                cartProductRepository, productRepository, userRepository, new CartSummaryCache(100));
+
+        assertThat(otherInstance.getCartVersion(userId))
+                .isEqualTo(cartProductService.getCartVersion(userId));
+    }
+
+    @Test
+    @DisplayName("이 인스턴스를 거치지 않고 장바구니가 바뀌어도 버전이 바뀌고 합계를 다시 계산한다.")
+    void it_changes_version_on_changes_made_elsewhere() {
+        CartSummaryData summary = cartProductService.getCartSummary(userId);
+
+        jdbcTemplate.update("update cart_product set count = 3 where cart_product_id = ?", cartProductId);
+
+        CartSummaryData recalculated = cartProductService.getCartSummary(userId);
+        assertThat(recalculated.getVersion()).isNotEqualTo(summary.getVersion());
+        assertThat(recalculated.getSubtotal()).isEqualTo(summary.getSubtotal() * 3);
+    }
+
+}
@@ -1,11 +1,13 @@
 package com.solebysole.cart.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.solebysole.authentication.UserPrincipal;
 import com.solebysole.authentication.service.AuthenticationService;
 import com.solebysole.cart.application.CartProductService;
 import com.solebysole.cart.dto.CartProductCreateData;
 import com.solebysole.cart.dto.CartProductData;
 import com.solebysole.cart.dto.CartProductUpdateData;
+import com.solebysole.cart.dto.CartSummaryData;
 import com.solebysole.common.RestDocsConfiguration;
 import com.solebysole.common.errors.CartProductNotFoundException;
 import com.solebysole.docs.CartDocumentation;
@@ -28,12 +30,14 @@ import java.util.List;
 
 import static org.hamcrest.Matchers.hasSize;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.willThrow;
 import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.delete;
 import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.get;
 import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.patch;
 import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -65,6 +69,9 @@ class CartProductControllerTest {
     private final Long existingCartProductId = 1L;
     private final Long notExistingCartProductId = 1000L;
 
+    private final long cartVersion = 7L;
+    private final String cartETag = "\"7\"";
+
     private CartProductCreateData cartProductCreateData;
     private CartProductCreateData invalidCartProductCreateData;
 
@@ -81,6 +88,7 @@ class CartProductControllerTest {
     void setUp() {
         cartProductCreateData = CartProductCreateData.builder()
                 .productId(existingProductId)
+                .optionIds(List.of(2L))
                 .count(3)
                 .build();
 
@@ -104,10 +112,10 @@ class CartProductControllerTest {
         cartProductData1 = createCartProductData(1L, 1L, 3);
         cartProductData2 = createCartProductData(2L, 2L, 1);
 
-        given(authenticationService.parseToken(VALID_TOKEN))
-                .willReturn(existingUserId);
-        given(authenticationService.loadUserById(existingUserId))
-                .willReturn(user);
+        given(authenticationService.authenticate(VALID_TOKEN))
+                .willReturn(UserPrincipal.of(user));
+        given(cartProductService.getCartVersion(existingUserId))
+                .willReturn(cartVersion);
     }
 
     @Nested
@@ -120,7 +128,7 @@ class CartProductControllerTest {
             void setUp() {
                 cartProductDataList = List.of(cartProductData1, cartProductData2);
 
-                given(cartProductService.getCartProducts(user))
+                given(cartProductService.getCartProducts(existingUserId))
                         .willReturn(cartProductDataList);
             }
 
@@ -143,7 +151,7 @@ class CartProductControllerTest {
             void setUp() {
                 cartProductDataList = List.of();
 
-                given(cartProductService.getCartProducts(user))
+                given(cartProductService.getCartProducts(existingUserId))
                         .willReturn(cartProductDataList);
             }
 
@@ -171,6 +179,60 @@ class CartProductControllerTest {
         }
     }
 
+    @Nested
+    @DisplayName("GET /summary 요청은")
+    class Describe_GET_summary {
+        @BeforeEach
+        void setUp() {
+            given(cartProductService.getCartSummary(existingUserId))
+                    .willReturn(CartSummaryData.builder()
+                            .version(cartVersion)
+                            .subtotal(151000)
+                            .discount(30000)
+                            .total(121000)
+                            .build());
+        }
+
+        @Nested
+        @DisplayName("장바구니 버전이 주어지지 않았다면")
+        class Context_without_if_none_match {
+            @Test
+            @DisplayName("장바구니 합계와 ETag, 상태코드 200 OK 를 응답한다.")
+            void it_responds_cart_summary() throws Exception {
+                mockMvc.perform(get("/api/cart/summary")
+                        .header("Authorization", "Bearer " + VALID_TOKEN))
+                        .andExpect(header().string("ETag", cartETag))
+                        .andExpect(jsonPath("$.total").value(121000))
+                        .andExpect(status().isOk())
+                        .andDo(CartDocumentation.getCartSummary());
+            }
+        }
+
+        @Nested
+        @DisplayName("현재 장바구니 버전이 주어진다면")
+        class Context_with_current_version {
+            @Test
+            @DisplayName("상태코드 304 Not Modified 를 응답한다.")
+            void it_responds_status_code_304() throws Exception {
+                mockMvc.perform(get("/api/cart/summary")
+                        .header("Authorization", "Bearer " + VALID_TOKEN)
+                        .header("If-None-Match", cartETag))
+                        .andExpect(status().isNotModified());
+            }
+        }
+
+        @Nested
+        @DisplayName("알수 없는 사용자가 주어진다면")
+        class Context_with_anonymous_user {
+            @Test
+            @DisplayName("상태코드 401 Unauthorized 를 응답한다.")
+            void it_responds_status_code_401() throws Exception {
+                mockMvc.perform(get("/api/cart/summary"))
+                        .andExpect(status().isUnauthorized());
+            }
+        }
+    }
+
     @Nested
     @DisplayName("POST 요청은")
     class Describe_POST {
@@ -179,7 +241,7 @@ class CartProductControllerTest {
         class Context_with_cart_product_create_data {
             @BeforeEach
             void setUp() {
-                given(cartProductService.crateCartProduct(any(User.class), any(CartProductCreateData.class)))
+                given(cartProductService.crateCartProduct(eq(existingUserId), any(CartProductCreateData.class)))
                         .willReturn(savedId);
             }
 
@@ -1,8 +1,11 @@
 package com.solebysole.cart.domain;
 
+import com.solebysole.product.domain.Option;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
+
 import static org.assertj.core.api.Assertions.assertThat;
 
 class CartProductTest {
@@ -20,4 +23,15 @@ class CartProductTest {
         assertThat(cartProduct.getCount()).isEqualTo(nextCount);
     }
 
+    @DisplayName("getOptionPrice 메소드는 선택한 옵션들의 추가 금액 합을 리턴합니다.")
+    @Test
+    void getOptionPrice() {
+        CartProduct cartProduct = CartProduct.builder()
+                .options(List.of(new Option("갈색", 1000), new Option("추가함", 3000)))
+                .count(1)
+                .build();
+
+        assertThat(cartProduct.getOptionPrice()).isEqualTo(4000);
+    }
+
 }
@@ -0,0 +1,29 @@
+package com.solebysole.cart.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CartVersionTest {
+
+    @DisplayName("value 메소드는 장바구니 상품을 더한 순서와 관계없이 같은 버전을 리턴합니다.")
+    @Test
+    void valueIgnoresOrder() {
+        long version = new CartVersion().add(1L, 2).add(2L, 1).value();
+
+        assertThat(new CartVersion().add(2L, 1).add(1L, 2).value()).isEqualTo(version);
+    }
+
+    @DisplayName("value 메소드는 장바구니 상품의 개수나 구성이 바뀌면 다른 버전을 리턴합니다.")
+    @Test
+    void valueChangesWithContents() {
+        long version = new CartVersion().add(1L, 2).add(2L, 1).value();
+
+        assertThat(new CartVersion().add(1L, 3).add(2L, 1).value()).isNotEqualTo(version);
+        assertThat(new CartVersion().add(1L, 2).value()).isNotEqualTo(version);
+        assertThat(new CartVersion().add(1L, 2).add(3L, 1).value()).isNotEqualTo(version);
+        assertThat(new CartVersion().add(1L, 1).add(2L, 2).value()).isNotEqualTo(version);
+    }
+
+}
@@ -0,0 +1,84 @@
+package com.solebysole.cart.infra;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@DisplayName("JpaCartProductRepository 클래스")
+class JpaCartProductRepositoryTest {
+
+    private static final LocalDateTime MODIFIED_BEFORE = LocalDateTime.now().minusDays(30);
+
+    @Autowired
+    private JpaCartProductRepository repository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    void setUp() {
+        insertCartProduct(9001L, MODIFIED_BEFORE.minusDays(1));
+        insertCartProduct(9002L, MODIFIED_BEFORE.minusDays(1));
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("delete from cart_product_option where cart_product_id in (9001, 9002)");
+        jdbcTemplate.update("delete from cart_product where cart_product_id in (9001, 9002)");
+    }
+
+    private void insertCartProduct(Long id, LocalDateTime lastModifiedAt) {
+        jdbcTemplate.update("insert into cart_product (cart_product_id, count, last_modified_at, product_id, user_id)"
+                + " values (?, 1, ?, 1, 1)", id, lastModifiedAt);
+        jdbcTemplate.update("insert into cart_product_option (cart_product_id, option_id) values (?, 1)", id);
+    }
+
+    private int countRows(String table, Long id) {
+        return jdbcTemplate.queryForObject(
+                "select count(*) from " + table + " where cart_product_id = ?", Integer.class, id);
+    }
+
+    @Nested
+    @DisplayName("deleteAllByIds")
+    class Describe_deleteAllByIds {
+        @Nested
+        @DisplayName("찾은 뒤에 변경된 장바구니 상품이 있다면")
+        class Context_with_cart_product_modified_after_lookup {
+            @BeforeEach
+            void setUp() {
+                jdbcTemplate.update("update cart_product set last_modified_at = ? where cart_product_id = 9002",
+                        LocalDateTime.now());
+            }
+
+            @Test
+            @DisplayName("변경된 장바구니 상품과 그 옵션은 남기고, 나머지만 삭제한다.")
+            void it_keeps_modified_cart_product() {
+                Integer deleted = new TransactionTemplate(transactionManager).execute(status ->
+                        repository.deleteAllByIds(List.of(9001L, 9002L), MODIFIED_BEFORE));
+
+                assertThat(deleted).isEqualTo(1);
+                assertThat(countRows("cart_product", 9001L)).isZero();
+                assertThat(countRows("cart_product_option", 9001L)).isZero();
+                assertThat(countRows("cart_product", 9002L)).isEqualTo(1);
+                assertThat(countRows("cart_product_option", 9002L)).isEqualTo(1);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,91 @@
+package com.solebysole.cart.infra;
+
+import com.solebysole.cart.domain.CartProduct;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:write-behind-test;DB_CLOSE_DELAY=-1",
+        "cart.write-behind.enabled=true",
+        "cart.write-behind.flush-interval-millis=50",
+        "cart.write-behind.log-sync=false"
+})
+@DisplayName("WriteBehindCartProductRepository 의 DB 반영")
+class WriteBehindCartProductRepositoryFlushTest {
+
+    private static final Long USER_ID = 1L;
+
+    private static final Long CART_PRODUCT_ID = 9101L;
+
+    @Autowired
+    private WriteBehindCartProductRepository repository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @DynamicPropertySource
+    static void logDirectory(DynamicPropertyRegistry registry) throws IOException {
+        String directory = Files.createTempDirectory("cart-write-behind").toString();
+        registry.add("cart.write-behind.log-directory", () -> directory);
+    }
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("insert into cart_product (cart_product_id, count, last_modified_at, product_id, user_id)"
+                + " values (?, 1, current_timestamp, 1, ?)", CART_PRODUCT_ID, USER_ID);
+        jdbcTemplate.update("insert into cart_product_option (cart_product_id, option_id) values (?, 2)",
+                CART_PRODUCT_ID);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("delete from cart_product_option where cart_product_id = ?", CART_PRODUCT_ID);
+        jdbcTemplate.update("delete from cart_product where cart_product_id = ?", CART_PRODUCT_ID);
+    }
+
+    private int countRows(String table) {
+        return jdbcTemplate.queryForObject(
+                "select count(*) from " + table + " where cart_product_id = ?", Integer.class, CART_PRODUCT_ID);
+    }
+
+    private void awaitDeleted() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (countRows("cart_product") > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+        }
+    }
+
+    @Nested
+    @DisplayName("옵션을 고른 장바구니 상품을 삭제한다면")
+    class Context_with_options {
+        @Test
+        @DisplayName("옵션과 함께 DB에서 삭제한다.")
+        void it_deletes_options_with_cart_product() throws InterruptedException {
+            CartProduct cartProduct = repository.findAllByUserId(USER_ID).stream()
+                    .filter(candidate -> candidate.getId().equals(CART_PRODUCT_ID))
+                    .findFirst()
+                    .orElseThrow();
+
+            repository.delete(cartProduct);
+            awaitDeleted();
+
+            assertThat(countRows("cart_product")).isZero();
+            assertThat(countRows("cart_product_option")).isZero();
+        }
+    }
+
+}
@@ -0,0 +1,248 @@
+package com.solebysole.cart.infra;
+
+import com.solebysole.cart.domain.CartProduct;
+import com.solebysole.cart.domain.CartVersion;
+import com.solebysole.product.domain.Product;
+import com.solebysole.user.domain.User;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.InOrder;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.persistence.EntityManager;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@DisplayName("WriteBehindCartProductRepository 클래스")
+class WriteBehindCartProductRepositoryTest {
+
+    private static final long FLUSH_INTERVAL_MILLIS = 60_000L;
+
+    @TempDir
+    Path logDirectory;
+
+    private WriteBehindCartProductRepository repository;
+
+    private final JpaCartProductRepository jpaCartProductRepository =
+            mock(JpaCartProductRepository.class);
+    private final EntityManager entityManager = mock(EntityManager.class);
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final PlatformTransactionManager transactionManager =
+            mock(PlatformTransactionManager.class);
+
+    private final Long userId = 1L;
+    private final Long productId = 10L;
+    private final Long cartProductId = 100L;
+
+    private User user;
+    private Product product;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        user = User.builder().id(userId).build();
+        product = Product.builder().id(productId).name("가죽지갑").build();
+
+        given(entityManager.getReference(User.class, userId)).willReturn(user);
+        given(entityManager.getReference(Product.class, productId)).willReturn(product);
+        given(jpaCartProductRepository.findAllByUserId(userId))
+                .willReturn(List.of(createCartProduct(cartProductId, 1)));
+
+        repository = createRepository();
+        repository.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        repository.stop();
+    }
+
+    @Nested
+    @DisplayName("findAllByUserId")
+    class Describe_findAllByUserId {
+        @Test
+        @DisplayName("처음에만 DB에서 읽고, 이후에는 메모리에서 장바구니 상품 목록을 리턴한다.")
+        void it_returns_cart_products_from_memory() {
+            repository.findAllByUserId(userId);
+            List<CartProduct> cartProducts = repository.findAllByUserId(userId);
+
+            assertThat(cartProducts).hasSize(1);
+            assertThat(cartProducts.get(0).getId()).isEqualTo(cartProductId);
+            assertThat(cartProducts.get(0).getProduct()).isEqualTo(product);
+            verify(jpaCartProductRepository, times(1)).findAllByUserId(userId);
+        }
+    }
+
+    @Nested
+    @DisplayName("findCartVersion")
+    class Describe_findCartVersion {
+        @Test
+        @DisplayName("DB에 저장된 장바구니와 같은 버전을 리턴하고, 메모리의 장바구니가 바뀌면 버전도 바뀐다.")
+        void it_returns_version_of_cart_in_memory() {
+            long version = repository.findCartVersion(userId);
+            assertThat(version).isEqualTo(new CartVersion().add(cartProductId, 1).value());
+
+            repository.save(createCartProduct(cartProductId, 3));
+
+            assertThat(repository.findCartVersion(userId)).isNotEqualTo(version);
+        }
+    }
+
+    @Nested
+    @DisplayName("save")
+    class Describe_save {
+        @Nested
+        @DisplayName("새 장바구니 상품이 주어진다면")
+        class Context_with_new_cart_product {
+            @BeforeEach
+            void setUp() {
+                given(jpaCartProductRepository.save(any(CartProduct.class)))
+                        .willReturn(createCartProduct(200L, 2));
+            }
+
+            @Test
+            @DisplayName("DB에 곧바로 저장하고 메모리에도 반영한다.")
+            void it_saves_through_and_remembers() {
+                repository.save(CartProduct.builder()
+                        .user(user)
+                        .product(product)
+                        .count(2)
+                        .build());
+
+                verify(jpaCartProductRepository).save(any(CartProduct.class));
+                assertThat(repository.findById(200L)).isPresent();
+            }
+        }
+
+        @Nested
+        @DisplayName("기존 장바구니 상품이 여러 번 변경된다면")
+        class Context_with_existing_cart_product {
+            @Test
+            @DisplayName("메모리에 반영하고, 합쳐진 마지막 상태만 일괄로 DB에 반영한다.")
+            void it_flushes_coalesced_changes() {
+                repository.save(createCartProduct(cartProductId, 3));
+                repository.save(createCartProduct(cartProductId, 5));
+
+                assertThat(repository.findById(cartProductId))
+                        .map(CartProduct::getCount)
+                        .contains(5);
+                verify(jdbcTemplate, never()).batchUpdate(any(String.class), anyList());
+
+                repository.stop();
+
+                verify(jdbcTemplate).batchUpdate(any(String.class),
+                        argThat((List<Object[]> rows) -> hasSingleUpdate(rows, 5, cartProductId)));
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("delete")
+    class Describe_delete {
+        @Test
+        @DisplayName("메모리에서 지우고, 종료 시 선택한 옵션부터 DB에서 지운다.")
+        void it_deletes_from_memory() {
+            repository.delete(createCartProduct(cartProductId, 1));
+
+            assertThat(repository.findAllByUserId(userId)).isEmpty();
+
+            repository.stop();
+
+            InOrder inOrder = inOrder(jdbcTemplate);
+            inOrder.verify(jdbcTemplate).batchUpdate(startsWith("delete from cart_product_option"), anyList());
+            inOrder.verify(jdbcTemplate).batchUpdate(startsWith("delete from cart_product "), anyList());
+        }
+    }
+
+    @Nested
+    @DisplayName("deleteAllByIds")
+    class Describe_deleteAllByIds {
+        private final Long otherCartProductId = 300L;
+
+        private final LocalDateTime modifiedBefore = LocalDateTime.now().minusDays(30);
+
+        @BeforeEach
+        void setUp() {
+            given(jpaCartProductRepository.findAllById(List.of(otherCartProductId)))
+                    .willReturn(List.of(createCartProduct(otherCartProductId, 1)));
+            given(jpaCartProductRepository.deleteAllByIds(List.of(otherCartProductId), modifiedBefore))
+                    .willReturn(1);
+        }
+
+        @Test
+        @DisplayName("메모리에 올라와 있는 장바구니의 상품은 건너뛰고 나머지만 삭제한다.")
+        void it_skips_cart_products_in_memory() {
+            repository.findAllByUserId(userId);
+
+            int deleted = repository.deleteAllByIds(List.of(cartProductId, otherCartProductId), modifiedBefore);
+
+            assertThat(deleted).isEqualTo(1);
+            verify(jpaCartProductRepository).deleteAllByIds(List.of(otherCartProductId), modifiedBefore);
+        }
+    }
+
+    @Nested
+    @DisplayName("반영되지 않은 로그가 남아있다면")
+    class Context_with_unflushed_log {
+        @Test
+        @DisplayName("다시 시작할 때 로그를 DB에 반영한다.")
+        void it_replays_log_on_start() throws IOException {
+            repository.save(createCartProduct(cartProductId, 7));
+            given(jdbcTemplate.batchUpdate(any(String.class), anyList()))
+                    .willThrow(new IllegalStateException("DB 장애"))
+                    .willReturn(new int[]{1});
+            repository.stop();
+
+            repository = createRepository();
+            repository.start();
+
+            verify(jdbcTemplate, times(2)).batchUpdate(any(String.class),
+                    argThat((List<Object[]> rows) -> hasSingleUpdate(rows, 7, cartProductId)));
+        }
+    }
+
+    private WriteBehindCartProductRepository createRepository() {
+        return new WriteBehindCartProductRepository(
+                jpaCartProductRepository, entityManager, jdbcTemplate, transactionManager,
+                2, FLUSH_INTERVAL_MILLIS, logDirectory.toString(), false, 100);
+    }
+
+    private boolean hasSingleUpdate(List<Object[]> rows, int count, Long id) {
+        if (rows.size() != 1) {
+            return false;
+        }
+        Object[] row = rows.get(0);
+        return row.length == 3 && row[0].equals(count)
+                && row[1] instanceof Timestamp && row[2].equals(id);
+    }
+
+    private CartProduct createCartProduct(Long id, int count) {
+        return CartProduct.builder()
+                .id(id)
+                .user(user)
+                .product(product)
+                .count(count)
+                .build();
+    }
+
+}
@@ -0,0 +1,66 @@
+package com.solebysole.common.config;
+
+import com.solebysole.authentication.utils.JwtUtil;
+import com.solebysole.user.domain.Role;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "management.endpoints.web.exposure.include=health, metrics, productcache")
+@AutoConfigureMockMvc
+@DisplayName("액추에이터 엔드포인트 권한")
+class ActuatorSecurityTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Test
+    @DisplayName("health 는 인증 없이 조회할 수 있다.")
+    void health() throws Exception {
+        mockMvc.perform(get("/actuator/health"))
+                .andExpect(status().isOk());
+    }
+
+    @Nested
+    @DisplayName("health 가 아닌 엔드포인트는")
+    class Describe_other_endpoints {
+        @ParameterizedTest
+        @ValueSource(strings = {"/actuator/metrics", "/actuator/productcache"})
+        @DisplayName("인증 없이 요청하면 401 Unauthorized 를 응답한다.")
+        void it_rejects_anonymous_requests(String path) throws Exception {
+            mockMvc.perform(get(path))
+                    .andExpect(status().isUnauthorized());
+        }
+
+        @ParameterizedTest
+        @ValueSource(strings = {"/actuator/metrics", "/actuator/productcache"})
+        @DisplayName("일반 회원이 요청하면 403 Forbidden 을 응답한다.")
+        void it_rejects_users(String path) throws Exception {
+            mockMvc.perform(get(path)
+                    .header("Authorization", "Bearer " + jwtUtil.encode(1L, Role.ROLE_USER, 0)))
+                    .andExpect(status().isForbidden());
+        }
+
+        @ParameterizedTest
+        @ValueSource(strings = {"/actuator/metrics", "/actuator/productcache"})
+        @DisplayName("관리자가 요청하면 응답한다.")
+        void it_allows_admins(String path) throws Exception {
+            mockMvc.perform(get(path)
+                    .header("Authorization", "Bearer " + jwtUtil.encode(1L, Role.ROLE_ADMIN, 0)))
+                    .andExpect(status().isOk());
+        }
+    }
+
+}
@@ -0,0 +1,34 @@
+package com.solebysole.common.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AnonymousCatalogRequestMatcherTest {
+
+    private final AnonymousCatalogRequestMatcher matcher = new AnonymousCatalogRequestMatcher();
+
+    @DisplayName("matches 메소드는 인증 헤더 없이 상품을 조회하는 요청에 대해서만 true 를 리턴합니다.")
+    @ParameterizedTest
+    @CsvSource({
+            "GET, /api/products, false, true",
+            "GET, /api/products/1, false, true",
+            "GET, /api/products/1, true, false",
+            "POST, /api/products, false, false",
+            "GET, /api/cart, false, false",
+            "GET, /api/users/me, false, false",
+    })
+    void matches(String method, String uri, boolean authorized, boolean expected) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, uri);
+        request.setServletPath(uri);
+        if (authorized) {
+            request.addHeader("Authorization", "Bearer a.b.c");
+        }
+
+        assertThat(matcher.matches(request)).isEqualTo(expected);
+    }
+
+}
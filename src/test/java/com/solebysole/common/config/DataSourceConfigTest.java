@@ -0,0 +1,162 @@
+package com.solebysole.common.config;
+
+import com.solebysole.authentication.UserAuthentication;
+import com.solebysole.authentication.UserPrincipal;
+import com.solebysole.common.datasource.ReplicatedDataSources;
+import com.solebysole.product.application.ProductLoader;
+import com.solebysole.product.application.ProductService;
+import com.solebysole.user.application.UserService;
+import com.solebysole.user.domain.Role;
+import com.solebysole.user.dto.UserRegisterData;
+import com.solebysole.user.dto.UserUpdateData;
+import org.flywaydb.core.Flyway;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.persistence.EntityManagerFactory;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:routing-primary;DB_CLOSE_DELAY=-1")
+@DisplayName("DataSourceConfig 클래스")
+class DataSourceConfigTest {
+
+    private static final String REPLICA_URL = "jdbc:h2:mem:routing-replica;DB_CLOSE_DELAY=-1";
+
+    private static final Long USER_ID = 1L;
+
+    private static final Long PRODUCT_ID = 1L;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ProductLoader productLoader;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ReplicatedDataSources replicatedDataSources;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private JdbcTemplate primary;
+
+    private JdbcTemplate replica;
+
+    @DynamicPropertySource
+    static void replicaProperties(DynamicPropertyRegistry registry) {
+        Flyway.configure()
+                .dataSource(REPLICA_URL, "sa", "")
+                .locations("classpath:db/migration", "classpath:db/seed")
+                .load()
+                .migrate();
+        registry.add("datasource.replica.url", () -> REPLICA_URL);
+    }
+
+    @BeforeEach
+    void setUp() {
+        primary = new JdbcTemplate(replicatedDataSources.getPrimary());
+        replica = new JdbcTemplate(replicatedDataSources.getReplica());
+        primary.update("update user set name = 'primary' where user_id = ?", USER_ID);
+        replica.update("update user set name = 'replica' where user_id = ?", USER_ID);
+        primary.update("update product set name = 'primary' where product_id = ?", PRODUCT_ID);
+        replica.update("update product set name = 'replica' where product_id = ?", PRODUCT_ID);
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictAllRegions();
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("JPA 트랜잭션 관리자를 사용한다.")
+    void it_uses_jpa_transaction_manager() {
+        assertThat(transactionManager).isInstanceOf(JpaTransactionManager.class);
+    }
+
+    @Nested
+    @DisplayName("읽기 전용 서비스 메서드는")
+    class Describe_read_only_service_call {
+        @Test
+        @DisplayName("복제본에서 읽는다.")
+        void it_reads_from_replica() {
+            assertThat(userService.getUser(USER_ID).getName()).isEqualTo("replica");
+        }
+
+        @Test
+        @DisplayName("모아서 읽는 상품 조회도 복제본에서 읽는다.")
+        void it_loads_products_from_replica() {
+            assertThat(productService.getProduct(PRODUCT_ID).getName()).isEqualTo("replica");
+            assertThat(productLoader.findSummaries(List.of(PRODUCT_ID)).get(PRODUCT_ID).getName())
+                    .isEqualTo("replica");
+        }
+    }
+
+    @Nested
+    @DisplayName("쓰기 서비스 메서드는")
+    class Describe_read_write_service_call {
+        @Test
+        @DisplayName("주 데이터베이스에 쓴다.")
+        void it_writes_to_primary() {
+            String email = "routing@test.com";
+
+            userService.registerUser(UserRegisterData.builder()
+                    .email(email)
+                    .name("routing")
+                    .password("password1234")
+                    .build());
+
+            String countSql = "select count(*) from user where email = ?";
+            assertThat(primary.queryForObject(countSql, Long.class, email)).isEqualTo(1L);
+            assertThat(replica.queryForObject(countSql, Long.class, email)).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("쓰기를 커밋한 회원이 읽는다면")
+    class Context_with_recent_write {
+        @BeforeEach
+        void setUp() {
+            SecurityContextHolder.getContext().setAuthentication(
+                    new UserAuthentication(UserPrincipal.of(USER_ID, Role.ROLE_USER)));
+            userService.updateUser(USER_ID, UserUpdateData.builder()
+                    .name("updated")
+                    .build());
+        }
+
+        @Test
+        @DisplayName("주 데이터베이스에서 읽는다.")
+        void it_reads_from_primary() {
+            assertThat(userService.getUser(USER_ID).getName()).isEqualTo("updated");
+        }
+
+        @Test
+        @DisplayName("상품 조회도 모으지 않고 주 데이터베이스에서 읽는다.")
+        void it_loads_products_from_primary() {
+            assertThat(productService.getProduct(PRODUCT_ID).getName()).isEqualTo("primary");
+            assertThat(productLoader.findSummaries(List.of(PRODUCT_ID)).get(PRODUCT_ID).getName())
+                    .isEqualTo("primary");
+        }
+    }
+
+}
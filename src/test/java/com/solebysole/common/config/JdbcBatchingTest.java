@@ -0,0 +1,136 @@
+package com.solebysole.common.config;
+
+import com.solebysole.order.application.OrderService;
+import com.solebysole.order.domain.Address;
+import com.solebysole.order.dto.OrderCreateData;
+import com.solebysole.order.dto.OrderProductData;
+import com.solebysole.product.application.ProductService;
+import com.solebysole.product.domain.Category;
+import com.solebysole.product.domain.Image;
+import com.solebysole.product.domain.Keyword;
+import com.solebysole.product.domain.Option;
+import com.solebysole.product.dto.ProductCreateData;
+import org.hibernate.SessionFactory;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import javax.persistence.EntityManagerFactory;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.solebysole.common.config.JdbcBatchingTest$StatementCounter")
+@DisplayName("JDBC 배치")
+class JdbcBatchingTest {
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        StatementCounter.reset();
+    }
+
+    /**
+     * 현재 스레드에서 준비한 JDBC 구문 수를 셉니다. 배치로 실행되는 구문은 한 번만 준비됩니다.
+     * 백그라운드 작업이 실행한 구문은 세지 않습니다.
+     */
+    public static class StatementCounter implements StatementInspector {
+
+        private static final ThreadLocal<Integer> COUNT = ThreadLocal.withInitial(() -> 0);
+
+        static void reset() {
+            COUNT.set(0);
+        }
+
+        static int count() {
+            return COUNT.get();
+        }
+
+        @Override
+        public String inspect(String sql) {
+            COUNT.set(COUNT.get() + 1);
+            return sql;
+        }
+
+    }
+
+    @Nested
+    @DisplayName("createProduct")
+    class Describe_createProduct {
+        @Test
+        @DisplayName("상품과 하위 엔티티들을 몇 개의 배치 구문으로 저장한다.")
+        void it_inserts_in_batches() {
+            ProductCreateData productCreateData = ProductCreateData.builder()
+                    .name("배치 지갑")
+                    .originalPrice(20000)
+                    .discountedPrice(18000)
+                    .description("배치로 저장되는 지갑입니다.")
+                    .category(Category.WALLET)
+                    .keywords(IntStream.range(0, 10)
+                            .mapToObj(i -> new Keyword("키워드" + i))
+                            .collect(Collectors.toSet()))
+                    .images(IntStream.range(0, 10)
+                            .mapToObj(i -> new Image("https://images.test/" + i + ".jpg"))
+                            .collect(Collectors.toList()))
+                    .options(IntStream.range(0, 3)
+                            .mapToObj(i -> new Option("옵션" + i,
+                                    new Option("갈색", 1000),
+                                    new Option("검정", 2000),
+                                    new Option("흰색", 3000)))
+                            .collect(Collectors.toList()))
+                    .build();
+
+            productService.createProduct(productCreateData);
+
+            assertThat(statistics.getEntityInsertCount()).isEqualTo(44);
+            assertThat(StatementCounter.count()).isLessThanOrEqualTo(13);
+        }
+    }
+
+    @Nested
+    @DisplayName("order")
+    class Describe_order {
+        @Test
+        @DisplayName("주문과 주문 상품들을 몇 개의 배치 구문으로 저장한다.")
+        void it_inserts_in_batches() {
+            OrderCreateData orderCreateData = OrderCreateData.builder()
+                    .orderProductDataList(LongStream.rangeClosed(1, 5)
+                            .mapToObj(id -> OrderProductData.builder()
+                                    .productId(id)
+                                    .count(1)
+                                    .build())
+                            .collect(Collectors.toList()))
+                    .address(Address.builder()
+                            .base("서울시 강남구")
+                            .detail("아파트")
+                            .zipcode("111222")
+                            .build())
+                    .build();
+
+            orderService.order(1L, orderCreateData);
+
+            assertThat(statistics.getEntityInsertCount()).isEqualTo(8);
+            assertThat(StatementCounter.count()).isLessThanOrEqualTo(15);
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package com.solebysole.common.datasource;
+
+import com.solebysole.authentication.UserAuthentication;
+import com.solebysole.authentication.UserPrincipal;
+import com.solebysole.user.domain.Role;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ReadWriteRoutingDataSource 클래스")
+class ReadWriteRoutingDataSourceTest {
+
+    private static final long WINDOW_MILLIS = 5000;
+
+    private final AtomicLong now = new AtomicLong();
+
+    private JdbcTemplate jdbcTemplate;
+
+    private TransactionTemplate readWrite;
+
+    private TransactionTemplate readOnly;
+
+    @BeforeEach
+    void setUp() {
+        DataSource primary = database("primary");
+        DataSource replica = database("replica");
+        ReadYourWritesWindow window = new ReadYourWritesWindow(WINDOW_MILLIS, 100, now::get);
+        DataSource dataSource = new LazyConnectionDataSourceProxy(
+                new ReadWriteRoutingDataSource(primary, replica, window));
+
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        readWrite = new TransactionTemplate(transactionManager);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    private DataSource database(String name) {
+        DataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + name + "-routing-test;DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate template = new JdbcTemplate(dataSource);
+        template.execute("create table if not exists node (name varchar(16))");
+        template.execute("delete from node");
+        template.update("insert into node (name) values (?)", name);
+        return dataSource;
+    }
+
+    private String node(TransactionTemplate transactionTemplate) {
+        return transactionTemplate.execute(status ->
+                jdbcTemplate.queryForObject("select name from node", String.class));
+    }
+
+    private void login(Long userId) {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UserAuthentication(UserPrincipal.of(userId, Role.ROLE_USER)));
+    }
+
+    @Nested
+    @DisplayName("읽기 전용 트랜잭션은")
+    class Describe_read_only_transaction {
+        @Test
+        @DisplayName("복제본을 사용한다.")
+        void it_uses_replica() {
+            assertThat(node(readOnly)).isEqualTo("replica");
+        }
+    }
+
+    @Nested
+    @DisplayName("쓰기 트랜잭션은")
+    class Describe_read_write_transaction {
+        @Test
+        @DisplayName("주 데이터베이스를 사용한다.")
+        void it_uses_primary() {
+            assertThat(node(readWrite)).isEqualTo("primary");
+        }
+    }
+
+    @Nested
+    @DisplayName("쓰기를 커밋한 회원이 읽는다면")
+    class Context_with_recent_write {
+        @BeforeEach
+        void setUp() {
+            login(1L);
+            node(readWrite);
+        }
+
+        @Test
+        @DisplayName("잠시 동안 주 데이터베이스를 사용한다.")
+        void it_uses_primary_within_window() {
+            now.addAndGet(TimeUnit.MILLISECONDS.toNanos(WINDOW_MILLIS - 1));
+
+            assertThat(node(readOnly)).isEqualTo("primary");
+        }
+
+        @Test
+        @DisplayName("시간이 지나면 복제본을 사용한다.")
+        void it_uses_replica_after_window() {
+            now.addAndGet(TimeUnit.MILLISECONDS.toNanos(WINDOW_MILLIS));
+
+            assertThat(node(readOnly)).isEqualTo("replica");
+        }
+
+        @Test
+        @DisplayName("다른 회원의 읽기는 복제본을 사용한다.")
+        void it_does_not_affect_other_users() {
+            login(2L);
+
+            assertThat(node(readOnly)).isEqualTo("replica");
+        }
+    }
+
+    @Nested
+    @DisplayName("쓰기를 롤백한 회원이 읽는다면")
+    class Context_with_rolled_back_write {
+        @BeforeEach
+        void setUp() {
+            login(1L);
+            readWrite.executeWithoutResult(status -> {
+                jdbcTemplate.queryForObject("select name from node", String.class);
+                status.setRollbackOnly();
+            });
+        }
+
+        @Test
+        @DisplayName("복제본을 사용한다.")
+        void it_uses_replica() {
+            assertThat(node(readOnly)).isEqualTo("replica");
+        }
+    }
+}
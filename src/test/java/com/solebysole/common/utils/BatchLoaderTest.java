@@ -0,0 +1,95 @@
+package com.solebysole.common.utils;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class BatchLoaderTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final List<List<Long>> batches = new CopyOnWriteArrayList<>();
+
+    private BatchLoader<Long, String> loader;
+
+    @AfterEach
+    void tearDown() {
+        loader.close();
+    }
+
+    private BatchLoader<Long, String> loader(long windowMillis, int maxBatchSize,
+                                             Function<Collection<Long>, Map<Long, String>> values) {
+        return new BatchLoader<>("test-loader", keys -> {
+            batches.add(new ArrayList<>(keys));
+            return values.apply(keys);
+        }, windowMillis, maxBatchSize, 1, meterRegistry);
+    }
+
+    private static Map<Long, String> evenValues(Collection<Long> keys) {
+        return keys.stream()
+                .filter(key -> key % 2 == 0)
+                .collect(Collectors.toMap(key -> key, key -> "value-" + key));
+    }
+
+    @DisplayName("load 메소드는 시간 안에 들어온 키들을 한 번에 읽고, 없는 키는 비어 있는 값으로 완료합니다.")
+    @Test
+    void loadWithinWindow() throws Exception {
+        loader = loader(50, 100, BatchLoaderTest::evenValues);
+
+        CompletableFuture<Optional<String>> first = loader.load(2L);
+        CompletableFuture<Optional<String>> second = loader.load(3L);
+        CompletableFuture<Optional<String>> duplicated = loader.load(2L);
+
+        assertThat(first.get(1, TimeUnit.SECONDS)).hasValue("value-2");
+        assertThat(second.get(1, TimeUnit.SECONDS)).isEmpty();
+        assertThat(duplicated.get(1, TimeUnit.SECONDS)).hasValue("value-2");
+        assertThat(batches).containsExactly(List.of(2L, 3L));
+        assertThat(meterRegistry.get("batch.loader.requests").counter().count()).isEqualTo(3);
+        assertThat(meterRegistry.get("batch.loader.batch.size").summary().max()).isEqualTo(2);
+    }
+
+    @DisplayName("load 메소드는 최대 개수만큼 모이면 시간을 기다리지 않고 읽습니다.")
+    @Test
+    void loadWithFullBatch() throws Exception {
+        loader = loader(60_000, 2, BatchLoaderTest::evenValues);
+
+        CompletableFuture<Optional<String>> first = loader.load(2L);
+        CompletableFuture<Optional<String>> second = loader.load(4L);
+
+        assertThat(first.get(1, TimeUnit.SECONDS)).hasValue("value-2");
+        assertThat(second.get(1, TimeUnit.SECONDS)).hasValue("value-4");
+        assertThat(batches).containsExactly(List.of(2L, 4L));
+    }
+
+    @DisplayName("load 메소드는 일괄 조회가 실패하면 모든 결과를 예외로 완료합니다.")
+    @Test
+    void loadWithFailure() {
+        loader = loader(1, 100, keys -> {
+            throw new IllegalStateException("조회 실패");
+        });
+
+        CompletableFuture<Optional<String>> future = loader.load(1L);
+
+        ExecutionException e = assertThrows(ExecutionException.class,
+                () -> future.get(1, TimeUnit.SECONDS));
+        assertThat(e.getCause()).isInstanceOf(IllegalStateException.class);
+        assertThat(meterRegistry.get("batch.loader.failures").counter().count()).isEqualTo(1);
+    }
+
+}
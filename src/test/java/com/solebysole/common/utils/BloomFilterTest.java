@@ -0,0 +1,42 @@
+package com.solebysole.common.utils;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BloomFilterTest {
+
+    private static final int INSERTIONS = 10_000;
+
+    private BloomFilter bloomFilter;
+
+    @BeforeEach
+    void setUp() {
+        bloomFilter = new BloomFilter(INSERTIONS, 0.01);
+        IntStream.range(0, INSERTIONS)
+                .forEach(i -> bloomFilter.put("inserted-" + i));
+    }
+
+    @DisplayName("mightContain 메소드는 넣은 값이 주어진다면 항상 true 를 리턴합니다.")
+    @Test
+    void mightContainWithInsertedValue() {
+        assertThat(IntStream.range(0, INSERTIONS)
+                .allMatch(i -> bloomFilter.mightContain("inserted-" + i)))
+                .isTrue();
+    }
+
+    @DisplayName("mightContain 메소드는 넣지 않은 값이 주어진다면 대부분 false 를 리턴합니다.")
+    @Test
+    void mightContainWithMissingValue() {
+        long falsePositives = IntStream.range(0, INSERTIONS)
+                .filter(i -> bloomFilter.mightContain("missing-" + i))
+                .count();
+
+        assertThat(falsePositives).isLessThan(INSERTIONS / 50);
+    }
+
+}
@@ -0,0 +1,117 @@
+package com.solebysole.common.utils;
+
+import com.solebysole.product.domain.Category;
+import com.solebysole.product.domain.Image;
+import com.solebysole.product.domain.Keyword;
+import com.solebysole.product.domain.Option;
+import com.solebysole.product.domain.Product;
+import com.solebysole.product.dto.ProductData;
+import com.solebysole.product.dto.ProductDetailData;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+import java.util.function.UnaryOperator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("InternedStringConverter 클래스")
+class InternedStringConverterTest {
+
+    private static final int PRODUCTS = 100_000;
+
+    private final InternedStringConverter converter = new InternedStringConverter();
+
+    @Nested
+    @DisplayName("convertToEntityAttribute")
+    class Describe_convertToEntityAttribute {
+        @Test
+        @DisplayName("같은 값이 주어지면 같은 인스턴스를 리턴한다.")
+        void it_returns_the_same_instance() {
+            String first = converter.convertToEntityAttribute(new String("갈색"));
+            String second = converter.convertToEntityAttribute(new String("갈색"));
+
+            assertThat(second).isSameAs(first);
+        }
+
+        @Test
+        @DisplayName("null 이 주어지면 null 을 리턴한다.")
+        void it_returns_null() {
+            assertThat(converter.convertToEntityAttribute(null)).isNull();
+        }
+
+        @Test
+        @DisplayName("10만 개 상품의 목록과 상세 정보가 차지하는 문자열 크기를 줄인다.")
+        void it_shrinks_the_catalog_strings() {
+            long copied = catalogStringBytes(value -> new String(value));
+            long interned = catalogStringBytes(
+                    value -> converter.convertToEntityAttribute(new String(value)));
+
+            assertThat(interned)
+                    .as("복사한 문자열 %d 바이트, intern 한 문자열 %d 바이트", copied, interned)
+                    .isLessThan(copied / 3);
+        }
+    }
+
+    /**
+     * 데이터베이스에서 읽은 것처럼 문자열을 만든 상품들의 목록, 상세 정보가 참조하는 문자열들의 크기를 리턴합니다.
+     *
+     * @param read 데이터베이스에서 읽은 값을 엔티티의 값으로 바꾸는 함수
+     */
+    private long catalogStringBytes(UnaryOperator<String> read) {
+        Set<String> strings = Collections.newSetFromMap(new IdentityHashMap<>());
+
+        for (int i = 0; i < PRODUCTS; i++) {
+            Product product = Product.builder()
+                    .name("상품 " + i)
+                    .originalPrice(20000)
+                    .discountedPrice(18000)
+                    .description("상품 " + i + " 의 설명입니다.")
+                    .category(Category.values()[i % Category.values().length])
+                    .build();
+            product.addKeyword(new Keyword(read.apply("가죽")));
+            product.addKeyword(new Keyword(read.apply("지갑")));
+            product.addKeyword(new Keyword(read.apply("수제")));
+            product.addImage(new Image("https://images.test/" + i % 50 + ".jpg"));
+            product.addOption(new Option(read.apply("색상"),
+                    new Option(read.apply("갈색"), 0),
+                    new Option(read.apply("검정"), 0),
+                    new Option(read.apply("흰색"), 1000)));
+            product.addOption(new Option(read.apply("각인 추가"),
+                    new Option(read.apply("추가함"), 3000),
+                    new Option(read.apply("추가하지 않음"), 0)));
+
+            ProductData productData = ProductData.of(product);
+            strings.add(productData.getName());
+            strings.add(productData.getImageUrl());
+
+            ProductDetailData detail = ProductDetailData.of(product);
+            strings.add(detail.getName());
+            strings.add(detail.getDescription());
+            strings.add(detail.getCategory().getName());
+            detail.getKeywords().forEach(keyword -> strings.add(keyword.getName()));
+            detail.getImages().forEach(image -> strings.add(image.getUrl()));
+            detail.getOptions().forEach(option -> {
+                strings.add(option.getName());
+                option.getChildren().forEach(child -> strings.add(child.getName()));
+            });
+        }
+
+        return strings.stream()
+                .mapToLong(InternedStringConverterTest::stringBytes)
+                .sum();
+    }
+
+    /**
+     * 압축 포인터를 쓰는 64비트 JVM 에서 문자열 하나가 차지하는 대략의 크기.
+     */
+    private static long stringBytes(String value) {
+        boolean latin1 = value.chars().allMatch(c -> c <= 0xFF);
+        long array = 16 + (long) value.length() * (latin1 ? 1 : 2);
+        return 24 + (array + 7) / 8 * 8;
+    }
+
+}
@@ -2,6 +2,8 @@ package com.solebysole.docs;
 
 import org.springframework.restdocs.mockmvc.RestDocumentationResultHandler;
 
+import static org.springframework.restdocs.headers.HeaderDocumentation.headerWithName;
+import static org.springframework.restdocs.headers.HeaderDocumentation.requestHeaders;
 import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.document;
 import static org.springframework.restdocs.payload.JsonFieldType.STRING;
 import static org.springframework.restdocs.payload.PayloadDocumentation.fieldWithPath;
@@ -17,7 +19,29 @@ public class AuthenticationDocumentation {
                         fieldWithPath("password").type(STRING).description("회원 비밀번호")
                 ),
                 responseFields(
-                        fieldWithPath("accessToken").description("사용자 인증 수단, 액세스 토큰 값")
+                        fieldWithPath("accessToken").description("사용자 인증 수단, 액세스 토큰 값"),
+                        fieldWithPath("refreshToken").description("액세스 토큰 재발급 수단, 리프레시 토큰 값")
+                ));
+    }
+
+    public static RestDocumentationResultHandler refreshSession() {
+        return document("refresh-session",
+                requestFields(
+                        fieldWithPath("refreshToken").type(STRING).description("리프레시 토큰 값")
+                ),
+                responseFields(
+                        fieldWithPath("accessToken").description("사용자 인증 수단, 액세스 토큰 값"),
+                        fieldWithPath("refreshToken").description("액세스 토큰 재발급 수단, 리프레시 토큰 값")
+                ));
+    }
+
+    public static RestDocumentationResultHandler deleteSession() {
+        return document("delete-session",
+                requestHeaders(
+                        headerWithName("Authorization").description("사용자 인증 수단, 액세스 토큰 값")
+                ),
+                requestFields(
+                        fieldWithPath("refreshToken").type(STRING).description("폐기할 리프레시 토큰 값")
                 ));
     }
 
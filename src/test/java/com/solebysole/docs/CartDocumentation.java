@@ -4,7 +4,9 @@ import org.springframework.restdocs.mockmvc.RestDocumentationResultHandler;
 
 import static org.springframework.restdocs.headers.HeaderDocumentation.headerWithName;
 import static org.springframework.restdocs.headers.HeaderDocumentation.requestHeaders;
+import static org.springframework.restdocs.headers.HeaderDocumentation.responseHeaders;
 import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.document;
+import static org.springframework.restdocs.payload.JsonFieldType.ARRAY;
 import static org.springframework.restdocs.payload.JsonFieldType.NUMBER;
 import static org.springframework.restdocs.payload.JsonFieldType.STRING;
 import static org.springframework.restdocs.payload.PayloadDocumentation.fieldWithPath;
@@ -33,6 +35,22 @@ public class CartDocumentation {
                 ));
     }
 
+    public static RestDocumentationResultHandler getCartSummary() {
+        return document("get-cart-summary",
+                requestHeaders(
+                        headerWithName("Authorization").description("사용자 인증 수단, 액세스 토큰 값")
+                ),
+                responseHeaders(
+                        headerWithName("ETag").description("장바구니 버전")
+                ),
+                responseFields(
+                        fieldWithPath("version").type(NUMBER).description("장바구니 버전"),
+                        fieldWithPath("subtotal").type(NUMBER).description("옵션 추가 금액을 포함한 소계"),
+                        fieldWithPath("discount").type(NUMBER).description("할인 금액"),
+                        fieldWithPath("total").type(NUMBER).description("결제 금액")
+                ));
+    }
+
     public static RestDocumentationResultHandler createCartProduct() {
         return document("create-cart-product",
                 requestHeaders(
@@ -40,6 +58,7 @@ public class CartDocumentation {
                 ),
                 requestFields(
                         fieldWithPath("productId").type(NUMBER).description("상품 ID"),
+                        fieldWithPath("optionIds").type(ARRAY).optional().description("선택한 옵션 ID 목록"),
                         fieldWithPath("count").type(NUMBER).description("상품 개수")
                 ));
     }
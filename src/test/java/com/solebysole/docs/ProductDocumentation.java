@@ -14,6 +14,7 @@ import static org.springframework.restdocs.payload.PayloadDocumentation.requestF
 import static org.springframework.restdocs.payload.PayloadDocumentation.responseFields;
 import static org.springframework.restdocs.request.RequestDocumentation.parameterWithName;
 import static org.springframework.restdocs.request.RequestDocumentation.pathParameters;
+import static org.springframework.restdocs.request.RequestDocumentation.requestParameters;
 
 public class ProductDocumentation {
 
@@ -28,6 +29,49 @@ public class ProductDocumentation {
                 ));
     }
 
+    public static RestDocumentationResultHandler getProductsWithFields() {
+        return document("get-products-with-fields",
+                requestParameters(
+                        parameterWithName("fields")
+                                .description("쉼표로 구분한 응답 필드 (id, name, originalPrice, discountedPrice, imageUrl)")
+                ),
+                responseFields(
+                        fieldWithPath("[].id").type(NUMBER).description("상품 ID"),
+                        fieldWithPath("[].name").type(STRING).description("상품 이름"),
+                        fieldWithPath("[].discountedPrice").type(NUMBER).description("상품 할인가")
+                ));
+    }
+
+    public static RestDocumentationResultHandler streamProducts() {
+        return document("stream-products",
+                requestParameters(
+                        parameterWithName("stream").description("true 면 상품을 읽는 대로 응답에 씀")
+                ),
+                responseFields(
+                        fieldWithPath("[].id").type(NUMBER).description("상품 ID"),
+                        fieldWithPath("[].name").type(STRING).description("상품 이름"),
+                        fieldWithPath("[].originalPrice").type(NUMBER).description("상품 원가"),
+                        fieldWithPath("[].discountedPrice").type(NUMBER).description("상품 할인가"),
+                        fieldWithPath("[].imageUrl").type(STRING).description("상품 이미지 url")
+                ));
+    }
+
+    public static RestDocumentationResultHandler getProductsByIds() {
+        return document("get-products-by-ids",
+                requestParameters(
+                        parameterWithName("ids").description("쉼표로 구분한 조회할 상품 ID, 최대 100개"),
+                        parameterWithName("fields").optional().description("쉼표로 구분한 응답 필드, "
+                                + "주어지지 않으면 모든 상세 정보")
+                ),
+                responseFields(
+                        fieldWithPath("products").type(ARRAY).description("요청한 순서대로 찾은 상품 목록"),
+                        fieldWithPath("products.[].id").type(NUMBER).description("상품 ID"),
+                        fieldWithPath("products.[].name").type(STRING).description("상품 이름"),
+                        fieldWithPath("products.[].discountedPrice").type(NUMBER).description("상품 할인가"),
+                        fieldWithPath("missingIds").type(ARRAY).description("찾을 수 없는 상품 ID 목록")
+                ));
+    }
+
     public static RestDocumentationResultHandler getProduct() {
         return document("get-product",
                 pathParameters(
@@ -58,6 +102,30 @@ public class ProductDocumentation {
                 ));
     }
 
+    public static RestDocumentationResultHandler getProductWithFields() {
+        return document("get-product-with-fields",
+                pathParameters(
+                        parameterWithName("id").description("조회할 상품 ID")
+                ),
+                requestParameters(
+                        parameterWithName("fields").description("쉼표로 구분한 응답 필드 (id, name, originalPrice, "
+                                + "discountedPrice, description, category, keywords, images, options)")
+                ),
+                responseFields(
+                        fieldWithPath("id").type(NUMBER).description("상품 ID"),
+                        fieldWithPath("name").type(STRING).description("상품 이름"),
+                        fieldWithPath("options").type(ARRAY).description("옵션 목록"),
+                        fieldWithPath("options.[].id").type(NUMBER).description("옵션 ID"),
+                        fieldWithPath("options.[].name").type(STRING).description("옵션 이름"),
+                        fieldWithPath("options.[].additionalPrice").type(NUMBER).description("옵션 추가 요금"),
+                        fieldWithPath("options.[].children").type(ARRAY).description("하위 옵션 목록"),
+                        fieldWithPath("options.[].children.[].id").type(NUMBER).description("하위 옵션 ID"),
+                        fieldWithPath("options.[].children.[].name").type(STRING).description("하위 옵션 명"),
+                        fieldWithPath("options.[].children.[].additionalPrice").type(NUMBER).description("하위 옵션 추가 요금"),
+                        fieldWithPath("options.[].children.[].children").type(ARRAY).description("하위 옵션 목록")
+                ));
+    }
+
     public static RestDocumentationResultHandler createProduct() {
         return document("create-product",
                 requestHeaders(
@@ -0,0 +1,161 @@
+package com.solebysole.mail.application;
+
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import com.solebysole.mail.domain.OutboxMail;
+import com.solebysole.mail.domain.OutboxMailRepository;
+import com.solebysole.mail.domain.OutboxMailStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("OutboxMailSender 클래스")
+class OutboxMailSenderTest {
+
+    @RegisterExtension
+    static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    private final OutboxMailRepository outboxMailRepository = mock(OutboxMailRepository.class);
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final List<OutboxMail> mails = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        given(outboxMailRepository.findDue(any(LocalDateTime.class), any(Pageable.class)))
+                .will(invocation -> {
+                    LocalDateTime now = invocation.getArgument(0);
+                    Pageable pageable = invocation.getArgument(1);
+                    return mails.stream()
+                            .filter(mail -> mail.getStatus() == OutboxMailStatus.PENDING)
+                            .filter(mail -> !mail.getNextAttemptAt().isAfter(now))
+                            .limit(pageable.getPageSize())
+                            .collect(Collectors.toList());
+                });
+        given(outboxMailRepository.findAllById(any()))
+                .will(invocation -> {
+                    Iterable<Long> ids = invocation.getArgument(0);
+                    List<Long> idList = new ArrayList<>();
+                    ids.forEach(idList::add);
+                    return mails.stream()
+                            .filter(mail -> idList.contains(mail.getId()))
+                            .collect(Collectors.toList());
+                });
+    }
+
+    private void givenMails(int count) {
+        for (long id = 1; id <= count; id++) {
+            mails.add(OutboxMail.builder()
+                    .id(id)
+                    .recipient("user" + id + "@test.com")
+                    .subject("제목 " + id)
+                    .body("본문 " + id)
+                    .build());
+        }
+    }
+
+    private OutboxMailSender sender(int port, int ratePerSecond, int maxAttempts) {
+        JavaMailSenderImpl javaMailSender = new JavaMailSenderImpl();
+        javaMailSender.setHost("localhost");
+        javaMailSender.setPort(port);
+
+        return new OutboxMailSender(outboxMailRepository, javaMailSender, transactionManager,
+                meterRegistry, "no-reply@solebysole.com", 10, ratePerSecond, maxAttempts,
+                30, 3600, 300);
+    }
+
+    @Nested
+    @DisplayName("drain")
+    class Describe_drain {
+        @Nested
+        @DisplayName("메일 서버가 동작한다면")
+        class Context_with_running_mail_server {
+            @BeforeEach
+            void setUp() {
+                givenMails(25);
+            }
+
+            @Test
+            @DisplayName("발송 대기 메일을 모두 보내고 발송 완료로 표시한다.")
+            void it_sends_all_pending_mails() {
+                sender(greenMail.getSmtp().getPort(), 100, 5).drain();
+
+                assertThat(greenMail.getReceivedMessages()).hasSize(25);
+                assertThat(mails).allMatch(mail -> mail.getStatus() == OutboxMailStatus.SENT);
+                assertThat(meterRegistry.counter("mail.outbox.sent").count()).isEqualTo(25);
+            }
+        }
+
+        @Nested
+        @DisplayName("초당 발송 수보다 많은 메일이 대기 중이라면")
+        class Context_with_more_mails_than_rate {
+            @BeforeEach
+            void setUp() {
+                givenMails(25);
+            }
+
+            @Test
+            @DisplayName("초당 발송 수만큼만 보낸다.")
+            void it_sends_up_to_rate() {
+                sender(greenMail.getSmtp().getPort(), 15, 5).drain();
+
+                assertThat(greenMail.getReceivedMessages()).hasSize(15);
+                assertThat(mails.stream().filter(mail -> mail.getStatus() == OutboxMailStatus.PENDING))
+                        .hasSize(10);
+            }
+        }
+
+        @Nested
+        @DisplayName("메일 서버에 연결할 수 없다면")
+        class Context_with_unreachable_mail_server {
+            private final int closedPort = ServerSetupTest.SMTP.getPort() + 1000;
+
+            @BeforeEach
+            void setUp() {
+                givenMails(3);
+            }
+
+            @Test
+            @DisplayName("시도 횟수를 늘리고 나중에 다시 보내도록 미룬다.")
+            void it_schedules_retry() {
+                LocalDateTime before = LocalDateTime.now();
+
+                sender(closedPort, 100, 5).drain();
+
+                assertThat(mails).allSatisfy(mail -> {
+                    assertThat(mail.getStatus()).isEqualTo(OutboxMailStatus.PENDING);
+                    assertThat(mail.getAttempts()).isEqualTo(1);
+                    assertThat(mail.getNextAttemptAt()).isAfter(before.plusSeconds(29));
+                    assertThat(mail.getLastError()).isNotBlank();
+                });
+                assertThat(meterRegistry.counter("mail.outbox.failed").count()).isEqualTo(3);
+            }
+
+            @Test
+            @DisplayName("최대 시도 횟수에 이르면 발송 실패로 표시한다.")
+            void it_gives_up_after_max_attempts() {
+                sender(closedPort, 100, 1).drain();
+
+                assertThat(mails).allMatch(mail -> mail.getStatus() == OutboxMailStatus.FAILED);
+                assertThat(meterRegistry.counter("mail.outbox.abandoned").count()).isEqualTo(3);
+            }
+        }
+    }
+}
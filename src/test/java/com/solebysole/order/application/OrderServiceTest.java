@@ -1,23 +1,32 @@
 package com.solebysole.order.application;
 
 import com.solebysole.common.errors.ProductNotFoundException;
+import com.solebysole.mail.application.MailOutbox;
 import com.solebysole.order.domain.Address;
 import com.solebysole.order.domain.Order;
+import com.solebysole.order.domain.OrderProduct;
 import com.solebysole.order.domain.OrderRepository;
 import com.solebysole.order.dto.OrderCreateData;
 import com.solebysole.order.dto.OrderProductData;
+import com.solebysole.product.application.ProductLoader;
 import com.solebysole.product.domain.Product;
 import com.solebysole.product.domain.ProductRepository;
+import com.solebysole.product.dto.ProductData;
 import com.solebysole.user.domain.Role;
 import com.solebysole.user.domain.User;
+import com.solebysole.user.domain.UserRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
@@ -29,6 +38,9 @@ class OrderServiceTest {
 
     private OrderRepository orderRepository = mock(OrderRepository.class);
     private ProductRepository productRepository = mock(ProductRepository.class);
+    private ProductLoader productLoader = mock(ProductLoader.class);
+    private UserRepository userRepository = mock(UserRepository.class);
+    private MailOutbox mailOutbox = mock(MailOutbox.class);
 
     private OrderService orderService;
 
@@ -48,7 +60,8 @@ class OrderServiceTest {
 
     @BeforeEach
     void setUp() {
-        orderService = new OrderService(orderRepository, productRepository);
+        orderService = new OrderService(orderRepository, productRepository, productLoader,
+                userRepository, mailOutbox, mock(PlatformTransactionManager.class));
 
         user = User.builder()
                 .id(1L)
@@ -57,6 +70,9 @@ class OrderServiceTest {
                 .role(Role.ROLE_USER)
                 .build();
 
+        given(userRepository.getOne(user.getId()))
+                .willReturn(user);
+
         orderProductData1 = OrderProductData.builder()
                 .productId(existingProductId1)
                 .count(3)
@@ -90,11 +106,18 @@ class OrderServiceTest {
         class Context_with_valid_order_create_data {
             @BeforeEach
             void setUp() {
-                given(productRepository.findById(existingProductId1))
-                        .willReturn(Optional.of(product1));
+                given(productLoader.findSummaries(List.of(existingProductId1, existingProductId2)))
+                        .willReturn(Map.of(
+                                existingProductId1, ProductData.builder()
+                                        .id(existingProductId1).discountedPrice(18000).build(),
+                                existingProductId2, ProductData.builder()
+                                        .id(existingProductId2).discountedPrice(9000).build()));
+
+                given(productRepository.getOne(existingProductId1))
+                        .willReturn(product1);
 
-                given(productRepository.findById(existingProductId2))
-                        .willReturn(Optional.of(product2));
+                given(productRepository.getOne(existingProductId2))
+                        .willReturn(product2);
 
                 given(orderRepository.save(any(Order.class)))
                         .will(invocation -> invocation.<Product>getArgument(0));
@@ -103,9 +126,22 @@ class OrderServiceTest {
             @Test
             @DisplayName("주문한다.")
             void it_order() {
-                orderService.order(user, orderCreateData);
+                orderService.order(user.getId(), orderCreateData);
 
                 verify(orderRepository).save(any(Order.class));
+                verify(mailOutbox).enqueueOrderConfirmation(any(User.class), any(Order.class));
+            }
+
+            @Test
+            @DisplayName("상품의 할인가로 주문 가격을 정한다.")
+            void it_uses_discounted_prices() {
+                orderService.order(user.getId(), orderCreateData);
+
+                ArgumentCaptor<Order> order = ArgumentCaptor.forClass(Order.class);
+                verify(orderRepository).save(order.capture());
+                assertThat(order.getValue().getOrderProducts())
+                        .extracting(OrderProduct::getProduct, OrderProduct::getOrderPrice)
+                        .containsExactly(tuple(product1, 18000), tuple(product2, 9000));
             }
         }
 
@@ -114,15 +150,24 @@ class OrderServiceTest {
         class Context_with_not_existing_product_id {
             @BeforeEach
             void setUp() {
-                given(productRepository.findById(notExistingProductId))
-                        .willReturn(Optional.empty());
+                orderCreateData = OrderCreateData.builder()
+                        .orderProductDataList(List.of(orderProductData1, OrderProductData.builder()
+                                .productId(notExistingProductId)
+                                .count(1)
+                                .build()))
+                        .address(address)
+                        .build();
+
+                given(productLoader.findSummaries(List.of(existingProductId1, notExistingProductId)))
+                        .willReturn(Map.of(existingProductId1, ProductData.builder()
+                                .id(existingProductId1).discountedPrice(18000).build()));
             }
 
             @Test
             @DisplayName("'상품을 찾을 수 없습니다.' 라는 예외가 발생한다.")
             void it_throws_exception() {
                 assertThrows(ProductNotFoundException.class,
-                        () -> orderService.order(user, orderCreateData));
+                        () -> orderService.order(user.getId(), orderCreateData));
             }
         }
     }
@@ -1,6 +1,7 @@
 package com.solebysole.order.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.solebysole.authentication.UserPrincipal;
 import com.solebysole.authentication.service.AuthenticationService;
 import com.solebysole.common.RestDocsConfiguration;
 import com.solebysole.docs.OrderDocumentation;
@@ -25,6 +26,7 @@ import org.springframework.test.web.servlet.MockMvc;
 import java.util.List;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
@@ -95,10 +97,8 @@ class OrderControllerTest {
 
         invalidOrderCreateData = OrderCreateData.builder().build();
 
-        given(authenticationService.parseToken(VALID_TOKEN))
-                .willReturn(existingUserId);
-        given(authenticationService.loadUserById(existingUserId))
-                .willReturn(user);
+        given(authenticationService.authenticate(VALID_TOKEN))
+                .willReturn(UserPrincipal.of(user));
     }
 
     @Nested
@@ -109,7 +109,7 @@ class OrderControllerTest {
         class Context_with_valid_order_create_data {
             @BeforeEach
             void setUp() {
-                given(orderService.order(any(User.class), any(OrderCreateData.class)))
+                given(orderService.order(eq(existingUserId), any(OrderCreateData.class)))
                         .willReturn(savedId);
             }
 
@@ -0,0 +1,185 @@
+package com.solebysole.product.application;
+
+import com.solebysole.product.domain.ProductChangedEvent;
+import com.solebysole.product.domain.ProductRepository;
+import com.solebysole.product.domain.ProductSummary;
+import com.solebysole.product.dto.ProductData;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@DisplayName("CatalogSnapshotStore 클래스")
+class CatalogSnapshotStoreTest {
+
+    private final ProductRepository productRepository = mock(ProductRepository.class);
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+
+    @TempDir
+    Path directory;
+
+    private Path path;
+
+    @BeforeEach
+    void setUp() {
+        path = directory.resolve("catalog.snapshot");
+        given(productRepository.streamAllSummaries())
+                .will(invocation -> Stream.of(summary(1L, "상품1")));
+    }
+
+    private CatalogSnapshotStore store(String path) {
+        CatalogSnapshotStore store = new CatalogSnapshotStore(
+                productRepository, transactionManager, path, 300_000);
+        store.open();
+        return store;
+    }
+
+    private ProductSummary summary(Long id, String name) {
+        ProductSummary summary = mock(ProductSummary.class);
+        given(summary.getId()).willReturn(id);
+        given(summary.getName()).willReturn(name);
+        given(summary.getOriginalPrice()).willReturn(50000);
+        given(summary.getDiscountedPrice()).willReturn(40000);
+        given(summary.getImageUrl()).willReturn("url1");
+        return summary;
+    }
+
+    @Nested
+    @DisplayName("current")
+    class Describe_current {
+        @Nested
+        @DisplayName("경로가 주어지지 않았다면")
+        class Context_without_path {
+            @Test
+            @DisplayName("갱신해도 비어 있는 값을 리턴한다.")
+            void it_returns_empty() {
+                CatalogSnapshotStore store = store("");
+
+                store.refresh();
+
+                assertThat(store.current()).isEmpty();
+            }
+        }
+
+        @Nested
+        @DisplayName("이전에 만든 스냅숏 파일이 있다면")
+        class Context_with_existing_file {
+            @BeforeEach
+            void setUp() throws IOException {
+                CatalogSnapshot.write(path, List.of(
+                        ProductData.builder().id(1L).name("이전 상품").imageUrl("url1").build()));
+            }
+
+            @Test
+            @DisplayName("갱신하기 전에도 파일의 상품 목록을 리턴한다.")
+            void it_serves_the_file_before_refresh() {
+                CatalogSnapshotStore store = store(path.toString());
+
+                assertThat(store.current())
+                        .hasValueSatisfying(snapshot -> assertThat(snapshot.products())
+                                .extracting(ProductData::getName)
+                                .containsExactly("이전 상품"));
+            }
+
+            @Test
+            @DisplayName("갱신하면 저장소의 상품 목록으로 바꾼다.")
+            void it_revalidates_against_the_repository() {
+                CatalogSnapshotStore store = store(path.toString());
+
+                store.refresh();
+
+                assertThat(store.current())
+                        .hasValueSatisfying(snapshot -> assertThat(snapshot.products())
+                                .extracting(ProductData::getName)
+                                .containsExactly("상품1"));
+            }
+        }
+
+        @Nested
+        @DisplayName("이전에 만든 스냅숏 파일이 저장소와 같다면")
+        class Context_with_up_to_date_file {
+            @BeforeEach
+            void setUp() throws IOException {
+                CatalogSnapshot.write(path, List.of(ProductData.builder()
+                        .id(1L)
+                        .name("상품1")
+                        .originalPrice(50000)
+                        .discountedPrice(40000)
+                        .imageUrl("url1")
+                        .build()));
+            }
+
+            @Test
+            @DisplayName("갱신해도 파일을 다시 쓰지 않는다.")
+            void it_keeps_the_file() {
+                CatalogSnapshotStore store = store(path.toString());
+                CatalogSnapshot opened = store.current().orElseThrow();
+
+                store.refresh();
+
+                assertThat(store.current()).containsSame(opened);
+            }
+        }
+
+        @Nested
+        @DisplayName("상품이 바뀌었다면")
+        class Context_with_changed_product {
+            @Test
+            @DisplayName("다시 만들 때까지 비어 있는 값을 리턴한다.")
+            void it_returns_empty_until_rebuilt() {
+                CatalogSnapshotStore store = store(path.toString());
+                store.refresh();
+
+                store.handleProductChanged(new ProductChangedEvent(1L));
+
+                assertThat(store.current()).isEmpty();
+
+                store.refresh();
+
+                assertThat(store.current()).isPresent();
+                verify(productRepository, times(2)).streamAllSummaries();
+            }
+
+            @Test
+            @DisplayName("다시 읽은 목록이 같다면 스냅숏을 그대로 쓴다.")
+            void it_keeps_the_snapshot_when_nothing_changed() {
+                CatalogSnapshotStore store = store(path.toString());
+                store.refresh();
+                CatalogSnapshot built = store.current().orElseThrow();
+
+                store.handleProductChanged(new ProductChangedEvent(1L));
+                store.refresh();
+
+                assertThat(store.current()).containsSame(built);
+            }
+        }
+
+        @Nested
+        @DisplayName("바뀐 상품이 없고 정해진 시간이 지나지 않았다면")
+        class Context_with_fresh_snapshot {
+            @Test
+            @DisplayName("다시 만들지 않는다.")
+            void it_does_not_rebuild() {
+                CatalogSnapshotStore store = store(path.toString());
+
+                store.refresh();
+                store.refresh();
+
+                verify(productRepository, times(1)).streamAllSummaries();
+            }
+        }
+    }
+}
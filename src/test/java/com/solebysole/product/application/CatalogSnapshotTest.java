@@ -0,0 +1,155 @@
+package com.solebysole.product.application;
+
+import com.solebysole.product.dto.ProductData;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("CatalogSnapshot 클래스")
+class CatalogSnapshotTest {
+
+    @TempDir
+    Path directory;
+
+    private Path path;
+
+    private final List<ProductData> products = List.of(
+            product(3L, "가방", 30000, 27000, "https://images.test/1.jpg"),
+            product(1L, "만두 지갑", 10000, 9000, "https://images.test/1.jpg"),
+            product(2L, "카드지갑", 20000, 18000, null));
+
+    @BeforeEach
+    void setUp() {
+        path = directory.resolve("catalog.snapshot");
+    }
+
+    private static ProductData product(Long id, String name, int originalPrice,
+                                       int discountedPrice, String imageUrl) {
+        return ProductData.builder()
+                .id(id)
+                .name(name)
+                .originalPrice(originalPrice)
+                .discountedPrice(discountedPrice)
+                .imageUrl(imageUrl)
+                .build();
+    }
+
+    @Nested
+    @DisplayName("products")
+    class Describe_products {
+        @Test
+        @DisplayName("쓴 상품들을 식별자 순으로 리턴한다.")
+        void it_returns_products_in_id_order() throws IOException {
+            List<ProductData> read = CatalogSnapshot.write(path, products).products();
+
+            assertThat(read)
+                    .extracting(ProductData::getId, ProductData::getName, ProductData::getOriginalPrice,
+                            ProductData::getDiscountedPrice, ProductData::getImageUrl)
+                    .containsExactly(
+                            tuple(1L, "만두 지갑", 10000, 9000, "https://images.test/1.jpg"),
+                            tuple(2L, "카드지갑", 20000, 18000, null),
+                            tuple(3L, "가방", 30000, 27000, "https://images.test/1.jpg"));
+        }
+
+        @Test
+        @DisplayName("다시 연 파일에서도 같은 상품들을 리턴한다.")
+        void it_returns_products_after_reopen() throws IOException {
+            CatalogSnapshot.write(path, products);
+
+            CatalogSnapshot reopened = CatalogSnapshot.open(path);
+
+            assertThat(reopened.size()).isEqualTo(3);
+            assertThat(reopened.products())
+                    .extracting(ProductData::getName)
+                    .containsExactly("만두 지갑", "카드지갑", "가방");
+        }
+
+        @Test
+        @DisplayName("가격이 없는 상품은 가격 없이 리턴한다.")
+        void it_returns_products_without_price() throws IOException {
+            CatalogSnapshot snapshot = CatalogSnapshot.write(path, List.of(
+                    ProductData.builder().id(1L).name("만두 지갑").build()));
+
+            assertThat(snapshot.products())
+                    .extracting(ProductData::getOriginalPrice, ProductData::getDiscountedPrice)
+                    .containsExactly(tuple(null, null));
+        }
+    }
+
+    @Nested
+    @DisplayName("hasSameProducts")
+    class Describe_hasSameProducts {
+        @Test
+        @DisplayName("식별자 순으로 같은 상품들이 주어지면 true 를 리턴한다.")
+        void it_returns_true_for_same_products() throws IOException {
+            CatalogSnapshot snapshot = CatalogSnapshot.write(path, products);
+
+            assertThat(snapshot.hasSameProducts(List.of(
+                    product(1L, "만두 지갑", 10000, 9000, "https://images.test/1.jpg"),
+                    product(2L, "카드지갑", 20000, 18000, null),
+                    product(3L, "가방", 30000, 27000, "https://images.test/1.jpg")))).isTrue();
+        }
+
+        @Test
+        @DisplayName("값이 다른 상품이 있으면 false 를 리턴한다.")
+        void it_returns_false_for_changed_product() throws IOException {
+            CatalogSnapshot snapshot = CatalogSnapshot.write(path, products);
+
+            assertThat(snapshot.hasSameProducts(List.of(
+                    product(1L, "만두 지갑", 10000, 8000, "https://images.test/1.jpg"),
+                    product(2L, "카드지갑", 20000, 18000, null),
+                    product(3L, "가방", 30000, 27000, "https://images.test/1.jpg")))).isFalse();
+        }
+
+        @Test
+        @DisplayName("상품 수가 다르면 false 를 리턴한다.")
+        void it_returns_false_for_different_size() throws IOException {
+            CatalogSnapshot snapshot = CatalogSnapshot.write(path, products);
+
+            assertThat(snapshot.hasSameProducts(List.of(
+                    product(1L, "만두 지갑", 10000, 9000, "https://images.test/1.jpg")))).isFalse();
+        }
+    }
+
+    @Nested
+    @DisplayName("write")
+    class Describe_write {
+        @Test
+        @DisplayName("같은 문자열은 한 번만 저장한다.")
+        void it_stores_repeated_strings_once() throws IOException {
+            CatalogSnapshot.write(path, products);
+            long distinct = Files.size(path);
+
+            CatalogSnapshot.write(path, List.of(
+                    product(3L, "가방", 30000, 27000, "https://images.test/3.jpg"),
+                    product(1L, "만두 지갑", 10000, 9000, "https://images.test/1.jpg"),
+                    product(2L, "카드지갑", 20000, 18000, null)));
+
+            assertThat(Files.size(path) - distinct)
+                    .isEqualTo(Integer.BYTES + "https://images.test/3.jpg".length());
+        }
+    }
+
+    @Nested
+    @DisplayName("open")
+    class Describe_open {
+        @Test
+        @DisplayName("스냅숏 형식이 아닌 파일이 주어지면 예외가 발생한다.")
+        void it_throws_exception() throws IOException {
+            Files.write(path, "not a snapshot".getBytes());
+
+            assertThrows(IOException.class, () -> CatalogSnapshot.open(path));
+        }
+    }
+}
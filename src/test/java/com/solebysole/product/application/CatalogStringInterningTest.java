@@ -0,0 +1,65 @@
+package com.solebysole.product.application;
+
+import com.solebysole.product.domain.Keyword;
+import com.solebysole.product.domain.Option;
+import com.solebysole.product.dto.ProductDetailData;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManagerFactory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Transactional
+@DisplayName("상품 카탈로그 문자열")
+class CatalogStringInterningTest {
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @BeforeEach
+    void setUp() {
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    private Option option(ProductDetailData product, String name) {
+        return product.getOptions().stream()
+                .filter(option -> option.getName().equals(name))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private Keyword keyword(ProductDetailData product, String name) {
+        return product.getKeywords().stream()
+                .filter(keyword -> keyword.getName().equals(name))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    @Nested
+    @DisplayName("getProduct")
+    class Describe_getProduct {
+        @Test
+        @DisplayName("여러 상품의 같은 옵션, 키워드 이름은 같은 문자열을 참조한다.")
+        void it_shares_repeated_names() {
+            ProductDetailData first = productService.getProduct(1L);
+            ProductDetailData second = productService.getProduct(2L);
+
+            assertThat(option(second, "색상").getName())
+                    .isSameAs(option(first, "색상").getName());
+            assertThat(option(second, "색상").getChildren().get(0).getName())
+                    .isSameAs(option(first, "색상").getChildren().get(0).getName());
+            assertThat(keyword(second, "지갑").getName())
+                    .isSameAs(keyword(first, "지갑").getName());
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.solebysole.product.application;
+
+import com.solebysole.product.domain.Category;
+import com.solebysole.product.domain.Image;
+import com.solebysole.product.dto.ProductCreateData;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:image-asset-test;DB_CLOSE_DELAY=-1",
+        "spring.datasource.hikari.maximum-pool-size=2",
+        "spring.datasource.hikari.connection-timeout=5000"
+})
+@DisplayName("ImageAssetRegistry 클래스")
+class ImageAssetRegistryTest {
+
+    private static final int REQUESTS = 8;
+
+    private static final String FIRST_URL = "https://images.test/shared-1.jpg";
+
+    private static final String SECOND_URL = "https://images.test/shared-2.jpg";
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newFixedThreadPool(REQUESTS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    private ProductCreateData productCreateData(int index) {
+        List<Image> images = index % 2 == 0
+                ? List.of(new Image(FIRST_URL), new Image(SECOND_URL))
+                : List.of(new Image(SECOND_URL), new Image(FIRST_URL));
+
+        return ProductCreateData.builder()
+                .name("동시 지갑" + index)
+                .originalPrice(20000)
+                .discountedPrice(18000)
+                .description("같은 이미지를 쓰는 지갑입니다.")
+                .category(Category.WALLET)
+                .keywords(new HashSet<>())
+                .images(new ArrayList<>(images))
+                .options(new ArrayList<>())
+                .build();
+    }
+
+    private long assetCount(String url) {
+        return jdbcTemplate.queryForObject(
+                "select count(*) from image_asset where url = ?", Long.class, url);
+    }
+
+    @Nested
+    @DisplayName("같은 새 주소로 동시에 상품을 생성한다면")
+    class Context_with_concurrent_new_url {
+        @Test
+        @DisplayName("요청마다 커넥션을 하나씩만 쓰면서 모든 상품을 생성하고, 주소마다 이미지 파일을 하나만 저장한다.")
+        void it_stores_each_url_once() throws Exception {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<Long>> futures = IntStream.range(0, REQUESTS)
+                    .mapToObj(i -> executor.submit((Callable<Long>) () -> {
+                        start.await();
+                        return productService.createProduct(productCreateData(i));
+                    }))
+                    .collect(Collectors.toList());
+            start.countDown();
+
+            List<Long> productIds = new ArrayList<>();
+            for (Future<Long> future : futures) {
+                productIds.add(future.get());
+            }
+
+            assertThat(productIds).doesNotContainNull().doesNotHaveDuplicates();
+            assertThat(assetCount(FIRST_URL)).isEqualTo(1);
+            assertThat(assetCount(SECOND_URL)).isEqualTo(1);
+            assertThat(jdbcTemplate.queryForObject(
+                    "select count(distinct i.image_asset_id) from image i "
+                            + "join image_asset a on a.image_asset_id = i.image_asset_id "
+                            + "where a.url in (?, ?)", Long.class, FIRST_URL, SECOND_URL))
+                    .isEqualTo(2);
+        }
+    }
+
+}
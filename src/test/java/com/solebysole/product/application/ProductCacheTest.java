@@ -0,0 +1,90 @@
+package com.solebysole.product.application;
+
+import com.solebysole.common.config.ProductCacheConfig;
+import com.solebysole.product.domain.Product;
+import com.solebysole.product.infra.ProductCacheEndpoint;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import javax.persistence.EntityManagerFactory;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@DisplayName("ProductCache 클래스")
+class ProductCacheTest {
+
+    private static final Long PRODUCT_ID = 1L;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ProductCache productCache;
+
+    @Autowired
+    private ProductCacheEndpoint productCacheEndpoint;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        productCache.evict(PRODUCT_ID);
+        productService.getProduct(PRODUCT_ID);
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("상품 애그리거트만 캐시한다.")
+    void it_caches_only_the_product_aggregate() {
+        assertThat(statistics.getSecondLevelCacheRegionNames())
+                .containsExactlyInAnyOrderElementsOf(
+                        Stream.concat(ProductCacheConfig.ENTITY_REGIONS.stream(),
+                                ProductCacheConfig.COLLECTION_REGIONS.stream())
+                                .collect(Collectors.toList()));
+    }
+
+    @Nested
+    @DisplayName("캐시된 상품을 다시 조회하면")
+    class Context_with_cached_product {
+        @Test
+        @DisplayName("데이터베이스를 조회하지 않는다.")
+        void it_reads_from_cache() {
+            productService.getProduct(PRODUCT_ID);
+
+            assertThat(statistics.getEntityStatistics(Product.class.getName()).getLoadCount())
+                    .isZero();
+            assertThat(statistics.getDomainDataRegionStatistics(Product.class.getName())
+                    .getHitCount()).isPositive();
+            assertThat(productCacheEndpoint.regions().get(Product.class.getName()).get("hits"))
+                    .isPositive();
+        }
+    }
+
+    @Nested
+    @DisplayName("상품을 캐시에서 지운 뒤 조회하면")
+    class Context_with_evicted_product {
+        @Test
+        @DisplayName("데이터베이스에서 다시 읽어온다.")
+        void it_reads_from_database() {
+            productCache.evict(PRODUCT_ID);
+
+            productService.getProduct(PRODUCT_ID);
+
+            assertThat(statistics.getEntityStatistics(Product.class.getName()).getLoadCount())
+                    .isPositive();
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.solebysole.product.application;
+
+import com.solebysole.product.domain.ProductDescription;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import javax.persistence.EntityManagerFactory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@DisplayName("상품 설명 읽기")
+class ProductDescriptionLoadingTest {
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        entityManagerFactory.getCache().evictAll();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    private long descriptionLoads() {
+        return statistics.getEntityStatistics(ProductDescription.class.getName()).getLoadCount();
+    }
+
+    @Nested
+    @DisplayName("getProducts")
+    class Describe_getProducts {
+        @Test
+        @DisplayName("상품 설명을 읽지 않는다.")
+        void it_does_not_load_descriptions() {
+            assertThat(productService.getProducts()).isNotEmpty();
+
+            assertThat(descriptionLoads()).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("getProduct")
+    class Describe_getProduct {
+        @Test
+        @DisplayName("상품 설명을 읽는다.")
+        void it_loads_description() {
+            assertThat(productService.getProduct(1L).getDescription()).isNotBlank();
+
+            assertThat(descriptionLoads()).isEqualTo(1);
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package com.solebysole.product.application;
+
+import com.solebysole.product.domain.Image;
+import com.solebysole.product.domain.Product;
+import com.solebysole.product.domain.ProductDescription;
+import com.solebysole.product.dto.ProductData;
+import com.solebysole.product.dto.ProductDetailData;
+import com.solebysole.product.dto.ProductField;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManagerFactory;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@DisplayName("상품 필드 고르기")
+class ProductFieldSelectionTest {
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        entityManagerFactory.getCache().evictAll();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    private long loads(Class<?> entityClass) {
+        return statistics.getEntityStatistics(entityClass.getName()).getLoadCount();
+    }
+
+    @Nested
+    @DisplayName("getProducts")
+    class Describe_getProducts {
+        @Test
+        @DisplayName("이미지 주소를 고르지 않으면 상품과 이미지를 읽지 않고 고른 필드만 리턴한다.")
+        void it_skips_images() {
+            List<ProductData> products = productService.getProducts(
+                    Set.of(ProductField.ID, ProductField.NAME, ProductField.DISCOUNTED_PRICE));
+
+            assertThat(products).isNotEmpty().allSatisfy(product -> {
+                assertThat(product.getId()).isNotNull();
+                assertThat(product.getName()).isNotNull();
+                assertThat(product.getDiscountedPrice()).isNotNull();
+                assertThat(product.getOriginalPrice()).isNull();
+                assertThat(product.getImageUrl()).isNull();
+            });
+            assertThat(loads(Product.class)).isZero();
+            assertThat(loads(Image.class)).isZero();
+        }
+
+        @Test
+        @DisplayName("이미지 주소를 고르면 이미지 주소를 함께 리턴한다.")
+        void it_returns_image_urls() {
+            List<ProductData> products = productService.getProducts(
+                    Set.of(ProductField.ID, ProductField.IMAGE_URL));
+
+            assertThat(products)
+                    .extracting(ProductData::getImageUrl)
+                    .containsExactlyElementsOf(productService.getProducts().stream()
+                            .map(ProductData::getImageUrl)
+                            .collect(Collectors.toList()));
+        }
+    }
+
+    @Nested
+    @DisplayName("이미지가 없는 상품이 있다면")
+    @Transactional
+    class Context_with_product_without_images {
+        private static final long PRODUCT_ID = 9201L;
+
+        @BeforeEach
+        void setUp() {
+            jdbcTemplate.update("insert into product (product_id, category, discounted_price, name, original_price)"
+                    + " values (?, 'WALLET', 18000, '이미지 없는 지갑', 20000)", PRODUCT_ID);
+        }
+
+        private List<Long> ids(List<ProductData> products) {
+            return products.stream()
+                    .map(ProductData::getId)
+                    .collect(Collectors.toList());
+        }
+
+        @Test
+        @DisplayName("이미지 주소를 고르는지와 관계없이 같은 상품들을 리턴하고, 이미지 주소는 비워 둔다.")
+        void it_returns_the_same_products() {
+            List<ProductData> withImageUrls = productService.getProducts(
+                    Set.of(ProductField.ID, ProductField.IMAGE_URL));
+
+            assertThat(ids(withImageUrls))
+                    .contains(PRODUCT_ID)
+                    .isEqualTo(ids(productService.getProducts(Set.of(ProductField.ID))))
+                    .isEqualTo(ids(productService.getProducts()));
+            assertThat(withImageUrls)
+                    .filteredOn(product -> product.getId().equals(PRODUCT_ID))
+                    .extracting(ProductData::getImageUrl)
+                    .containsOnlyNulls();
+        }
+    }
+
+    @Nested
+    @DisplayName("getProduct")
+    class Describe_getProduct {
+        @Test
+        @DisplayName("설명과 컬렉션을 고르지 않으면 읽지 않는다.")
+        void it_skips_description_and_collections() {
+            ProductDetailData product = productService.getProduct(1L,
+                    Set.of(ProductField.ID, ProductField.NAME));
+
+            assertThat(product.getName()).isNotNull();
+            assertThat(product.getDescription()).isNull();
+            assertThat(product.getOptions()).isNull();
+            assertThat(loads(ProductDescription.class)).isZero();
+            assertThat(statistics.getCollectionFetchCount()).isZero();
+        }
+    }
+}
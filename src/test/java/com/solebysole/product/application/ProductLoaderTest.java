@@ -0,0 +1,143 @@
+package com.solebysole.product.application;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.solebysole.product.dto.ProductData;
+import com.solebysole.product.dto.ProductDetailData;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import javax.persistence.EntityManagerFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "product.loader.window-millis=200",
+        "product.loader.wait-timeout-millis=5000"
+})
+@DisplayName("ProductLoader 클래스")
+class ProductLoaderTest {
+
+    private static final int REQUESTS = 20;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ProductLoader productLoader;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictAllRegions();
+        executor = Executors.newFixedThreadPool(REQUESTS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    private <T> List<T> concurrently(Request<T> request) throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<T>> futures = IntStream.range(0, REQUESTS)
+                .mapToObj(i -> executor.submit((Callable<T>) () -> {
+                    start.await();
+                    return request.apply(i);
+                }))
+                .collect(Collectors.toList());
+        start.countDown();
+
+        List<T> results = new ArrayList<>();
+        for (Future<T> future : futures) {
+            results.add(future.get());
+        }
+        return results;
+    }
+
+    private long batches(String loader) {
+        return meterRegistry.get("batch.loader.batch.size").tag("loader", loader).summary().count();
+    }
+
+    private double loaded(String loader) {
+        return meterRegistry.get("batch.loader.batch.size").tag("loader", loader).summary().totalAmount();
+    }
+
+    private double fallbacks() {
+        return meterRegistry.get("product.loader.fallbacks").counter().count();
+    }
+
+    interface Request<T> {
+        T apply(int index) throws Exception;
+    }
+
+    @Nested
+    @DisplayName("findDetail")
+    class Describe_findDetail {
+        @Test
+        @DisplayName("동시에 들어온 상세 조회를 한 번에 읽고, 트랜잭션 밖에서도 응답할 수 있는 상세 정보를 리턴한다.")
+        void it_batches_concurrent_lookups() throws Exception {
+            long batchesBefore = batches("product-detail-loader");
+            double loadedBefore = loaded("product-detail-loader");
+            double fallbacksBefore = fallbacks();
+
+            List<ProductDetailData> products = concurrently(i -> productService.getProduct((long) (i % 5 + 1)));
+
+            assertThat(products)
+                    .extracting(ProductDetailData::getId)
+                    .containsOnly(1L, 2L, 3L, 4L, 5L);
+            for (ProductDetailData product : products) {
+                assertThat(objectMapper.writeValueAsString(product)).contains("\"options\"");
+            }
+            assertThat(batches("product-detail-loader") - batchesBefore).isEqualTo(1);
+            assertThat(loaded("product-detail-loader") - loadedBefore).isEqualTo(5);
+            assertThat(fallbacks() - fallbacksBefore).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("findSummaries")
+    class Describe_findSummaries {
+        @Test
+        @DisplayName("동시에 들어온 요약 조회를 한 번의 쿼리로 읽고, 없는 상품은 뺀다.")
+        void it_batches_concurrent_lookups() throws Exception {
+            long batchesBefore = batches("product-summary-loader");
+
+            List<Map<Long, ProductData>> summaries = concurrently(i ->
+                    productLoader.findSummaries(List.of((long) (i % 5 + 1), 9999L)));
+
+            assertThat(summaries).allSatisfy(summary -> {
+                assertThat(summary).hasSize(1);
+                assertThat(summary.values()).allSatisfy(product ->
+                        assertThat(product.getDiscountedPrice()).isNotNull());
+            });
+            assertThat(batches("product-summary-loader") - batchesBefore).isEqualTo(1);
+        }
+    }
+}
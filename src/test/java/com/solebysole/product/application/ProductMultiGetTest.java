@@ -0,0 +1,105 @@
+package com.solebysole.product.application;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.solebysole.product.domain.Product;
+import com.solebysole.product.dto.ProductDetailData;
+import com.solebysole.product.dto.ProductDetailListData;
+import com.solebysole.product.dto.ProductField;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManagerFactory;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@DisplayName("여러 상품 조회")
+class ProductMultiGetTest {
+
+    private static final Set<ProductField> FIELDS = Set.of(ProductField.ID, ProductField.NAME);
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        entityManagerFactory.getCache().evictAll();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    private long statementsToRespond(List<Long> ids, Set<ProductField> fields) {
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictAllRegions();
+        statistics.clear();
+        new TransactionTemplate(transactionManager).execute(status -> {
+            try {
+                return objectMapper.writeValueAsString(productService.getProductsByIds(ids, fields));
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        return statistics.getPrepareStatementCount();
+    }
+
+    @Nested
+    @DisplayName("getProductsByIds")
+    class Describe_getProductsByIds {
+        @Test
+        @DisplayName("한 번의 쿼리로 요청한 순서대로 상품을 리턴하고, 찾을 수 없는 id를 따로 리턴한다.")
+        void it_resolves_ids_with_one_query() {
+            ProductDetailListData result = productService.getProductsByIds(List.of(3L, 9999L, 1L, 2L), FIELDS);
+
+            assertThat(result.getProducts())
+                    .extracting(ProductDetailData::getId)
+                    .containsExactly(3L, 1L, 2L);
+            assertThat(result.getMissingIds()).containsExactly(9999L);
+            assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("캐시에 있는 상품은 쿼리 없이 캐시에서 읽는다.")
+        void it_reads_cached_products_from_cache() {
+            productService.getProductsByIds(List.of(1L, 2L), FIELDS);
+            statistics.clear();
+
+            ProductDetailListData result = productService.getProductsByIds(List.of(2L, 1L), FIELDS);
+
+            assertThat(result.getProducts())
+                    .extracting(ProductDetailData::getId)
+                    .containsExactly(2L, 1L);
+            assertThat(statistics.getPrepareStatementCount()).isZero();
+            assertThat(statistics.getEntityStatistics(Product.class.getName()).getCacheHitCount())
+                    .isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("모든 필드를 응답해도 쿼리 수가 상품 수에 따라 늘지 않는다.")
+        void it_does_not_query_per_product() {
+            long one = statementsToRespond(List.of(1L), ProductField.DETAIL);
+            long five = statementsToRespond(List.of(1L, 2L, 3L, 4L, 5L), ProductField.DETAIL);
+
+            assertThat(five).isEqualTo(one);
+        }
+    }
+}
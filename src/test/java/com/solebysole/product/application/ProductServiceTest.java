@@ -2,31 +2,52 @@ package com.solebysole.product.application;
 
 import com.solebysole.product.domain.Category;
 import com.solebysole.product.domain.Image;
+import com.solebysole.product.domain.ImageAsset;
+import com.solebysole.product.domain.ImageAssetRepository;
 import com.solebysole.product.domain.Keyword;
 import com.solebysole.product.domain.Product;
+import com.solebysole.product.domain.ProductChangedEvent;
 import com.solebysole.product.domain.ProductRepository;
+import com.solebysole.product.domain.ProductSummary;
 import com.solebysole.product.dto.ProductCreateData;
+import com.solebysole.product.dto.ProductData;
 import com.solebysole.product.dto.ProductDetailData;
+import com.solebysole.product.dto.ProductDetailListData;
+import com.solebysole.product.dto.ProductField;
 import com.solebysole.common.errors.ProductNameDuplicationException;
 import com.solebysole.common.errors.ProductNotFoundException;
+import com.solebysole.common.errors.TooManyProductIdsException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
 
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 @DisplayName("ProductService 클래스")
@@ -35,6 +56,12 @@ class ProductServiceTest {
     private ProductService productService;
 
     private ProductRepository productRepository = mock(ProductRepository.class);
+    private ImageAssetRepository imageAssetRepository = mock(ImageAssetRepository.class);
+    private CatalogSnapshotStore catalogSnapshotStore = mock(CatalogSnapshotStore.class);
+    private ProductCache productCache = mock(ProductCache.class);
+    private PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+    private ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+    private ProductNameFilter productNameFilter;
 
     private List<Product> products;
     private Product product1;
@@ -48,7 +75,13 @@ class ProductServiceTest {
 
     @BeforeEach
     void setUp() {
-        productService = new ProductService(productRepository);
+        productNameFilter = new ProductNameFilter(productRepository, 1000, 0.01);
+        productService = new ProductService(productRepository,
+                new ImageAssetRegistry(imageAssetRepository, transactionManager),
+                productNameFilter, catalogSnapshotStore, productCache,
+                new ProductLoader(productRepository, productCache, transactionManager,
+                        new SimpleMeterRegistry(), Optional.empty(), false, 2, 50, 1, 100),
+                eventPublisher, transactionManager);
 
         product1 = createProduct("상품1");
         product2 = createProduct("상품2");
@@ -78,6 +111,32 @@ class ProductServiceTest {
             }
         }
 
+        @Nested
+        @DisplayName("카탈로그 스냅숏을 쓸 수 있다면")
+        class Context_with_catalog_snapshot {
+            @TempDir
+            Path directory;
+
+            @BeforeEach
+            void setUp() throws IOException {
+                CatalogSnapshot snapshot = CatalogSnapshot.write(directory.resolve("catalog.snapshot"),
+                        List.of(ProductData.builder().id(1L).name("상품1").imageUrl("url1").build()));
+
+                given(catalogSnapshotStore.current())
+                        .willReturn(Optional.of(snapshot));
+            }
+
+            @Test
+            @DisplayName("저장소를 읽지 않고 스냅숏의 상품 목록을 리턴한다.")
+            void it_returns_products_from_snapshot() {
+                assertThat(productService.getProducts())
+                        .extracting(ProductData::getName)
+                        .containsExactly("상품1");
+
+                verify(productRepository, never()).findAll();
+            }
+        }
+
         @Nested
         @DisplayName("저장된 상품이 없다면")
         class Context_without_products {
@@ -95,6 +154,66 @@ class ProductServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("forEachProduct")
+    class Describe_forEachProduct {
+        @Nested
+        @DisplayName("카탈로그 스냅숏을 쓸 수 없다면")
+        class Context_without_catalog_snapshot {
+            @BeforeEach
+            void setUp() {
+                ProductSummary summary = mock(ProductSummary.class);
+                given(summary.getId()).willReturn(1L);
+                given(summary.getName()).willReturn("상품1");
+
+                given(productRepository.streamAllSummaries())
+                        .willReturn(Stream.of(summary));
+            }
+
+            @Test
+            @DisplayName("저장소에서 읽은 상품 요약 정보를 하나씩 넘긴다.")
+            void it_passes_products_from_repository() {
+                List<ProductData> passed = new ArrayList<>();
+
+                productService.forEachProduct(passed::add);
+
+                assertThat(passed)
+                        .extracting(ProductData::getName)
+                        .containsExactly("상품1");
+                verify(productRepository, never()).findAll();
+            }
+        }
+
+        @Nested
+        @DisplayName("카탈로그 스냅숏을 쓸 수 있다면")
+        class Context_with_catalog_snapshot {
+            @TempDir
+            Path directory;
+
+            @BeforeEach
+            void setUp() throws IOException {
+                CatalogSnapshot snapshot = CatalogSnapshot.write(directory.resolve("catalog.snapshot"),
+                        List.of(ProductData.builder().id(1L).name("스냅숏 상품").imageUrl("url1").build()));
+
+                given(catalogSnapshotStore.current())
+                        .willReturn(Optional.of(snapshot));
+            }
+
+            @Test
+            @DisplayName("저장소를 읽지 않고 스냅숏의 상품을 하나씩 넘긴다.")
+            void it_passes_products_from_snapshot() {
+                List<ProductData> passed = new ArrayList<>();
+
+                productService.forEachProduct(passed::add);
+
+                assertThat(passed)
+                        .extracting(ProductData::getName)
+                        .containsExactly("스냅숏 상품");
+                verify(productRepository, never()).streamAllSummaries();
+            }
+        }
+    }
+
     @Nested
     @DisplayName("getProduct")
     class Describe_getProduct {
@@ -151,6 +270,74 @@ class ProductServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("getProductsByIds")
+    class Describe_getProductsByIds {
+        private final Set<ProductField> fields = Set.of(ProductField.ID, ProductField.NAME);
+
+        @Nested
+        @DisplayName("존재하는 id와 존재하지 않는 id가 섞여 주어진다면")
+        class Context_with_existing_and_not_existing_ids {
+            @BeforeEach
+            void setUp() {
+                given(productRepository.findAllByIdIn(List.of(3L, notExistingId, 1L)))
+                        .willReturn(List.of(createProduct(1L, "상품1"), createProduct(3L, "상품3")));
+            }
+
+            @Test
+            @DisplayName("찾은 상품을 요청한 순서대로 리턴하고, 찾을 수 없는 id를 따로 리턴한다.")
+            void it_returns_products_in_requested_order() {
+                ProductDetailListData result = productService.getProductsByIds(
+                        List.of(3L, notExistingId, 1L, 3L), fields);
+
+                assertThat(result.getProducts())
+                        .extracting(ProductDetailData::getName)
+                        .containsExactly("상품3", "상품1");
+                assertThat(result.getMissingIds()).containsExactly(notExistingId);
+            }
+        }
+
+        @Nested
+        @DisplayName("캐시에 있는 상품의 id가 주어진다면")
+        class Context_with_cached_id {
+            @BeforeEach
+            void setUp() {
+                given(productCache.contains(1L)).willReturn(true);
+                given(productRepository.findById(1L))
+                        .willReturn(Optional.of(createProduct(1L, "상품1")));
+                given(productRepository.findAllByIdIn(List.of(2L)))
+                        .willReturn(List.of(createProduct(2L, "상품2")));
+            }
+
+            @Test
+            @DisplayName("캐시에 있는 상품은 캐시에서, 나머지는 한 번에 읽는다.")
+            void it_queries_only_uncached_ids() {
+                ProductDetailListData result = productService.getProductsByIds(List.of(2L, 1L), fields);
+
+                assertThat(result.getProducts())
+                        .extracting(ProductDetailData::getName)
+                        .containsExactly("상품2", "상품1");
+                verify(productRepository).findAllByIdIn(List.of(2L));
+            }
+        }
+
+        @Nested
+        @DisplayName("최대 수보다 많은 id가 주어진다면")
+        class Context_with_too_many_ids {
+            @Test
+            @DisplayName("예외가 발생한다.")
+            void it_throws_exception() {
+                List<Long> ids = LongStream.rangeClosed(1, ProductService.MAX_IDS_PER_REQUEST + 1)
+                        .boxed()
+                        .collect(Collectors.toList());
+
+                assertThrows(TooManyProductIdsException.class,
+                        () -> productService.getProductsByIds(ids, fields));
+                verify(productRepository, never()).findAllByIdIn(any());
+            }
+        }
+    }
+
     @Nested
     @DisplayName("createProduct")
     class Describe_createProduct {
@@ -159,7 +346,7 @@ class ProductServiceTest {
         class Context_with_product {
             @BeforeEach
             void setUp() {
-                given(productRepository.save(any(Product.class)))
+                given(productRepository.saveAndFlush(any(Product.class)))
                         .will(invocation -> invocation.<Product>getArgument(0));
             }
 
@@ -168,7 +355,49 @@ class ProductServiceTest {
             void it_create_product() {
                 productService.createProduct(productCreateData);
 
-                verify(productRepository).save(any(Product.class));
+                verify(productRepository).saveAndFlush(any(Product.class));
+                verify(eventPublisher).publishEvent(any(ProductChangedEvent.class));
+            }
+
+            @Test
+            @DisplayName("필터에 없는 이름이라면 저장소에서 중복을 확인하지 않는다.")
+            void it_skips_the_duplicate_check() {
+                productService.createProduct(productCreateData);
+
+                verify(productRepository, never()).existsByName(productCreateData.getName());
+                assertThat(productNameFilter.mightExist(productCreateData.getName())).isTrue();
+            }
+        }
+
+        @Nested
+        @DisplayName("이미 저장된 주소의 이미지가 주어진다면")
+        class Context_with_stored_image_url {
+            private final Long storedAssetId = 1L;
+            private final ImageAsset storedAsset = mock(ImageAsset.class);
+            private final ImageAsset createdAsset = new ImageAsset("url2");
+
+            @BeforeEach
+            void setUp() {
+                given(storedAsset.getId()).willReturn(storedAssetId);
+                given(storedAsset.getUrl()).willReturn("url1");
+                given(imageAssetRepository.findAllByUrlIn(Set.of("url1", "url2")))
+                        .willReturn(List.of(storedAsset));
+                given(imageAssetRepository.getOne(any())).willReturn(createdAsset);
+                given(imageAssetRepository.getOne(storedAssetId)).willReturn(storedAsset);
+                given(productRepository.saveAndFlush(any(Product.class)))
+                        .will(invocation -> invocation.<Product>getArgument(0));
+            }
+
+            @Test
+            @DisplayName("저장된 이미지 파일을 참조하고, 새 주소만 새로 만든다.")
+            void it_shares_the_stored_image_asset() {
+                productService.createProduct(productCreateData);
+
+                List<Image> images = productCreateData.getImages();
+                assertThat(images.get(0).getAsset()).isSameAs(storedAsset);
+                assertThat(images.get(1).getAsset()).isSameAs(createdAsset);
+                verify(imageAssetRepository).saveAll(argThat(assets ->
+                        assets.iterator().next().getUrl().equals("url2")));
             }
         }
 
@@ -177,6 +406,9 @@ class ProductServiceTest {
         class Context_with_duplicated_product_name {
             @BeforeEach
             void setUp() {
+                given(productRepository.findAllNames())
+                        .willReturn(List.of(duplicatedProductCreateData.getName()));
+                productNameFilter.load();
                 given(productRepository.existsByName(duplicatedProductCreateData.getName()))
                         .willReturn(true);
             }
@@ -188,6 +420,25 @@ class ProductServiceTest {
                         () -> productService.createProduct(productCreateData));
             }
         }
+
+        @Nested
+        @DisplayName("다른 인스턴스에서 같은 이름의 상품이 먼저 생성되었다면")
+        class Context_with_concurrently_created_product_name {
+            @BeforeEach
+            void setUp() {
+                given(productRepository.saveAndFlush(any(Product.class)))
+                        .willThrow(new DataIntegrityViolationException("could not execute statement",
+                                new ConstraintViolationException("could not execute statement", null,
+                                        "PUBLIC.UK_PRODUCT_NAME_INDEX_1")));
+            }
+
+            @Test
+            @DisplayName("'중복된 상품 이름입니다.' 라는 예외가 발생한다.")
+            void it_throws_exception() {
+                assertThrows(ProductNameDuplicationException.class,
+                        () -> productService.createProduct(productCreateData));
+            }
+        }
     }
 
     private ProductCreateData createProductCreateData(String name) {
@@ -212,6 +463,17 @@ class ProductServiceTest {
         return productCreateData;
     }
 
+    private Product createProduct(Long id, String name) {
+        return Product.builder()
+                .id(id)
+                .name(name)
+                .originalPrice(50000)
+                .discountedPrice(40000)
+                .description("가죽 지갑입니다.")
+                .category(Category.WALLET)
+                .build();
+    }
+
     private Product createProduct(String name) {
         Product product = Product.builder()
                 .name(name)
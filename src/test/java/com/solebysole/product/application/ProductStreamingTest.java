@@ -0,0 +1,65 @@
+package com.solebysole.product.application;
+
+import com.solebysole.product.domain.Product;
+import com.solebysole.product.dto.ProductData;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import javax.persistence.EntityManagerFactory;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@DisplayName("상품 목록 스트리밍")
+class ProductStreamingTest {
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        entityManagerFactory.getCache().evictAll();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Nested
+    @DisplayName("forEachProduct")
+    class Describe_forEachProduct {
+        @Test
+        @DisplayName("getProducts 와 같은 상품 목록을 넘긴다.")
+        void it_passes_the_same_products() {
+            List<ProductData> streamed = new ArrayList<>();
+
+            productService.forEachProduct(streamed::add);
+
+            assertThat(streamed)
+                    .usingRecursiveFieldByFieldElementComparator()
+                    .containsExactlyElementsOf(productService.getProducts());
+        }
+
+        @Test
+        @DisplayName("상품 엔티티를 만들지 않는다.")
+        void it_does_not_load_product_entities() {
+            List<ProductData> streamed = new ArrayList<>();
+
+            productService.forEachProduct(streamed::add);
+
+            assertThat(streamed).isNotEmpty();
+            assertThat(statistics.getEntityStatistics(Product.class.getName()).getLoadCount()).isZero();
+        }
+    }
+}
@@ -1,10 +1,12 @@
 package com.solebysole.product.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.solebysole.authentication.UserPrincipal;
 import com.solebysole.authentication.service.AuthenticationService;
 import com.solebysole.common.RestDocsConfiguration;
 import com.solebysole.common.errors.ProductNameDuplicationException;
 import com.solebysole.common.errors.ProductNotFoundException;
+import com.solebysole.common.errors.TooManyProductIdsException;
 import com.solebysole.docs.ProductDocumentation;
 import com.solebysole.product.application.ProductService;
 import com.solebysole.product.domain.Category;
@@ -14,6 +16,8 @@ import com.solebysole.product.domain.Option;
 import com.solebysole.product.dto.ProductCreateData;
 import com.solebysole.product.dto.ProductData;
 import com.solebysole.product.dto.ProductDetailData;
+import com.solebysole.product.dto.ProductDetailListData;
+import com.solebysole.product.dto.ProductField;
 import com.solebysole.user.domain.Role;
 import com.solebysole.user.domain.User;
 import org.junit.jupiter.api.BeforeEach;
@@ -27,19 +31,24 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.function.Consumer;
 
 import static org.hamcrest.Matchers.hasSize;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
 import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.get;
 import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @DisplayName("ProductController 클래스")
@@ -107,10 +116,8 @@ class ProductControllerTest {
                 .role(Role.ROLE_ADMIN)
                 .build();
 
-        given(authenticationService.parseToken(VALID_TOKEN))
-                .willReturn(existingUserId);
-        given(authenticationService.loadUserById(existingUserId))
-                .willReturn(adminUser);
+        given(authenticationService.authenticate(VALID_TOKEN))
+                .willReturn(UserPrincipal.of(adminUser));
     }
 
     @Nested
@@ -159,6 +166,36 @@ class ProductControllerTest {
             }
         }
 
+        @Nested
+        @DisplayName("stream=true 가 주어진다면")
+        class Context_with_stream {
+            @BeforeEach
+            void setUp() {
+                productDataList = List.of(productData1, productData2);
+
+                willAnswer(invocation -> {
+                    Consumer<ProductData> action = invocation.getArgument(0);
+                    productDataList.forEach(action);
+                    return null;
+                }).given(productService).forEachProduct(any());
+            }
+
+            @Test
+            @DisplayName("모든 상품 목록을 읽는 대로 쓰고 상태코드 200 OK 를 응답한다.")
+            void it_streams_all_product_data() throws Exception {
+                MvcResult result = mockMvc.perform(get("/api/products")
+                        .param("stream", "true"))
+                        .andExpect(request().asyncStarted())
+                        .andReturn();
+
+                mockMvc.perform(asyncDispatch(result))
+                        .andExpect(status().isOk())
+                        .andExpect(jsonPath("$", hasSize(2)))
+                        .andExpect(jsonPath("$[1].name").value("지갑2"))
+                        .andDo(ProductDocumentation.streamProducts());
+            }
+        }
+
         @Nested
         @DisplayName("존재하는 상품 id가 주어진다면")
         class Context_with_existing_product_id {
@@ -203,6 +240,127 @@ class ProductControllerTest {
                         .andExpect(status().isNotFound());
             }
         }
+
+        @Nested
+        @DisplayName("상품 목록에서 고를 필드가 주어진다면")
+        class Context_with_listing_fields {
+            private final Set<ProductField> fields =
+                    Set.of(ProductField.ID, ProductField.NAME, ProductField.DISCOUNTED_PRICE);
+
+            @BeforeEach
+            void setUp() {
+                given(productService.getProducts(fields))
+                        .willReturn(List.of(productData1.select(fields), productData2.select(fields)));
+            }
+
+            @Test
+            @DisplayName("고른 필드만 담은 상품 목록과 상태코드 200 OK 를 응답한다.")
+            void it_responds_selected_fields() throws Exception {
+                mockMvc.perform(get("/api/products")
+                        .param("fields", "id,name,discountedPrice"))
+                        .andExpect(status().isOk())
+                        .andExpect(jsonPath("$", hasSize(2)))
+                        .andExpect(jsonPath("$[0].name").value("지갑1"))
+                        .andExpect(jsonPath("$[0].originalPrice").doesNotExist())
+                        .andExpect(jsonPath("$[0].imageUrl").doesNotExist())
+                        .andDo(ProductDocumentation.getProductsWithFields());
+            }
+        }
+
+        @Nested
+        @DisplayName("상품 상세 정보에서 고를 필드가 주어진다면")
+        class Context_with_detail_fields {
+            private final Set<ProductField> fields =
+                    Set.of(ProductField.ID, ProductField.NAME, ProductField.OPTIONS);
+
+            @BeforeEach
+            void setUp() {
+                given(productService.getProduct(existingId, fields))
+                        .willReturn(ProductDetailData.builder()
+                                .id(productDetailData.getId())
+                                .name(productDetailData.getName())
+                                .options(productDetailData.getOptions())
+                                .build());
+            }
+
+            @Test
+            @DisplayName("고른 필드만 담은 상품 상세 정보와 상태코드 200 OK 를 응답한다.")
+            void it_responds_selected_fields() throws Exception {
+                mockMvc.perform(get("/api/products/{id}", existingId)
+                        .param("fields", "id,name,options"))
+                        .andExpect(status().isOk())
+                        .andExpect(jsonPath("name").value("만두 지갑"))
+                        .andExpect(jsonPath("options").exists())
+                        .andExpect(jsonPath("description").doesNotExist())
+                        .andExpect(jsonPath("images").doesNotExist())
+                        .andDo(ProductDocumentation.getProductWithFields());
+            }
+        }
+
+        @Nested
+        @DisplayName("여러 상품 id가 주어진다면")
+        class Context_with_product_ids {
+            private final Set<ProductField> fields =
+                    Set.of(ProductField.ID, ProductField.NAME, ProductField.DISCOUNTED_PRICE);
+
+            @BeforeEach
+            void setUp() {
+                given(productService.getProductsByIds(List.of(2L, notExistingId, 1L), fields))
+                        .willReturn(ProductDetailListData.builder()
+                                .products(List.of(
+                                        ProductDetailData.builder().id(2L).name("지갑2").discountedPrice(40000).build(),
+                                        ProductDetailData.builder().id(1L).name("지갑1").discountedPrice(40000).build()))
+                                .missingIds(List.of(notExistingId))
+                                .build());
+            }
+
+            @Test
+            @DisplayName("찾은 상품들과 찾을 수 없는 id들, 상태코드 200 OK 를 응답한다.")
+            void it_responds_products_and_missing_ids() throws Exception {
+                mockMvc.perform(get("/api/products")
+                        .param("ids", "2," + notExistingId + ",1")
+                        .param("fields", "id,name,discountedPrice"))
+                        .andExpect(status().isOk())
+                        .andExpect(jsonPath("products", hasSize(2)))
+                        .andExpect(jsonPath("products[0].name").value("지갑2"))
+                        .andExpect(jsonPath("products[1].name").value("지갑1"))
+                        .andExpect(jsonPath("missingIds[0]").value(notExistingId))
+                        .andDo(ProductDocumentation.getProductsByIds());
+            }
+        }
+
+        @Nested
+        @DisplayName("조회할 수 있는 수보다 많은 상품 id가 주어진다면")
+        class Context_with_too_many_product_ids {
+            @BeforeEach
+            void setUp() {
+                given(productService.getProductsByIds(any(), any()))
+                        .willThrow(new TooManyProductIdsException(101, 100));
+            }
+
+            @Test
+            @DisplayName("상태코드 400 Bad Request 를 응답한다.")
+            void it_responds_status_code_400() throws Exception {
+                mockMvc.perform(get("/api/products")
+                        .param("ids", "1,2"))
+                        .andExpect(status().isBadRequest());
+            }
+        }
+
+        @Nested
+        @DisplayName("고를 수 없는 필드가 주어진다면")
+        class Context_with_invalid_fields {
+            @Test
+            @DisplayName("상태코드 400 Bad Request 를 응답한다.")
+            void it_responds_status_code_400() throws Exception {
+                mockMvc.perform(get("/api/products")
+                        .param("fields", "id,description"))
+                        .andExpect(status().isBadRequest());
+                mockMvc.perform(get("/api/products/{id}", existingId)
+                        .param("fields", "price"))
+                        .andExpect(status().isBadRequest());
+            }
+        }
     }
 
     @Nested
@@ -269,8 +427,8 @@ class ProductControllerTest {
         class Context_with_not_admin_user {
             @BeforeEach
             void setUp() {
-                given(authenticationService.loadUserById(existingUserId))
-                        .willReturn(user);
+                given(authenticationService.authenticate(VALID_TOKEN))
+                        .willReturn(UserPrincipal.of(user));
             }
 
             @Test
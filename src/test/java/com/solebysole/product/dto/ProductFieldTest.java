@@ -0,0 +1,64 @@
+package com.solebysole.product.dto;
+
+import com.solebysole.common.errors.InvalidProductFieldException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("ProductField 열거형")
+class ProductFieldTest {
+
+    @Nested
+    @DisplayName("parse")
+    class Describe_parse {
+        @Nested
+        @DisplayName("고를 수 있는 필드 이름들이 주어진다면")
+        class Context_with_allowed_fields {
+            @Test
+            @DisplayName("공백을 무시하고 필드 집합을 리턴한다.")
+            void it_returns_fields() {
+                assertThat(ProductField.parse("id, name,discountedPrice", ProductField.LISTING))
+                        .containsExactlyInAnyOrder(
+                                ProductField.ID, ProductField.NAME, ProductField.DISCOUNTED_PRICE);
+            }
+        }
+
+        @Nested
+        @DisplayName("없는 필드 이름이 주어진다면")
+        class Context_with_unknown_field {
+            @Test
+            @DisplayName("'고를 수 없는 상품 필드입니다.' 라는 예외가 발생한다.")
+            void it_throws_exception() {
+                assertThrows(InvalidProductFieldException.class,
+                        () -> ProductField.parse("id,price", ProductField.LISTING));
+            }
+        }
+
+        @Nested
+        @DisplayName("다른 응답의 필드 이름이 주어진다면")
+        class Context_with_field_of_other_response {
+            @Test
+            @DisplayName("'고를 수 없는 상품 필드입니다.' 라는 예외가 발생한다.")
+            void it_throws_exception() {
+                assertThrows(InvalidProductFieldException.class,
+                        () -> ProductField.parse("id,description", ProductField.LISTING));
+                assertThrows(InvalidProductFieldException.class,
+                        () -> ProductField.parse("id,imageUrl", ProductField.DETAIL));
+            }
+        }
+
+        @Nested
+        @DisplayName("필드 이름이 없다면")
+        class Context_without_field {
+            @Test
+            @DisplayName("'고를 수 없는 상품 필드입니다.' 라는 예외가 발생한다.")
+            void it_throws_exception() {
+                assertThrows(InvalidProductFieldException.class,
+                        () -> ProductField.parse(" , ", ProductField.DETAIL));
+            }
+        }
+    }
+}
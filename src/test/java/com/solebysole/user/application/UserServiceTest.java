@@ -1,23 +1,35 @@
 package com.solebysole.user.application;
 
 import com.solebysole.common.errors.UserEmailDuplicationException;
+import com.solebysole.common.errors.UserNotFoundException;
+import com.solebysole.mail.application.MailOutbox;
 import com.solebysole.user.domain.Role;
 import com.solebysole.user.domain.User;
+import com.solebysole.user.domain.UserChangedEvent;
 import com.solebysole.user.domain.UserRepository;
 import com.solebysole.user.dto.UserRegisterData;
 import com.solebysole.user.dto.UserUpdateData;
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.verify;
 
 @DisplayName("UserService 클래스")
@@ -26,6 +38,13 @@ class UserServiceTest {
     private UserService userService;
 
     private UserRepository userRepository = mock(UserRepository.class);
+    private ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+    private MailOutbox mailOutbox = mock(MailOutbox.class);
+    private PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+    private PasswordEncoder passwordEncoder;
+
+    private final Long existingId = 1L;
+    private final Long notExistingId = 1000L;
 
     private UserRegisterData userRegisterData;
     private UserRegisterData duplicateUserRegisterData;
@@ -35,10 +54,10 @@ class UserServiceTest {
 
     @BeforeEach
     void setUp() {
-        PasswordEncoder passwordEncoder = new BCryptPasswordEncoder();
-
-        userService = new UserService(userRepository, passwordEncoder);
+        passwordEncoder = spy(new BCryptPasswordEncoder());
 
+        userService = new UserService(
+                userRepository, passwordEncoder, eventPublisher, mailOutbox, transactionManager);
 
         userRegisterData = UserRegisterData.builder()
                 .email("test@test.com")
@@ -53,7 +72,7 @@ class UserServiceTest {
                 .build();
 
         user = User.builder()
-                .id(1L)
+                .id(existingId)
                 .email("test@test.com")
                 .password("abcd1234")
                 .role(Role.ROLE_USER)
@@ -62,6 +81,9 @@ class UserServiceTest {
         userUpdateData = UserUpdateData.builder()
                 .name("newName")
                 .build();
+
+        given(userRepository.findById(existingId))
+                .willReturn(Optional.of(user));
     }
 
     @Nested
@@ -72,7 +94,7 @@ class UserServiceTest {
         class Context_with_a_valid_user_register_data {
             @BeforeEach
             void setUp() {
-                given(userRepository.save(any(User.class)))
+                given(userRepository.saveAndFlush(any(User.class)))
                         .will(invocation -> invocation.<User>getArgument(0));
             }
 
@@ -81,13 +103,14 @@ class UserServiceTest {
             void it_create_user() {
                 userService.registerUser(userRegisterData);
 
-                verify(userRepository).save(any(User.class));
+                verify(userRepository).saveAndFlush(any(User.class));
+                verify(mailOutbox).enqueueWelcome(any(User.class));
             }
         }
 
         @Nested
-        @DisplayName("중복된 이메일이 주어진다면")
-        class Context_with_the_duplicate_email {
+        @DisplayName("이미 가입된 이메일이 주어진다면")
+        class Context_with_the_existing_email {
             @BeforeEach
             void setUp() {
                 given(userRepository.existsByEmail(duplicateUserRegisterData.getEmail()))
@@ -95,26 +118,91 @@ class UserServiceTest {
             }
 
             @Test
-            @DisplayName("비어있는 상품 목록을 리턴한다.")
+            @DisplayName("비밀번호를 해시하지 않고 '중복된 이메일 입니다.' 라는 예외를 던진다.")
+            void it_throws_exception_before_hashing() {
+                assertThrows(UserEmailDuplicationException.class,
+                        () -> userService.registerUser(duplicateUserRegisterData));
+                verify(passwordEncoder, never()).encode(any());
+                verify(userRepository, never()).saveAndFlush(any(User.class));
+            }
+        }
+
+        @Nested
+        @DisplayName("저장할 때 다른 가입 요청과 이메일이 중복된다면")
+        class Context_with_the_duplicate_email {
+            @BeforeEach
+            void setUp() {
+                given(userRepository.saveAndFlush(any(User.class)))
+                        .willThrow(violationOf("PUBLIC.UK_USER_EMAIL_INDEX_2"));
+            }
+
+            @Test
+            @DisplayName("'중복된 이메일 입니다.' 라는 예외를 던진다.")
             void it_throws_exception() {
                 assertThrows(UserEmailDuplicationException.class,
                         () -> userService.registerUser(duplicateUserRegisterData));
             }
         }
+
+        @Nested
+        @DisplayName("다른 제약 조건을 위반한다면")
+        class Context_with_another_constraint_violation {
+            @BeforeEach
+            void setUp() {
+                given(userRepository.saveAndFlush(any(User.class)))
+                        .willThrow(violationOf("PUBLIC.FK_SOMETHING"));
+            }
+
+            @Test
+            @DisplayName("예외를 그대로 던진다.")
+            void it_rethrows_exception() {
+                assertThrows(DataIntegrityViolationException.class,
+                        () -> userService.registerUser(userRegisterData));
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("getUser")
+    class Describe_getUser {
+        @Nested
+        @DisplayName("존재하는 회원 id가 주어진다면")
+        class Context_with_existing_id {
+            @Test
+            @DisplayName("회원의 정보를 리턴한다.")
+            void it_returns_user() {
+                assertThat(userService.getUser(existingId).getEmail())
+                        .isEqualTo(user.getEmail());
+            }
+        }
+
+        @Nested
+        @DisplayName("존재하지 않는 회원 id가 주어진다면")
+        class Context_with_not_existing_id {
+            @Test
+            @DisplayName("회원을 찾을 수 없다는 예외를 던진다.")
+            void it_throws_exception() {
+                assertThrows(UserNotFoundException.class,
+                        () -> userService.getUser(notExistingId));
+            }
+        }
     }
 
     @Nested
     @DisplayName("updateUser")
     class Describe_updateUser {
         @Nested
-        @DisplayName("회원과 회원 수정 정보가 주어진다면")
+        @DisplayName("회원 id와 회원 수정 정보가 주어진다면")
         class Context_with_valid_user_and_user_update_data {
             @Test
-            @DisplayName("회원을 변경한다.")
+            @DisplayName("회원을 변경하고, 회원이 변경되었음을 알린다.")
             void it_change_user() {
-                userService.updateUser(user, userUpdateData);
+                userService.updateUser(existingId, userUpdateData);
 
+                assertThat(user.getName()).isEqualTo("newName");
                 verify(userRepository).save(any(User.class));
+                verify(eventPublisher).publishEvent(
+                        argThat((UserChangedEvent event) -> event.getUserId().equals(existingId)));
             }
         }
     }
@@ -123,18 +211,25 @@ class UserServiceTest {
     @DisplayName("deleteUser")
     class Describe_deleteUser {
         @Nested
-        @DisplayName("회원이 주어진다면")
+        @DisplayName("회원 id가 주어진다면")
         class Context_with_user {
             @Test
-            @DisplayName("회원을 삭제합니다.")
+            @DisplayName("회원을 삭제하고, 회원이 변경되었음을 알린다.")
             void it_delete_user() {
-                userService.deleteUser(user);
+                userService.deleteUser(existingId);
 
                 assertThat(user.isDeleted()).isTrue();
 
                 verify(userRepository).save(any(User.class));
+                verify(eventPublisher).publishEvent(
+                        argThat((UserChangedEvent event) -> event.getUserId().equals(existingId)));
             }
         }
     }
 
+    private DataIntegrityViolationException violationOf(String constraintName) {
+        return new DataIntegrityViolationException("could not execute statement",
+                new ConstraintViolationException("could not execute statement", null, constraintName));
+    }
+
 }
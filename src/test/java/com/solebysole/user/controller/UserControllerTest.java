@@ -1,6 +1,7 @@
 package com.solebysole.user.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.solebysole.authentication.UserPrincipal;
 import com.solebysole.authentication.service.AuthenticationService;
 import com.solebysole.common.RestDocsConfiguration;
 import com.solebysole.common.errors.InvalidTokenException;
@@ -10,6 +11,7 @@ import com.solebysole.user.application.UserService;
 import com.solebysole.user.domain.Role;
 import com.solebysole.user.domain.User;
 import com.solebysole.user.dto.UserRegisterData;
+import com.solebysole.user.dto.UserResponseData;
 import com.solebysole.user.dto.UserUpdateData;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -89,12 +91,12 @@ class UserControllerTest {
                 .role(Role.ROLE_USER)
                 .build();
 
-        given(authenticationService.parseToken(VALID_TOKEN))
-                .willReturn(1L);
-        given(authenticationService.parseToken(INVALID_TOKEN))
+        given(authenticationService.authenticate(INVALID_TOKEN))
                 .willThrow(new InvalidTokenException(INVALID_TOKEN));
-        given(authenticationService.loadUserById(existingId))
-                .willReturn(user);
+        given(authenticationService.authenticate(VALID_TOKEN))
+                .willReturn(UserPrincipal.of(user));
+        given(userService.getUser(existingId))
+                .willReturn(UserResponseData.of(user));
     }
 
     @Nested
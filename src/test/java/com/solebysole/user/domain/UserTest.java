@@ -73,15 +73,53 @@ class UserTest {
         }
     }
 
+    @Nested
+    @DisplayName("replacePasswordHash")
+    class Describe_replacePasswordHash {
+        @Nested
+        @DisplayName("비밀번호가 그대로라면")
+        class Context_with_unchanged_password {
+            @Test
+            @DisplayName("다시 해시한 값으로 바꾼다.")
+            void it_replaces_hash() {
+                String previousHash = user.getPassword();
+                String rehashed = passwordEncoder.encode(validPassword);
+
+                user.replacePasswordHash(previousHash, rehashed);
+
+                assertThat(user.getPassword()).isEqualTo(rehashed);
+            }
+        }
+
+        @Nested
+        @DisplayName("그 사이에 비밀번호가 변경되었다면")
+        class Context_with_changed_password {
+            @Test
+            @DisplayName("바꾸지 않는다.")
+            void it_keeps_changed_hash() {
+                String previousHash = user.getPassword();
+                String rehashed = passwordEncoder.encode(validPassword);
+                user.changePassword(newPassword, passwordEncoder);
+                String changedHash = user.getPassword();
+
+                user.replacePasswordHash(previousHash, rehashed);
+
+                assertThat(user.getPassword()).isEqualTo(changedHash);
+            }
+        }
+    }
+
     @Nested
     @DisplayName("delete")
     class Describe_delete {
         @Test
-        @DisplayName("삭제되었다고 표시합니다.")
+        @DisplayName("삭제되었다고 표시하고, 토큰 버전을 올립니다.")
         void it_mark_as_deleted() {
             user.delete();
 
             assertThat(user.isDeleted()).isTrue();
+            assertThat(user.getTokenVersion()).isEqualTo(1L);
+            assertThat(user.getTokenVersionUpdatedAt()).isNotNull();
         }
     }
 